@@ -0,0 +1,54 @@
+/**
+ * NoraUi is licensed under the license GNU AFFERO GENERAL PUBLIC LICENSE
+ *
+ * @author Nicolas HALLOUIN
+ * @author Stéphane GRILLON
+ */
+package com.github.noraui.benchmarks;
+
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Method;
+
+import org.aopalliance.intercept.MethodInvocation;
+
+/**
+ * Minimal {@link MethodInvocation} used to drive Guice interceptors without any Guice proxy.
+ */
+public class BenchmarkMethodInvocation implements MethodInvocation {
+
+    private final Object target;
+    private final Method method;
+    private final Object[] arguments;
+
+    public BenchmarkMethodInvocation(Object target, Method method, Object... arguments) {
+        this.target = target;
+        this.method = method;
+        this.arguments = arguments;
+    }
+
+    @Override
+    public Method getMethod() {
+        return method;
+    }
+
+    @Override
+    public Object[] getArguments() {
+        return arguments;
+    }
+
+    @Override
+    public Object proceed() throws Throwable {
+        return method.invoke(target, arguments);
+    }
+
+    @Override
+    public Object getThis() {
+        return target;
+    }
+
+    @Override
+    public AccessibleObject getStaticPart() {
+        return method;
+    }
+
+}
@@ -0,0 +1,28 @@
+/**
+ * NoraUi is licensed under the license GNU AFFERO GENERAL PUBLIC LICENSE
+ *
+ * @author Nicolas HALLOUIN
+ * @author Stéphane GRILLON
+ */
+package com.github.noraui.benchmarks;
+
+import io.cucumber.java.en.Given;
+import io.cucumber.java.fr.Etantdonné;
+
+/**
+ * Glue code used as target of the benchmarks. Methods do nothing so that only the NoraUi overhead is measured.
+ */
+public class BenchmarkSteps {
+
+    @Etantdonné("J'attends {int} seconde(s)(\\?)")
+    @Given("I wait {int} second(s)(\\?)")
+    public void waitSeconds(Integer time) {
+        // nothing to do, only the interception is measured.
+    }
+
+    @Given("I update text {string} with {string}(\\?)")
+    public void updateText(String pageElement, String textOrKey) {
+        // nothing to do, only the interception is measured.
+    }
+
+}
@@ -0,0 +1,101 @@
+/**
+ * NoraUi is licensed under the license GNU AFFERO GENERAL PUBLIC LICENSE
+ *
+ * @author Nicolas HALLOUIN
+ * @author Stéphane GRILLON
+ */
+package com.github.noraui.benchmarks;
+
+import java.security.GeneralSecurityException;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.apache.commons.codec.binary.Base64;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.github.noraui.exception.TechnicalException;
+import com.github.noraui.service.CryptoService;
+import com.github.noraui.service.impl.CryptoServiceImpl;
+
+/**
+ * Compares the decryption of the encrypted parameters of a login flow (each step decrypts the login and the password) by {@link CryptoServiceImpl} with the
+ * previous implementation (new AES key and new Cipher on each call), with and without the decrypted values cache of the scenario.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CryptoServiceBenchmark {
+
+    private static final String CRYPTO_KEY = "my-secret";
+
+    @Param({ "10", "100" })
+    public int steps;
+
+    private CryptoService cryptoService;
+    private String[] credentials;
+
+    @Setup(Level.Trial)
+    public void setUp() throws TechnicalException {
+        cryptoService = new CryptoServiceImpl();
+        credentials = new String[] { cryptoService.encrypt(CRYPTO_KEY, "jenkins"), cryptoService.encrypt(CRYPTO_KEY, "password") };
+    }
+
+    @Benchmark
+    public void loginFlowWithoutCache(Blackhole blackhole) throws GeneralSecurityException {
+        for (int i = 0; i < steps; i++) {
+            for (String encrypted : credentials) {
+                blackhole.consume(decryptWithoutCache(encrypted));
+            }
+        }
+    }
+
+    @Benchmark
+    public void loginFlowWithoutDecryptedCache(Blackhole blackhole) throws TechnicalException {
+        for (int i = 0; i < steps; i++) {
+            for (String encrypted : credentials) {
+                CryptoServiceImpl.clearCache();
+                blackhole.consume(cryptoService.decrypt(CRYPTO_KEY, encrypted));
+            }
+        }
+    }
+
+    @Benchmark
+    public void loginFlow(Blackhole blackhole) throws TechnicalException {
+        CryptoServiceImpl.clearCache();
+        for (int i = 0; i < steps; i++) {
+            for (String encrypted : credentials) {
+                blackhole.consume(cryptoService.decrypt(CRYPTO_KEY, encrypted));
+            }
+        }
+    }
+
+    private String decryptWithoutCache(String encrypted) throws GeneralSecurityException {
+        StringBuilder cryptoKeyBuilder = new StringBuilder();
+        cryptoKeyBuilder.append(CRYPTO_KEY);
+        do {
+            cryptoKeyBuilder.append(CRYPTO_KEY);
+        } while (cryptoKeyBuilder.length() < 16);
+        Cipher cipher = Cipher.getInstance("AES/CBC/PKCS5Padding");
+        cipher.init(Cipher.DECRYPT_MODE, new SecretKeySpec(cryptoKeyBuilder.toString().substring(0, 16).getBytes(), "AES"), new IvParameterSpec(new byte[16]));
+        return new String(cipher.doFinal(Base64.decodeBase64(encrypted.substring(cryptoService.getPrefix().length()))));
+    }
+
+}
@@ -0,0 +1,112 @@
+/**
+ * NoraUi is licensed under the license GNU AFFERO GENERAL PUBLIC LICENSE
+ *
+ * @author Nicolas HALLOUIN
+ * @author Stéphane GRILLON
+ */
+package com.github.noraui.benchmarks;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.noraui.application.steps.CommonSteps;
+import com.github.noraui.application.steps.ExpectSteps;
+import com.github.noraui.application.steps.ScreenSteps;
+import com.github.noraui.application.steps.WaitSteps;
+import com.github.noraui.browser.steps.BrowserSteps;
+import com.github.noraui.cucumber.config.CucumberTypeRegistryConfigurer;
+import com.github.noraui.cucumber.injector.NoraUiInjectorSource;
+import com.github.noraui.gherkin.StepDefinitionIndex;
+import com.github.noraui.service.CucumberExpressionService;
+
+import cucumber.runtime.java.StepDefAnnotation;
+import io.cucumber.cucumberexpressions.Argument;
+import io.cucumber.cucumberexpressions.CucumberExpression;
+import io.cucumber.cucumberexpressions.ParameterTypeRegistry;
+
+/**
+ * Compares the matching of a Gherkin step text by {@link CucumberExpressionService} with the previous implementation (new registry and new expression on each
+ * call), for one expression and for all step definitions of some NoraUi steps classes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CucumberExpressionServiceBenchmark {
+
+    private static final String EXPRESSION = "I wait {int} second(s)(\\?)";
+    private static final String TEXT = "I wait 4 seconds";
+
+    private CucumberExpressionService cucumberExpressionService;
+    private Map<String, Method> cucumberMethods;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        cucumberExpressionService = new NoraUiInjectorSource().getInjector().getInstance(CucumberExpressionService.class);
+        cucumberMethods = new LinkedHashMap<>();
+        for (Class<?> clazz : new Class<?>[] { CommonSteps.class, ExpectSteps.class, ScreenSteps.class, WaitSteps.class, BrowserSteps.class, BenchmarkSteps.class }) {
+            for (Method method : clazz.getDeclaredMethods()) {
+                for (Annotation annotation : method.getAnnotations()) {
+                    if (annotation.annotationType().isAnnotationPresent(StepDefAnnotation.class)) {
+                        try {
+                            cucumberMethods.put(annotation.annotationType().getDeclaredMethod("value").invoke(annotation).toString(), method);
+                        } catch (ReflectiveOperationException e) {
+                            throw new IllegalStateException(e);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public List<Object> matchWithoutCache() {
+        ParameterTypeRegistry parameterTypeRegistry = new ParameterTypeRegistry(Locale.ENGLISH);
+        CucumberTypeRegistryConfigurer.getParameterTypes().stream().forEach(parameterTypeRegistry::defineParameterType);
+        List<Argument<?>> args = new CucumberExpression(EXPRESSION, parameterTypeRegistry).match(TEXT);
+        return args == null ? null : args.stream().map(Argument::getValue).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Object> match() {
+        return cucumberExpressionService.match(EXPRESSION, TEXT);
+    }
+
+    @Benchmark
+    public Map<String, List<Object>> matchEachStepDefinition() {
+        Map<String, List<Object>> matches = new LinkedHashMap<>();
+        for (String expressionString : cucumberMethods.keySet()) {
+            List<Object> params = cucumberExpressionService.match(expressionString, TEXT);
+            if (params != null) {
+                matches.put(expressionString, params);
+            }
+        }
+        return matches;
+    }
+
+    @Benchmark
+    public Map<String, List<Object>> matchAll() {
+        return StepDefinitionIndex.of(cucumberMethods, cucumberExpressionService).matchAll(TEXT);
+    }
+
+}
@@ -0,0 +1,71 @@
+/**
+ * NoraUi is licensed under the license GNU AFFERO GENERAL PUBLIC LICENSE
+ *
+ * @author Nicolas HALLOUIN
+ * @author Stéphane GRILLON
+ */
+package com.github.noraui.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+
+import com.github.noraui.cucumber.interceptor.StepInterceptor;
+import com.github.noraui.utils.Context;
+
+/**
+ * Measures the overhead added by {@link StepInterceptor} to each Cucumber step, with the step log enabled (INFO) or disabled (OFF).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StepInterceptorBenchmark {
+
+    @Param({ "OFF", "INFO" })
+    public String level;
+
+    private StepInterceptor interceptor;
+    private BenchmarkMethodInvocation waitInvocation;
+    private BenchmarkMethodInvocation updateTextInvocation;
+
+    @Setup(Level.Trial)
+    public void setUp() throws NoSuchMethodException {
+        Context.getInstance().initializeEnv("demoCsv.properties");
+        ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger(StepInterceptor.class)).setLevel(ch.qos.logback.classic.Level.toLevel(level));
+        interceptor = new StepInterceptor();
+        BenchmarkSteps steps = new BenchmarkSteps();
+        waitInvocation = new BenchmarkMethodInvocation(steps, BenchmarkSteps.class.getMethod("waitSeconds", Integer.class), 2);
+        updateTextInvocation = new BenchmarkMethodInvocation(steps, BenchmarkSteps.class.getMethod("updateText", String.class, String.class), "bakery.DemoPage-input_text_field", "foo");
+    }
+
+    @Benchmark
+    public Object interceptStepWithOneParameter() throws Throwable {
+        return interceptor.invoke(waitInvocation);
+    }
+
+    @Benchmark
+    public Object interceptStepWithTwoParameters() throws Throwable {
+        return interceptor.invoke(updateTextInvocation);
+    }
+
+    @Benchmark
+    public Object baseline() throws Throwable {
+        return waitInvocation.proceed();
+    }
+
+}
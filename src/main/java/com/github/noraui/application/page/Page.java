@@ -7,6 +7,12 @@
 package com.github.noraui.application.page;
 
 import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.openqa.selenium.WebDriver;
 import org.slf4j.Logger;
@@ -31,6 +37,32 @@ public abstract class Page implements IPage {
 
     private static String pagesPackage = Page.class.getPackage().getName() + '.';
 
+    /**
+     * Page classes by full qualified name (see {@link #getInstance(String)}).
+     */
+    private static final Map<String, Class<?>> PAGE_CLASSES = new ConcurrentHashMap<>();
+
+    /**
+     * PageElement fields declared by each Page class.
+     */
+    private static final ClassValue<Field[]> PAGE_ELEMENT_FIELDS = new ClassValue<Field[]>() {
+        @Override
+        protected Field[] computeValue(Class<?> type) {
+            final List<Field> fields = new ArrayList<>();
+            for (final Field f : type.getDeclaredFields()) {
+                if (PageElement.class.equals(f.getType())) {
+                    fields.add(f);
+                }
+            }
+            return fields.toArray(new Field[fields.size()]);
+        }
+    };
+
+    /**
+     * PageElements of this page by key, built on first lookup (a PageElement is bound to its page instance).
+     */
+    private volatile Map<String, PageElement> pageElements;
+
     protected Page motherPage = null;
 
     protected String pageKey;
@@ -39,6 +71,11 @@ public abstract class Page implements IPage {
 
     protected Callback callBack;
 
+    /**
+     * Set to true by a page whose elements are kept by locator between steps (see {@link com.github.noraui.browser.ElementCache}).
+     */
+    protected boolean cacheElements = false;
+
     protected Page() {
     }
 
@@ -64,7 +101,13 @@ public abstract class Page implements IPage {
      */
     public static Page getInstance(String className) throws TechnicalException {
         try {
-            return (Page) NoraUiInjector.getNoraUiInjectorSource().getInstance(Class.forName(pagesPackage + className));
+            final String name = pagesPackage + className;
+            Class<?> pageClass = PAGE_CLASSES.get(name);
+            if (pageClass == null) {
+                pageClass = Class.forName(name);
+                PAGE_CLASSES.put(name, pageClass);
+            }
+            return (Page) NoraUiInjector.getNoraUiInjectorSource().getInstance(pageClass);
         } catch (ClassNotFoundException e) {
             throw new TechnicalException(Messages.format(Messages.getMessage(UNABLE_TO_RETRIEVE_PAGE), className), e);
         }
@@ -87,20 +130,31 @@ public abstract class Page implements IPage {
      */
     @Override
     public PageElement getPageElementByKey(String key) throws TechnicalException {
-        PageElement p;
-        try {
-            for (final Field f : getClass().getDeclaredFields()) {
-                if (PageElement.class.equals(f.getType())) {
-                    p = (PageElement) f.get(this);
-                    if (key.equals(p.getKey())) {
-                        return p;
+        Map<String, PageElement> elements = pageElements;
+        if (elements == null) {
+            final Map<String, PageElement> map = new HashMap<>();
+            try {
+                for (final Field f : PAGE_ELEMENT_FIELDS.get(getClass())) {
+                    final PageElement p = (PageElement) f.get(this);
+                    if (p != null) {
+                        map.putIfAbsent(p.getKey(), p);
                     }
                 }
+            } catch (IllegalAccessException | IllegalArgumentException e) {
+                throw new TechnicalException(Messages.format(Messages.getMessage(ERROR_DURING_PAGE_ELEMENT_LOOKUP), key), e);
             }
-        } catch (IllegalAccessException | IllegalArgumentException e) {
-            throw new TechnicalException(Messages.format(Messages.getMessage(ERROR_DURING_PAGE_ELEMENT_LOOKUP), key), e);
+            elements = Collections.unmodifiableMap(map);
+            pageElements = elements;
         }
-        return new PageElement(key);
+        final PageElement p = elements.get(key);
+        return p == null ? new PageElement(key) : p;
+    }
+
+    /**
+     * @return true if the located elements of this page are cached between steps.
+     */
+    public boolean isElementCacheEnabled() {
+        return cacheElements;
     }
 
     /**
@@ -393,6 +393,7 @@ public class CommonSteps extends Step {
         final String handleToSwitch = Context.getWindows().get(wKey);
         if (handleToSwitch != null) {
             Context.getDriver().switchTo().window(handleToSwitch);
+            Context.clearElementCache();
             // As a workaround: NoraUi specify window size manually, e.g. window_size: 1920 x 1080 (instead of .window().maximize()).
             Context.getDriver().manage().window().setSize(new Dimension(1920, 1080));
             Context.setMainWindow(windowKey);
@@ -403,6 +404,7 @@ public class CommonSteps extends Step {
                 final String newWindowHandle = Wait.until(WindowManager.newWindowOpens(initialWindows));
                 Context.addWindow(wKey, newWindowHandle);
                 getDriver().switchTo().window(newWindowHandle);
+                Context.clearElementCache();
                 // As a workaround: NoraUi specify window size manually, e.g. window_size: 1920 x 1080 (instead of .window().maximize()).
                 Context.getDriver().manage().window().setSize(new Dimension(1920, 1080));
                 Context.setMainWindow(newWindowHandle);
@@ -15,6 +15,8 @@ import com.github.noraui.browser.Auth;
 import com.github.noraui.exception.Result;
 import com.github.noraui.exception.TechnicalException;
 import com.github.noraui.log.annotation.Loggable;
+import com.github.noraui.service.impl.CryptoServiceImpl;
+import com.github.noraui.service.impl.ScreenshotWriter;
 import com.github.noraui.utils.Context;
 import com.github.noraui.utils.Messages;
 
@@ -47,6 +49,7 @@ public class CucumberHooks {
         Context.emptyScenarioRegistry();
         Context.saveValue(Constants.IS_CONNECTED_REGISTRY_KEY, String.valueOf(Auth.isConnected()));
         Context.setCurrentScenario(scenario);
+        Context.prewarmApplicationDoms(scenario.getSourceTagNames());
         new Result.Success<>(Context.getScenarioName(), Messages.getMessage(SUCCESS_MESSAGE_BY_DEFAULT));
     }
 
@@ -55,6 +58,10 @@ public class CucumberHooks {
         log.debug("tearDown {} scenario.", scenario.getName());
         log.debug("Context.getCurrentScenarioData()={}", Context.getCurrentScenarioData());
         log.debug("ExcelFactory.getNbLines()={}", Context.getDataInputProvider().getNbGherkinExample());
+        // screenshots of the scenario are written before the next one starts
+        ScreenshotWriter.getInstance().flush();
+        // decrypted values are kept in memory for the current scenario only
+        CryptoServiceImpl.clearCache();
         printProgressBuild(scenario);
         if (Context.getCurrentScenarioData() >= Context.getDataInputProvider().getNbGherkinExample()) {
             log.debug("Go to next feature");
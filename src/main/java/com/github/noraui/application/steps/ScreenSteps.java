@@ -123,7 +123,9 @@ public class ScreenSteps extends Step {
     public void compareScreenshot(String screenName, Inequality inequality, double percentReference, List<GherkinStepCondition> conditions) throws IOException, FailureException {
         log.info("I compare a screenshot with [{}] and assert a failure if difference is [{}] [{}].", screenName, inequality.getValue(), percentReference);
         screenService.saveScreenshot("tmp");
-        double percent = screenService.getDifferencePercent("tmp", screenName);
+        // the exact difference is not needed once it exceeds the reference of a "greater than" check
+        final boolean greater = inequality == Inequality.SUPERIOR || inequality == Inequality.SUPERIOR_OR_EQUALS;
+        double percent = screenService.getDifferencePercent("tmp", screenName, greater ? percentReference : Double.POSITIVE_INFINITY);
         log.info("percent difference is [{}].", percent);
         switch (inequality) {
             case SUPERIOR:
@@ -159,6 +161,49 @@ public class ScreenSteps extends Step {
         }
     }
 
+    /**
+     * I check that a screenshot looks more like an expected screenshot than like any other expected screenshot of the same size (EXPECTED_FILES_FOLDER), and
+     * that it does not differ from it by more than a maximum percent. The screenshots are compared by their perceptual hashes, the hashes of the expected
+     * screenshots are kept in an index file. The difference is the greatest of the percent of different bits of the hashes and of the difference of the
+     * pixels of the tiles whose hashes differ. The step fails if no expected screenshot has the size of the screenshot.
+     *
+     * @param screenName
+     *            name of the expected screenshot (without extension).
+     * @param maxPercent
+     *            maximum percent of difference with the expected screenshot.
+     * @param conditions
+     *            list of 'expected' values condition and 'actual' values ({@link com.github.noraui.gherkin.GherkinStepCondition}).
+     * @throws IOException
+     *             if file or directory is wrong.
+     * @throws FailureException
+     *             if the scenario encounters a functional error
+     * @throws TechnicalException
+     *             is thrown if you have a technical error (format, configuration, datas, ...) in NoraUi.
+     */
+    @Conditioned
+    @Et("Je vérifie qu'une capture d'écran ressemble à {string} avec une différence maximale de {float}(\\?)")
+    @And("I check that a screenshot looks like {string} with a maximum difference of {float}(\\?)")
+    public void checkScreenshotLooksLike(String screenName, double maxPercent, List<GherkinStepCondition> conditions) throws IOException, FailureException, TechnicalException {
+        log.info("I check that a screenshot looks like [{}] with a maximum difference of [{}].", screenName, maxPercent);
+        screenService.saveScreenshot("tmp");
+        final String closest = screenService.getClosestBaseline("tmp");
+        if (closest == null) {
+            new Result.Failure<>(screenName, Messages.format(Messages.getMessage(Messages.FAIL_MESSAGE_SCREENSHOT_SIZE), screenName), true,
+                    Context.getCallBack(Callbacks.RESTART_WEB_DRIVER));
+        }
+        // the closest baseline may be the only one of this size: the difference is checked in any case, the hashes see the changes of uniform areas
+        final double percent = Math.max(screenService.getHashDifferencePercent("tmp", screenName), screenService.getChangedTilesDifferencePercent("tmp", screenName));
+        log.info("percent difference is [{}].", percent);
+        if (!screenName.equals(closest)) {
+            new Result.Failure<>(closest, Messages.format(Messages.getMessage(Messages.FAIL_MESSAGE_SCREENSHOT_NOT_CLOSEST), closest, screenName, String.format("%.2f", percent)), true,
+                    Context.getCallBack(Callbacks.RESTART_WEB_DRIVER));
+        }
+        if (percent > maxPercent) {
+            new Result.Failure<>(screenName, Messages.format(Messages.getMessage(Messages.FAIL_MESSAGE_SCREENSHOT_DIFFERENCE), screenName, String.format("%.2f", percent),
+                    String.format("%.2f", maxPercent)), true, Context.getCallBack(Callbacks.RESTART_WEB_DRIVER));
+        }
+    }
+
     /**
      * I start video capture and add to DOWNLOAD_FILES_FOLDER folder.
      *
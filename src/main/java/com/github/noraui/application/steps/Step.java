@@ -16,14 +16,12 @@ import java.lang.reflect.Method;
 import java.text.DateFormat;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
-import java.util.AbstractMap;
 import java.util.AbstractMap.SimpleEntry;
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Predicate;
@@ -45,13 +43,14 @@ import com.github.noraui.application.page.Page;
 import com.github.noraui.application.page.Page.PageElement;
 import com.github.noraui.browser.DriverFactory;
 import com.github.noraui.browser.waits.Wait;
-import com.github.noraui.cucumber.annotation.Conditioned;
 import com.github.noraui.cucumber.injector.NoraUiInjector;
+import com.github.noraui.cucumber.interceptor.MethodMetadata;
 import com.github.noraui.exception.FailureException;
 import com.github.noraui.exception.Result;
 import com.github.noraui.exception.TechnicalException;
 import com.github.noraui.gherkin.GherkinConditionedLoopedStep;
 import com.github.noraui.gherkin.GherkinStepCondition;
+import com.github.noraui.gherkin.StepDefinitionIndex;
 import com.github.noraui.log.annotation.Loggable;
 import com.github.noraui.selenium.NoraUiExpectedConditions;
 import com.github.noraui.service.CryptoService;
@@ -488,7 +487,7 @@ public abstract class Step implements IStep {
      */
     protected void clearText(int timeOutInSeconds, PageElement pageElement, CharSequence keysToSend, Object... args) throws TechnicalException, FailureException {
         try {
-            final WebElement element = Wait.until(ExpectedConditions.presenceOfElementLocated(Utilities.getLocator(pageElement, args)), timeOutInSeconds);
+            final WebElement element = findPresentElement(timeOutInSeconds, pageElement, args);
             element.clear();
             if (keysToSend != null) {
                 element.sendKeys(keysToSend);
@@ -541,7 +540,7 @@ public abstract class Step implements IStep {
         WebElement inputText = null;
         String value = getTextOrKey(textOrKey);
         try {
-            inputText = Wait.until(ExpectedConditions.presenceOfElementLocated(Utilities.getLocator(pageElement)), timeOutInSeconds);
+            inputText = findPresentElement(timeOutInSeconds, pageElement);
         } catch (final Exception e) {
             new Result.Failure<>(e.getMessage(), Messages.getMessage(Messages.FAIL_MESSAGE_UNABLE_TO_FIND_ELEMENT), true, pageElement.getPage().getCallBack());
         }
@@ -678,7 +677,7 @@ public abstract class Step implements IStep {
     protected boolean checkMandatoryTextField(PageElement pageElement, Object... args) throws FailureException {
         WebElement inputText = null;
         try {
-            inputText = Wait.until(ExpectedConditions.presenceOfElementLocated(Utilities.getLocator(pageElement, args)));
+            inputText = findPresentElement(Context.getTimeout(), pageElement, args);
         } catch (final Exception e) {
             new Result.Failure<>(pageElement, Messages.getMessage(Messages.FAIL_MESSAGE_UNABLE_TO_FIND_ELEMENT), true, pageElement.getPage().getCallBack());
         }
@@ -698,7 +697,7 @@ public abstract class Step implements IStep {
      */
     protected String readValueTextField(PageElement pageElement, Object... args) throws FailureException {
         try {
-            return Wait.until(ExpectedConditions.presenceOfElementLocated(Utilities.getLocator(pageElement, args))).getAttribute(VALUE);
+            return findPresentElement(Context.getTimeout(), pageElement, args).getAttribute(VALUE);
         } catch (final Exception e) {
             new Result.Failure<>(e.getMessage(), Messages.getMessage(Messages.FAIL_MESSAGE_UNABLE_TO_FIND_ELEMENT), true, pageElement.getPage().getCallBack());
         }
@@ -726,7 +725,7 @@ public abstract class Step implements IStep {
         WebElement webElement = null;
         String value = getTextOrKey(textOrKey);
         try {
-            webElement = Wait.until(ExpectedConditions.presenceOfElementLocated(Utilities.getLocator(pageElement, args)));
+            webElement = findPresentElement(Context.getTimeout(), pageElement, args);
         } catch (final Exception e) {
             new Result.Failure<>(e.getMessage(), Messages.getMessage(Messages.FAIL_MESSAGE_UNABLE_TO_FIND_ELEMENT), true, pageElement.getPage().getCallBack());
         }
@@ -760,7 +759,7 @@ public abstract class Step implements IStep {
         WebElement webElement = null;
         String value = getTextOrKey(textOrKey);
         try {
-            webElement = Wait.until(ExpectedConditions.presenceOfElementLocated(Utilities.getLocator(pageElement, args)));
+            webElement = findPresentElement(Context.getTimeout(), pageElement, args);
         } catch (final Exception e) {
             new Result.Failure<>(e.getMessage(), Messages.getMessage(Messages.FAIL_MESSAGE_UNABLE_TO_FIND_ELEMENT), true, pageElement.getPage().getCallBack());
         }
@@ -967,7 +966,7 @@ public abstract class Step implements IStep {
         log.debug("saveElementValue: {} to {} in {}.", pageElement, targetKey, pageElement.getPage().getApplication());
         String txt = "";
         try {
-            final WebElement elem = Wait.until(ExpectedConditions.presenceOfElementLocated(Utilities.getLocator(pageElement, args)));
+            final WebElement elem = findPresentElement(Context.getTimeout(), pageElement, args);
             log.debug("value: {} and text: {}", elem.getAttribute(VALUE), elem.getText());
             txt = elem.getAttribute(VALUE) != null ? elem.getAttribute(VALUE) : elem.getText();
         } catch (final Exception e) {
@@ -1213,6 +1212,7 @@ public abstract class Step implements IStep {
     protected void switchFrame(PageElement element, Object... args) throws FailureException, TechnicalException {
         try {
             Wait.until(ExpectedConditions.frameToBeAvailableAndSwitchToIt(Utilities.getLocator(element, args)));
+            Context.clearElementCache();
         } catch (final Exception e) {
             new Result.Failure<>(element, Messages.format(Messages.getMessage(Messages.FAIL_MESSAGE_UNABLE_TO_SWITCH_FRAME), element, element.getPage().getApplication()), true,
                     element.getPage().getCallBack());
@@ -1238,7 +1238,7 @@ public abstract class Step implements IStep {
         final String path = Context.getValue(fileOrKey) != null ? Context.getValue(fileOrKey) : System.getProperty(USER_DIR) + File.separator + DOWNLOADED_FILES_FOLDER + File.separator + fileOrKey;
         if (!"".equals(path)) {
             try {
-                final WebElement element = Wait.until(ExpectedConditions.presenceOfElementLocated(Utilities.getLocator(pageElement, args)));
+                final WebElement element = findPresentElement(Context.getTimeout(), pageElement, args);
                 element.clear();
                 if (DriverFactory.IE.equals(Context.getBrowser())) {
                     final String javascript = "arguments[0].value='" + path + "';";
@@ -1254,6 +1254,26 @@ public abstract class Step implements IStep {
         }
     }
 
+    /**
+     * Waits for the presence of an element. The element is taken from the element cache of the driver when its page enables it (see
+     * {@link Page#isElementCacheEnabled()}).
+     *
+     * @param timeOutInSeconds
+     *            The timeout in seconds when an expectation is called.
+     * @param pageElement
+     *            Is target element.
+     * @param args
+     *            list of arguments to format the found selector with.
+     * @return the element.
+     */
+    protected WebElement findPresentElement(int timeOutInSeconds, PageElement pageElement, Object... args) {
+        final By locator = Utilities.getLocator(pageElement, args);
+        if (!pageElement.getPage().isElementCacheEnabled()) {
+            return Wait.until(ExpectedConditions.presenceOfElementLocated(locator), timeOutInSeconds);
+        }
+        return Context.getElementCache().get(locator, () -> Wait.until(ExpectedConditions.presenceOfElementLocated(locator), timeOutInSeconds));
+    }
+
     /**
      * Displays message (concerned activity and list of authorized activities) at the beginning of method in logs.
      *
@@ -1378,7 +1398,10 @@ public abstract class Step implements IStep {
      *             is thrown if you have a technical error (decrypt value) in NoraUi.
      */
     protected String getTextOrKey(String textOrKey) throws TechnicalException {
-        String value = Context.getValue(textOrKey) != null ? Context.getValue(textOrKey) : textOrKey;
+        String value = Context.getValue(textOrKey);
+        if (value == null) {
+            value = textOrKey;
+        }
         if (value.startsWith(cryptoService.getPrefix())) {
             value = cryptoService.decrypt(value);
         }
@@ -1413,23 +1436,13 @@ public abstract class Step implements IStep {
     }
 
     private Function<GherkinConditionedLoopedStep, SimpleEntry<Method, List<?>>> findMethodToInvoke() {
-        return f -> {
-            for (Entry<String, Method> entry : Context.getCucumberMethods().entrySet()) {
-                log.debug("Method: {}", entry.getKey());
-                List<?> params = cucumberExpressionService.match(entry.getKey(), f.getStep());
-                if (params != null) {
-                    return new AbstractMap.SimpleEntry<>(entry.getValue(), params);
-                }
-                log.debug("No match for [{}], check next...", entry.getValue());
-            }
-            return null;
-        };
+        return f -> StepDefinitionIndex.of(Context.getCucumberMethods(), cucumberExpressionService).find(f.getStep());
     }
 
     private Function<SimpleEntry<Method, List<?>>, SimpleEntry<Method, List<?>>> invokeMethodWithConditions(List<GherkinStepCondition> stepConditions) {
         return f -> {
             Object[] tab;
-            if (f.getKey().isAnnotationPresent(Conditioned.class)) {
+            if (MethodMetadata.of(f.getKey()).isConditioned()) {
                 tab = new Object[f.getValue().size() + 1];
                 int i = 0;
                 for (Object o : f.getValue()) {
@@ -1441,8 +1454,9 @@ public abstract class Step implements IStep {
             }
 
             try {
-                f.getKey().invoke(NoraUiInjector.getNoraUiInjectorSource().getInstance(f.getKey().getDeclaringClass()), tab);
-            } catch (final Exception e) {
+                Object instance = Context.getScenarioInstance(f.getKey().getDeclaringClass(), c -> NoraUiInjector.getNoraUiInjectorSource().getInstance(c));
+                MethodMetadata.of(f.getKey()).invoke(instance, tab);
+            } catch (final Throwable e) {
                 log.error("Exception when invoking [{}]", f.getKey(), e);
             }
             return f;
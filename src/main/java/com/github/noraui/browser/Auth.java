@@ -37,8 +37,6 @@ public class Auth {
     /**
      * Static context instance.
      */
-    private static Auth instance;
-
     private final User currentUser;
 
     /**
@@ -67,15 +65,12 @@ public class Auth {
     }
 
     /**
-     * Get auth singleton.
+     * Get auth instance of the current {@link Context} (one per worker when scenarios run concurrently).
      *
      * @return auth instance
      */
     public static Auth getInstance() {
-        if (instance == null) {
-            instance = new Auth();
-        }
-        return instance;
+        return Context.getAuth();
     }
 
     /**
@@ -98,6 +93,15 @@ public class Auth {
         getInstance().authenticationType = type;
     }
 
+    /**
+     * Gets the authentication mode.
+     *
+     * @return the authentication mode ("" if not set).
+     */
+    public static String getAuthenticationType() {
+        return getInstance().authenticationType;
+    }
+
     /**
      * Returns true if current user is connected, false otherwise
      *
@@ -185,7 +189,7 @@ public class Auth {
      * Clears authentication data.
      */
     public static void clear() {
-        instance = null;
+        Context.clearAuth();
     }
 
     private User setCredential(String login, String password) {
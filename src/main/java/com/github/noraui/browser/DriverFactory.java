@@ -13,15 +13,18 @@ import java.io.File;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 
 import org.openqa.selenium.Dimension;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.MutableCapabilities;
 import org.openqa.selenium.Proxy.ProxyType;
 import org.openqa.selenium.UnexpectedAlertBehaviour;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeDriverService;
 import org.openqa.selenium.chrome.ChromeOptions;
@@ -68,9 +71,30 @@ public class DriverFactory {
     public static final String WEBDRIVER_OPTIONS_ADDITIONAL_ARGS = "webdriverOptionsAdditionalArgs";
     public static final String MODIFYHEADER_PATH = "modifyheaderPath";
 
+    /**
+     * Clears the storages of the origin of the current page (asynchronous script, the last argument is the callback). Storages of other origins are only
+     * isolated by a {@link ResetLevel#PROFILE} reset.
+     */
+    private static final String CLEAR_STORAGE_SCRIPT = "var done = arguments[arguments.length - 1], pending = [];"
+            + "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}"
+            + "if (navigator.serviceWorker && navigator.serviceWorker.getRegistrations) {"
+            + " pending.push(navigator.serviceWorker.getRegistrations().then(function(r) { return Promise.all(r.map(function(s) { return s.unregister(); })); })); }"
+            + "if (window.caches && caches.keys) {"
+            + " pending.push(caches.keys().then(function(k) { return Promise.all(k.map(function(c) { return caches.delete(c); })); })); }"
+            + "if (window.indexedDB && indexedDB.databases) {"
+            + " pending.push(indexedDB.databases().then(function(d) { d.forEach(function(db) { indexedDB.deleteDatabase(db.name); }); })); }"
+            + "Promise.all(pending).then(function() { done(); }, function() { done(); });";
+
     /** Selenium drivers. **/
     private final Map<String, WebDriver> drivers;
 
+    /** Warm sessions used to restart drivers (null if the pool is disabled). **/
+    private DriverPool pool;
+    private boolean poolInitialized;
+
+    /** True when the next driver must be a new session (after a {@link ResetLevel#PROFILE} reset). **/
+    private boolean freshSessionRequired;
+
     public DriverFactory() {
         drivers = new HashMap<>();
     }
@@ -86,10 +110,22 @@ public class DriverFactory {
         driverName = driverName != null ? driverName : DEFAULT_DRIVER;
         WebDriver driver = null;
         if (!drivers.containsKey(driverName)) {
-            try {
-                driver = generateWebDriver(driverName);
-            } catch (final TechnicalException e) {
-                log.error("error DriverFactory.getDriver()", e);
+            final DriverPool driverPool = getPool();
+            if (driverPool != null) {
+                driver = driverPool.take(driverName, freshSessionRequired);
+            }
+            freshSessionRequired = false;
+            if (driver != null) {
+                drivers.put(driverName, driver);
+            } else {
+                try {
+                    driver = generateWebDriver(driverName);
+                } catch (final TechnicalException e) {
+                    log.error("error DriverFactory.getDriver()", e);
+                }
+            }
+            if (driverPool != null) {
+                driverPool.fill(driverName);
             }
         } else {
             driver = drivers.get(driverName);
@@ -98,15 +134,52 @@ public class DriverFactory {
     }
 
     /**
-     * Clear loaded drivers
+     * Clear loaded drivers with the cheapest reset meeting the isolation needed by the current scenario (see {@link ResetLevel#getRequired()}).
      */
     public void clear() {
-        for (final WebDriver wd : drivers.values()) {
-            wd.manage().deleteAllCookies();
-            while (wd.getWindowHandles().size() > 1) {
-                wd.close();
+        clear(ResetLevel.getRequired());
+    }
+
+    /**
+     * Clear loaded drivers.
+     *
+     * @param level
+     *            reset applied to the drivers ({@link ResetLevel#PROFILE} quits them, the next call to {@link #getDriver()} generates a new session).
+     */
+    public void clear(ResetLevel level) {
+        final Iterator<WebDriver> iterator = drivers.values().iterator();
+        while (iterator.hasNext()) {
+            final WebDriver wd = iterator.next();
+            if (level == ResetLevel.PROFILE) {
+                final long start = System.nanoTime();
+                wd.quit();
+                iterator.remove();
+                freshSessionRequired = true;
+                log.info("Driver reset [{}] in {} ms (quit)", level, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            } else {
+                reset(wd, level);
+            }
+        }
+    }
+
+    /**
+     * Restart loaded drivers with the reset level required by the current scenario. When the driver pool is enabled (see {@link DriverPool#DRIVER_POOL_SIZE}),
+     * loaded drivers are given back to the pool (or quit for a {@link ResetLevel#PROFILE} reset) and the next call to {@link #getDriver()} takes a warm session,
+     * otherwise loaded drivers are only cleared (see {@link #clear(ResetLevel)}).
+     */
+    public void restart() {
+        final ResetLevel level = ResetLevel.getRequired();
+        final DriverPool driverPool = getPool();
+        if (driverPool == null) {
+            clear(level);
+        } else {
+            if (level == ResetLevel.PROFILE) {
+                drivers.values().forEach(WebDriver::quit);
+                freshSessionRequired = true;
+            } else {
+                drivers.forEach((driverName, wd) -> driverPool.recycle(driverName, wd, level));
             }
-            wd.get("data:,");
+            drivers.clear();
         }
     }
 
@@ -118,6 +191,83 @@ public class DriverFactory {
             wd.quit();
         }
         drivers.clear();
+        if (pool != null) {
+            pool.quit();
+            pool = null;
+        }
+        poolInitialized = false;
+    }
+
+    /**
+     * Resets a driver without quitting it and logs the time spent in each phase.
+     *
+     * @param wd
+     *            driver to reset.
+     * @param level
+     *            {@link ResetLevel#COOKIES} or {@link ResetLevel#STORAGE}.
+     */
+    static void reset(WebDriver wd, ResetLevel level) {
+        final StringBuilder breakdown = new StringBuilder();
+        final long start = System.nanoTime();
+        long phase = start;
+        if (level.compareTo(ResetLevel.STORAGE) >= 0 && wd instanceof JavascriptExecutor) {
+            try {
+                ((JavascriptExecutor) wd).executeAsyncScript(CLEAR_STORAGE_SCRIPT);
+            } catch (final WebDriverException e) {
+                // no other call to a session which may be dead
+                log.warn("Storage not cleared: {}", e.getMessage());
+            }
+            phase = lap(breakdown, "storage", phase);
+        }
+        wd.manage().deleteAllCookies();
+        phase = lap(breakdown, "cookies", phase);
+        while (wd.getWindowHandles().size() > 1) {
+            wd.close();
+        }
+        phase = lap(breakdown, "windows", phase);
+        wd.get("data:,");
+        lap(breakdown, "blank page", phase);
+        log.info("Driver reset [{}] in {} ms ({})", level, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), breakdown);
+    }
+
+    private static long lap(StringBuilder breakdown, String phase, long since) {
+        final long now = System.nanoTime();
+        if (breakdown.length() > 0) {
+            breakdown.append(", ");
+        }
+        breakdown.append(phase).append(": ").append(TimeUnit.NANOSECONDS.toMillis(now - since)).append(" ms");
+        return now;
+    }
+
+    /**
+     * Gets the driver pool, created on first call from webdrivers.properties.
+     *
+     * @return the driver pool or null if it is disabled.
+     */
+    private DriverPool getPool() {
+        if (!poolInitialized) {
+            poolInitialized = true;
+            final int size = getIntegerProperty(DriverPool.DRIVER_POOL_SIZE, 0);
+            if (size > 0) {
+                final long idleTimeout = getIntegerProperty(DriverPool.DRIVER_POOL_IDLE_TIMEOUT, (int) DriverPool.DEFAULT_IDLE_TIMEOUT);
+                log.info("Driver pool of {} warm session(s) by browser, quit after {}s idle", size, idleTimeout);
+                pool = new DriverPool(size, TimeUnit.SECONDS.toMillis(idleTimeout), this::createWebDriver);
+            }
+        }
+        return pool;
+    }
+
+    private static int getIntegerProperty(String key, int defaultValue) {
+        final String value = Context.getWebdriversProperties(key);
+        if (value == null || "".equals(value.trim())) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (final NumberFormatException e) {
+            log.error("Wrong {} in webdrivers.properties: {}", key, value);
+            return defaultValue;
+        }
     }
 
     /**
@@ -285,6 +435,23 @@ public class DriverFactory {
      *             if an error occured when Webdriver setExecutable to true.
      */
     private WebDriver generateWebDriver(String driverName) throws TechnicalException {
+        final WebDriver driver = createWebDriver(driverName);
+        drivers.put(driverName, driver);
+        return driver;
+    }
+
+    /**
+     * Creates a selenium webdriver following a name given in parameter, without loading it.
+     * By default a chrome driver is created.
+     *
+     * @param driverName
+     *            The name of the web driver to create
+     * @return
+     *         An instance a web driver whose type is provided by driver name given in parameter
+     * @throws TechnicalException
+     *             if an error occured when Webdriver setExecutable to true.
+     */
+    private WebDriver createWebDriver(String driverName) throws TechnicalException {
         WebDriver driver;
         if (IE.equals(driverName)) {
             driver = generateIEDriver();
@@ -298,9 +465,7 @@ public class DriverFactory {
         // As a workaround: NoraUi specify window size manually, e.g. window_size: 1920 x 1080 (instead of .window().maximize()).
         driver.manage().window().setSize(new Dimension(1920, 1080));
         driver.manage().timeouts().implicitlyWait(IMPLICIT_WAIT, TimeUnit.MILLISECONDS);
-        drivers.put(driverName, driver);
         return driver;
-
     }
 
     /**
@@ -0,0 +1,299 @@
+/**
+ * NoraUi is licensed under the license GNU AFFERO GENERAL PUBLIC LICENSE
+ *
+ * @author Nicolas HALLOUIN
+ * @author Stéphane GRILLON
+ */
+package com.github.noraui.browser;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.slf4j.Logger;
+
+import com.github.noraui.exception.TechnicalException;
+import com.github.noraui.log.annotation.Loggable;
+
+/**
+ * Pool of warm web driver sessions used by {@link DriverFactory} to restart the web driver without paying the startup of a browser.
+ * Spare sessions are launched in background, sessions given back are cleaned and health checked in background before being reused, and spare sessions idle for
+ * too long are quit.
+ */
+@Loggable
+public class DriverPool {
+
+    static Logger log;
+
+    /**
+     * Number of warm sessions by browser (property of webdrivers.properties, 0 to disable the pool).
+     */
+    public static final String DRIVER_POOL_SIZE = "driverPoolSize";
+
+    /**
+     * Idle time in seconds after which a warm session is quit (property of webdrivers.properties).
+     */
+    public static final String DRIVER_POOL_IDLE_TIMEOUT = "driverPoolIdleTimeout";
+
+    /**
+     * Default idle time in seconds after which a warm session is quit.
+     */
+    public static final long DEFAULT_IDLE_TIMEOUT = 300;
+
+    private final int size;
+    private final long idleTimeout;
+    private final Launcher launcher;
+    private final ScheduledExecutorService executor;
+    private final Map<String, BlockingDeque<Spare>> spares = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> pending = new ConcurrentHashMap<>();
+    private volatile boolean closed;
+
+    /**
+     * @param size
+     *            number of warm sessions by browser.
+     * @param idleTimeout
+     *            idle time in milliseconds after which a warm session is quit.
+     * @param launcher
+     *            launches a new session of a browser.
+     */
+    public DriverPool(int size, long idleTimeout, Launcher launcher) {
+        this.size = size;
+        this.idleTimeout = idleTimeout;
+        this.launcher = launcher;
+        final AtomicInteger threads = new AtomicInteger();
+        final ScheduledThreadPoolExecutor scheduledExecutor = new ScheduledThreadPoolExecutor(size, r -> {
+            final Thread thread = new Thread(r, "noraui-driver-pool-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduledExecutor.setRemoveOnCancelPolicy(true);
+        scheduledExecutor.scheduleWithFixedDelay(this::quitIdleSessions, idleTimeout, Math.max(1, idleTimeout / 2), TimeUnit.MILLISECONDS);
+        this.executor = scheduledExecutor;
+    }
+
+    /**
+     * Takes a warm session of a browser. Unhealthy sessions are quit and skipped.
+     *
+     * @param driverName
+     *            name of the browser.
+     * @return a warm session or null if none is ready.
+     */
+    public WebDriver take(String driverName) {
+        return take(driverName, false);
+    }
+
+    /**
+     * Takes a warm session of a browser. Unhealthy sessions are quit and skipped.
+     *
+     * @param driverName
+     *            name of the browser.
+     * @param freshOnly
+     *            true to only take a session never used (with a new profile, see {@link ResetLevel#PROFILE}), recycled sessions are kept for later.
+     * @return a warm session or null if none is ready.
+     */
+    public WebDriver take(String driverName, boolean freshOnly) {
+        final BlockingDeque<Spare> deque = getSpares(driverName);
+        final Iterator<Spare> iterator = deque.iterator();
+        while (iterator.hasNext()) {
+            final Spare spare = iterator.next();
+            if ((!freshOnly || spare.fresh) && deque.remove(spare)) {
+                if (isHealthy(spare.driver)) {
+                    log.debug("Warm {} session taken from the driver pool", driverName);
+                    return spare.driver;
+                }
+                quitQuietly(spare.driver);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Launches in background the missing warm sessions of a browser.
+     *
+     * @param driverName
+     *            name of the browser.
+     */
+    public void fill(String driverName) {
+        final AtomicInteger launching = getPending(driverName);
+        while (!closed && getSpares(driverName).size() + launching.get() < size) {
+            launching.incrementAndGet();
+            submit(driverName, () -> {
+                try {
+                    offer(driverName, launcher.launch(driverName), true);
+                } catch (final TechnicalException | WebDriverException e) {
+                    log.error("error DriverPool.fill()", e);
+                } finally {
+                    launching.decrementAndGet();
+                }
+            }, launching);
+        }
+    }
+
+    /**
+     * Gives back a session. It is cleaned and health checked in background then kept as a warm session if the pool is not full, or quit.
+     *
+     * @param driverName
+     *            name of the browser.
+     * @param driver
+     *            session given back.
+     */
+    public void recycle(String driverName, WebDriver driver) {
+        recycle(driverName, driver, ResetLevel.COOKIES);
+    }
+
+    /**
+     * Gives back a session. It is reset and health checked in background then kept as a warm session if the pool is not full, or quit.
+     *
+     * @param driverName
+     *            name of the browser.
+     * @param driver
+     *            session given back.
+     * @param level
+     *            reset applied to the session ({@link ResetLevel#PROFILE} quits it).
+     */
+    public void recycle(String driverName, WebDriver driver, ResetLevel level) {
+        if (level == ResetLevel.PROFILE) {
+            quitQuietly(driver);
+            return;
+        }
+        final AtomicInteger launching = getPending(driverName);
+        launching.incrementAndGet();
+        if (!submit(driverName, () -> {
+            try {
+                DriverFactory.reset(driver, level);
+                offer(driverName, driver, false);
+            } catch (final WebDriverException e) {
+                log.debug("Unhealthy {} session quit by the driver pool", driverName, e);
+                quitQuietly(driver);
+            } finally {
+                launching.decrementAndGet();
+            }
+        }, launching)) {
+            quitQuietly(driver);
+        }
+    }
+
+    /**
+     * Quits all warm sessions and stops the background launches.
+     */
+    public void quit() {
+        closed = true;
+        executor.shutdownNow();
+        for (final BlockingDeque<Spare> deque : spares.values()) {
+            Spare spare;
+            while ((spare = deque.pollFirst()) != null) {
+                quitQuietly(spare.driver);
+            }
+        }
+    }
+
+    /**
+     * @param driverName
+     *            name of the browser.
+     * @return number of warm sessions ready.
+     */
+    int getSpareCount(String driverName) {
+        return getSpares(driverName).size();
+    }
+
+    /**
+     * Quits the warm sessions idle for longer than the idle timeout.
+     */
+    void quitIdleSessions() {
+        final long now = System.currentTimeMillis();
+        for (final Map.Entry<String, BlockingDeque<Spare>> entry : spares.entrySet()) {
+            final Iterator<Spare> iterator = entry.getValue().iterator();
+            while (iterator.hasNext()) {
+                final Spare spare = iterator.next();
+                if (now - spare.since > idleTimeout && entry.getValue().remove(spare)) {
+                    log.debug("Idle {} session quit by the driver pool", entry.getKey());
+                    quitQuietly(spare.driver);
+                }
+            }
+        }
+    }
+
+    private void offer(String driverName, WebDriver driver, boolean fresh) {
+        if (closed || getSpares(driverName).size() >= size || !isHealthy(driver)) {
+            quitQuietly(driver);
+        } else {
+            final Spare spare = new Spare(driver, fresh);
+            getSpares(driverName).offerLast(spare);
+            // the pool may have been quit meanwhile
+            if (closed && getSpares(driverName).remove(spare)) {
+                quitQuietly(driver);
+            }
+        }
+    }
+
+    private boolean submit(String driverName, Runnable task, AtomicInteger launching) {
+        try {
+            executor.execute(task);
+            return true;
+        } catch (final RejectedExecutionException e) {
+            log.debug("Driver pool of {} is closed", driverName);
+            launching.decrementAndGet();
+            return false;
+        }
+    }
+
+    private BlockingDeque<Spare> getSpares(String driverName) {
+        return spares.computeIfAbsent(driverName, k -> new LinkedBlockingDeque<>());
+    }
+
+    private AtomicInteger getPending(String driverName) {
+        return pending.computeIfAbsent(driverName, k -> new AtomicInteger());
+    }
+
+    private static boolean isHealthy(WebDriver driver) {
+        try {
+            return !driver.getWindowHandles().isEmpty();
+        } catch (final WebDriverException e) {
+            return false;
+        }
+    }
+
+    private static void quitQuietly(WebDriver driver) {
+        try {
+            driver.quit();
+        } catch (final WebDriverException e) {
+            log.debug("error DriverPool.quitQuietly()", e);
+        }
+    }
+
+    /**
+     * Launches a new session of a browser.
+     */
+    @FunctionalInterface
+    public interface Launcher {
+
+        WebDriver launch(String driverName) throws TechnicalException;
+
+    }
+
+    /**
+     * A warm session with the time since it is idle, fresh if it has never been used.
+     */
+    private static final class Spare {
+
+        private final WebDriver driver;
+        private final boolean fresh;
+        private final long since = System.currentTimeMillis();
+
+        private Spare(WebDriver driver, boolean fresh) {
+            this.driver = driver;
+            this.fresh = fresh;
+        }
+
+    }
+
+}
@@ -0,0 +1,133 @@
+/**
+ * NoraUi is licensed under the license GNU AFFERO GENERAL PUBLIC LICENSE
+ *
+ * @author Nicolas HALLOUIN
+ * @author Stéphane GRILLON
+ */
+package com.github.noraui.browser;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+import org.openqa.selenium.interactions.Locatable;
+import org.slf4j.Logger;
+
+import com.github.noraui.log.annotation.Loggable;
+
+/**
+ * Elements located on the current page of a web driver, kept by locator for the pages that enable it (see
+ * {@link com.github.noraui.application.page.Page#isElementCacheEnabled()}).
+ * A cached element is not checked before use: the first call that fails with a {@link StaleElementReferenceException} locates the element again and is
+ * retried once. The cache is cleared on navigation and window or frame switch (see {@link com.github.noraui.utils.Context#clearElementCache()}).
+ */
+@Loggable
+public class ElementCache {
+
+    static Logger log;
+
+    private final WebDriver driver;
+    private final Map<By, WebElement> elements = new HashMap<>();
+
+    public ElementCache(WebDriver driver) {
+        this.driver = driver;
+    }
+
+    /**
+     * @param locator
+     *            locator of the element.
+     * @param locate
+     *            locates the element (ex: wait for its presence) when it is not cached or stale.
+     * @return the cached element, or the located element (then cached).
+     */
+    public WebElement get(By locator, Supplier<WebElement> locate) {
+        WebElement element = elements.get(locator);
+        if (element == null) {
+            element = wrap(locator, locate, locate.get());
+            elements.put(locator, element);
+        } else {
+            log.debug("Element {} taken from the cache", locator);
+        }
+        return element;
+    }
+
+    /**
+     * @param webDriver
+     *            a web driver.
+     * @return true if the elements of this cache belong to this web driver.
+     */
+    public boolean isFor(WebDriver webDriver) {
+        return driver == webDriver;
+    }
+
+    /**
+     * Forgets all elements.
+     */
+    public void clear() {
+        elements.clear();
+    }
+
+    /**
+     * @return number of cached elements.
+     */
+    public int size() {
+        return elements.size();
+    }
+
+    private static WebElement wrap(By locator, Supplier<WebElement> locate, WebElement element) {
+        if (element == null) {
+            return null;
+        }
+        final Class<?>[] interfaces = element instanceof Locatable ? new Class<?>[] { WebElement.class, WrapsElement.class, Locatable.class }
+                : new Class<?>[] { WebElement.class, WrapsElement.class };
+        return (WebElement) Proxy.newProxyInstance(ElementCache.class.getClassLoader(), interfaces, new Relocating(locator, locate, element));
+    }
+
+    /**
+     * Calls the located element and locates it again once if it is stale.
+     */
+    private static final class Relocating implements InvocationHandler {
+
+        private final By locator;
+        private final Supplier<WebElement> locate;
+        private WebElement element;
+
+        private Relocating(By locator, Supplier<WebElement> locate, WebElement element) {
+            this.locator = locator;
+            this.locate = locate;
+            this.element = element;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if ("getWrappedElement".equals(method.getName()) && method.getParameterCount() == 0) {
+                return element;
+            }
+            try {
+                return method.invoke(element, args);
+            } catch (final InvocationTargetException e) {
+                if (!(e.getCause() instanceof StaleElementReferenceException)) {
+                    throw e.getCause();
+                }
+                log.debug("Cached element {} is stale, it is located again", locator);
+                element = locate.get();
+                try {
+                    return method.invoke(element, args);
+                } catch (final InvocationTargetException retry) {
+                    throw retry.getCause();
+                }
+            }
+        }
+
+    }
+
+}
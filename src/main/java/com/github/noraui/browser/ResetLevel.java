@@ -0,0 +1,102 @@
+/**
+ * NoraUi is licensed under the license GNU AFFERO GENERAL PUBLIC LICENSE
+ *
+ * @author Nicolas HALLOUIN
+ * @author Stéphane GRILLON
+ */
+package com.github.noraui.browser;
+
+import java.util.Collection;
+import java.util.Locale;
+
+import org.slf4j.Logger;
+
+import com.github.noraui.log.annotation.Loggable;
+import com.github.noraui.utils.Context;
+
+import io.cucumber.core.api.Scenario;
+
+/**
+ * Isolation between two examples, from the cheapest reset of the web driver to the most expensive one. Each level includes the previous ones.
+ * The level applied is the highest of the default level (driverResetLevel in webdrivers.properties) and of the level declared by the tag of the scenario
+ * (ex: {@code @isolation=storage}).
+ */
+@Loggable
+public enum ResetLevel {
+
+    /**
+     * Deletes cookies, closes all windows except one and opens a blank page.
+     */
+    COOKIES,
+
+    /**
+     * Also clears localStorage, sessionStorage, service workers, cache storage and IndexedDB of the current page origin.
+     */
+    STORAGE,
+
+    /**
+     * Quits the browser, the next driver is a new session with a new profile.
+     */
+    PROFILE;
+
+    static Logger log;
+
+    /**
+     * Default reset level (property of webdrivers.properties).
+     */
+    public static final String DRIVER_RESET_LEVEL = "driverResetLevel";
+
+    /**
+     * Prefix of the tag declaring the isolation needed by a scenario.
+     */
+    public static final String ISOLATION_TAG = "@isolation=";
+
+    /**
+     * @param value
+     *            name of a level (case insensitive).
+     * @param defaultLevel
+     *            level returned if the value is empty or unknown.
+     * @return the level.
+     */
+    public static ResetLevel of(String value, ResetLevel defaultLevel) {
+        if (value == null || "".equals(value.trim())) {
+            return defaultLevel;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ENGLISH));
+        } catch (final IllegalArgumentException e) {
+            log.error("Unknown reset level [{}], {} is used", value, defaultLevel);
+            return defaultLevel;
+        }
+    }
+
+    /**
+     * @param tags
+     *            tags of a scenario.
+     * @param defaultLevel
+     *            default reset level.
+     * @return the highest of the default level and of the levels declared by the tags.
+     */
+    public static ResetLevel of(Collection<String> tags, ResetLevel defaultLevel) {
+        ResetLevel level = defaultLevel;
+        for (final String tag : tags) {
+            if (tag.startsWith(ISOLATION_TAG)) {
+                final ResetLevel declared = of(tag.substring(ISOLATION_TAG.length()), defaultLevel);
+                if (declared.compareTo(level) > 0) {
+                    level = declared;
+                }
+            }
+        }
+        return level;
+    }
+
+    /**
+     * @return the reset level required by the current scenario.
+     */
+    public static ResetLevel getRequired() {
+        final ResetLevel defaultLevel = of(Context.getWebdriversProperties(DRIVER_RESET_LEVEL), COOKIES);
+        final Scenario scenario = Context.getCurrentScenario();
+        return scenario == null ? defaultLevel : of(scenario.getSourceTagNames(), defaultLevel);
+    }
+
+}
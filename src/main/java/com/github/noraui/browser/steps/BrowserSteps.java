@@ -69,6 +69,7 @@ public class BrowserSteps {
             ((JavascriptExecutor) Context.getDriver()).executeScript(js);
             String newWindowHandle = Wait.until(NoraUiExpectedConditions.newWindowOpens(initialWindows));
             Context.getDriver().switchTo().window(newWindowHandle);
+            Context.clearElementCache();
         } catch (Exception e) {
             log.error("Error when open a new window.", e);
             new Result.Failure<>(e.getMessage(), Messages.getMessage(Messages.FAIL_MESSAGE_UNABLE_TO_OPEN_A_NEW_WINDOW), true, Context.getCallBack(Callbacks.RESTART_WEB_DRIVER));
@@ -134,12 +135,12 @@ public class BrowserSteps {
     }
 
     /**
-     * Restart WebDriver with a {@link Context#clear()}.
+     * Restart WebDriver with a {@link Context#restart()} (a warm session of the driver pool is used if it is enabled).
      */
     @Et("Je redémarre le web driver")
     @And("I restart the web driver")
     public void restartWebDriver() {
-        Context.clear();
+        Context.restart();
         Auth.setConnected(false);
     }
 
@@ -184,7 +185,7 @@ public class BrowserSteps {
     }
 
     /**
-     * Restart WebDriver with a {@link Context#clear()} and switches to target window with conditions.
+     * Restart WebDriver with a {@link Context#restart()} and switches to target window with conditions.
      * 
      * @param backTo
      *            url to go back to.
@@ -225,7 +226,7 @@ public class BrowserSteps {
     }
 
     /**
-     * Restart WebDriver with a {@link Context#clear()} and go to the given url.
+     * Restart WebDriver with a {@link Context#restart()} and go to the given url.
      * This method is called by reflexion from @see exceptions.ExceptionCallback#getCallBack(String).
      *
      * @param backTo
@@ -319,6 +320,7 @@ public class BrowserSteps {
         Context.addWindow(pageKey, windowHandle);
         Context.setMainWindow(pageKey);
         Context.getDriver().navigate().to(urlToOpen);
+        Context.clearElementCache();
         // As a workaround: NoraUi specify window size manually, e.g. window_size: 1920 x 1080 (instead of .window().maximize()).
         Context.getDriver().manage().window().setSize(new Dimension(1920, 1080));
     }
@@ -330,6 +332,7 @@ public class BrowserSteps {
         Context.addWindow(key, handleToKeep);
         Context.setMainWindow(key);
         Context.getDriver().switchTo().window(handleToKeep);
+        Context.clearElementCache();
         // As a workaround: NoraUi specify window size manually, e.g. window_size: 1920 x 1080 (instead of .window().maximize()).
         Context.getDriver().manage().window().setSize(new Dimension(1920, 1080));
     }
@@ -338,6 +341,7 @@ public class BrowserSteps {
         for (String windowHandle : Context.getDriver().getWindowHandles()) {
             if (!windowHandle.equals(handleToKeep)) {
                 Context.getDriver().switchTo().window(windowHandle);
+                Context.clearElementCache();
                 // As a workaround: NoraUi specify window size manually, e.g. window_size: 1920 x 1080 (instead of .window().maximize()).
                 Context.getDriver().manage().window().setSize(new Dimension(1920, 1080));
                 Context.getDriver().close();
@@ -358,6 +362,7 @@ public class BrowserSteps {
         String handleToSwitch = Context.getWindows().get(windowKey);
         if (handleToSwitch != null) {
             Context.getDriver().switchTo().window(handleToSwitch);
+            Context.clearElementCache();
             // As a workaround: NoraUi specify window size manually, e.g. window_size: 1920 x 1080 (instead of .window().maximize()).
             Context.getDriver().manage().window().setSize(new Dimension(1920, 1080));
             Context.setMainWindow(windowKey);
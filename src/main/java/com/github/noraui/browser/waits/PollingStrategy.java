@@ -0,0 +1,134 @@
+/**
+ * NoraUi is licensed under the license GNU AFFERO GENERAL PUBLIC LICENSE
+ *
+ * @author Nicolas HALLOUIN
+ * @author Stéphane GRILLON
+ */
+package com.github.noraui.browser.waits;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.slf4j.Logger;
+
+import com.github.noraui.log.annotation.Loggable;
+import com.github.noraui.utils.Context;
+
+/**
+ * Polling of the waits: the first poll comes after the initial interval, then the interval doubles up to the maximum interval (a fixed polling if both are
+ * equal). Exceptions thrown by a condition are propagated, except NotFoundException and the ignored exceptions.
+ */
+@Loggable
+public final class PollingStrategy {
+
+    static Logger log;
+
+    /**
+     * Initial polling interval of the waits in milliseconds (property of webdrivers.properties).
+     */
+    public static final String WAIT_POLLING_INTERVAL = "waitPollingInterval";
+
+    /**
+     * Maximum polling interval of the waits in milliseconds (property of webdrivers.properties).
+     */
+    public static final String WAIT_POLLING_MAX_INTERVAL = "waitPollingMaxInterval";
+
+    /**
+     * Comma-separated list of exceptions ignored by the waits (property of webdrivers.properties).
+     */
+    public static final String WAIT_IGNORED_EXCEPTIONS = "waitIgnoredExceptions";
+
+    /**
+     * Default polling of Selenium: every 500 ms.
+     */
+    public static final long DEFAULT_INTERVAL = 500;
+
+    private final long interval;
+    private final long maxInterval;
+    private final List<Class<? extends Throwable>> ignoredExceptions;
+
+    /**
+     * @param interval
+     *            initial polling interval in milliseconds.
+     * @param maxInterval
+     *            maximum polling interval in milliseconds (raised to the initial interval if lower).
+     * @param ignoredExceptions
+     *            exceptions ignored when thrown by a condition.
+     */
+    public PollingStrategy(long interval, long maxInterval, List<Class<? extends Throwable>> ignoredExceptions) {
+        this.interval = Math.max(1, interval);
+        this.maxInterval = Math.max(this.interval, maxInterval);
+        this.ignoredExceptions = Collections.unmodifiableList(new ArrayList<>(ignoredExceptions));
+    }
+
+    /**
+     * @return the polling strategy configured in webdrivers.properties (fixed 500 ms polling by default).
+     */
+    public static PollingStrategy fromProperties() {
+        final long interval = getLongProperty(WAIT_POLLING_INTERVAL, DEFAULT_INTERVAL);
+        final long maxInterval = getLongProperty(WAIT_POLLING_MAX_INTERVAL, interval);
+        final List<Class<? extends Throwable>> ignored = new ArrayList<>();
+        final String exceptions = Context.getWebdriversProperties(WAIT_IGNORED_EXCEPTIONS);
+        if (exceptions != null) {
+            for (final String exception : exceptions.split(",")) {
+                if (!"".equals(exception.trim())) {
+                    addException(ignored, exception.trim());
+                }
+            }
+        }
+        return new PollingStrategy(interval, maxInterval, ignored);
+    }
+
+    /**
+     * @param previous
+     *            previous polling interval in milliseconds (0 before the first poll).
+     * @return the next polling interval in milliseconds.
+     */
+    public long next(long previous) {
+        return previous <= 0 ? interval : Math.min(maxInterval, previous * 2);
+    }
+
+    public boolean isAdaptive() {
+        return interval < maxInterval;
+    }
+
+    public long getInterval() {
+        return interval;
+    }
+
+    public long getMaxInterval() {
+        return maxInterval;
+    }
+
+    public List<Class<? extends Throwable>> getIgnoredExceptions() {
+        return ignoredExceptions;
+    }
+
+    private static void addException(List<Class<? extends Throwable>> ignored, String className) {
+        try {
+            final Class<?> clazz = Class.forName(className);
+            if (Throwable.class.isAssignableFrom(clazz)) {
+                ignored.add(clazz.asSubclass(Throwable.class));
+                return;
+            }
+        } catch (final ClassNotFoundException e) {
+            log.trace("Exception class not found", e);
+        }
+        log.error("Wrong exception in {} of webdrivers.properties: {}", WAIT_IGNORED_EXCEPTIONS, className);
+    }
+
+    private static long getLongProperty(String key, long defaultValue) {
+        final String value = Context.getWebdriversProperties(key);
+        if (value == null || "".equals(value.trim())) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (final NumberFormatException e) {
+            log.error("Wrong {} in webdrivers.properties: {}", key, value);
+            return defaultValue;
+        }
+    }
+
+}
@@ -19,11 +19,6 @@ import com.github.noraui.utils.Context;
  */
 public class Wait {
 
-    /**
-     * Single global instance of WebDriverWait
-     */
-    private static WebDriverWait webDriverWait;
-
     /**
      * Wait will ignore instances of NotFoundException that are encountered (thrown) by default in
      * the 'until' condition, and immediately propagate all others. You can add more to the ignore
@@ -76,9 +71,7 @@ public class Wait {
     }
 
     public static <T> ChainableWait<?> untilAnd(ExpectedCondition<T> condition, boolean not) {
-        if (webDriverWait == null) {
-            webDriverWait = new WebDriverWait(Context.getDriver(), Context.getTimeout());
-        }
+        WebDriverWait webDriverWait = Context.getWebDriverWait();
         return not ? new ChainableWait<Boolean>(webDriverWait).wait(ExpectedConditions.not(condition)) : new ChainableWait<T>(webDriverWait).wait(condition);
     }
 
@@ -88,15 +81,15 @@ public class Wait {
     }
 
     public static <T> ChainableWait<?> untilAnd(ExpectedCondition<T> condition, int timeOutInSeconds, boolean not) {
-        return not ? new ChainableWait<Boolean>(new WebDriverWait(Context.getDriver(), timeOutInSeconds)).wait(ExpectedConditions.not(condition))
-                : new ChainableWait<T>(new WebDriverWait(Context.getDriver(), timeOutInSeconds)).wait(condition);
+        WebDriverWait webDriverWait = Context.getWebDriverWait(timeOutInSeconds);
+        return not ? new ChainableWait<Boolean>(webDriverWait).wait(ExpectedConditions.not(condition)) : new ChainableWait<T>(webDriverWait).wait(condition);
     }
 
     /**
-     * Clears the instance of WebDriverWait.
-     * New instance will be used at the next use of Wait methods.
+     * Clears the instances of WebDriverWait of the current {@link Context} (see {@link WaitFactory}).
+     * New instances will be used at the next use of Wait methods.
      */
     public static void clear() {
-        webDriverWait = null;
+        Context.clearWebDriverWait();
     }
 }
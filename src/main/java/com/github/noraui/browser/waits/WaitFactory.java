@@ -0,0 +1,101 @@
+/**
+ * NoraUi is licensed under the license GNU AFFERO GENERAL PUBLIC LICENSE
+ *
+ * @author Nicolas HALLOUIN
+ * @author Stéphane GRILLON
+ */
+package com.github.noraui.browser.waits;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.Sleeper;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+/**
+ * Waits of one web driver, created once by timeout and reused by every {@link Wait} call. A factory is bound to its driver: a restarted driver gets a new
+ * factory (see {@link com.github.noraui.utils.Context#getWaitFactory()}).
+ */
+public class WaitFactory {
+
+    private final WebDriver driver;
+    private final PollingStrategy pollingStrategy;
+    private final Map<Long, WebDriverWait> waits = new ConcurrentHashMap<>();
+
+    public WaitFactory(WebDriver driver, PollingStrategy pollingStrategy) {
+        this.driver = driver;
+        this.pollingStrategy = pollingStrategy;
+    }
+
+    /**
+     * @param timeOutInSeconds
+     *            timeout of the wait in seconds.
+     * @return the wait of the driver with this timeout.
+     */
+    public WebDriverWait get(long timeOutInSeconds) {
+        return waits.computeIfAbsent(timeOutInSeconds, this::create);
+    }
+
+    /**
+     * @param webDriver
+     *            a web driver.
+     * @return true if the waits of this factory use this web driver.
+     */
+    public boolean isFor(WebDriver webDriver) {
+        return driver == webDriver;
+    }
+
+    private WebDriverWait create(long timeOutInSeconds) {
+        final WebDriverWait wait = pollingStrategy.isAdaptive() ? new AdaptiveWait(driver, pollingStrategy, timeOutInSeconds)
+                : new WebDriverWait(driver, timeOutInSeconds, pollingStrategy.getInterval());
+        wait.ignoreAll(pollingStrategy.getIgnoredExceptions());
+        return wait;
+    }
+
+    /**
+     * A wait polling fast first then backing off (see {@link PollingStrategy#next(long)}). The backoff restarts at each call of {@link #until(Function)}; a wait
+     * is used by the thread of its driver only.
+     */
+    private static final class AdaptiveWait extends WebDriverWait {
+
+        private final BackoffSleeper sleeper;
+
+        private AdaptiveWait(WebDriver driver, PollingStrategy pollingStrategy, long timeOutInSeconds) {
+            this(driver, new BackoffSleeper(pollingStrategy), pollingStrategy, timeOutInSeconds);
+        }
+
+        private AdaptiveWait(WebDriver driver, BackoffSleeper sleeper, PollingStrategy pollingStrategy, long timeOutInSeconds) {
+            super(driver, Clock.systemDefaultZone(), sleeper, timeOutInSeconds, pollingStrategy.getInterval());
+            this.sleeper = sleeper;
+        }
+
+        @Override
+        public <V> V until(Function<? super WebDriver, V> isTrue) {
+            sleeper.previous = 0;
+            return super.until(isTrue);
+        }
+
+    }
+
+    private static final class BackoffSleeper implements Sleeper {
+
+        private final PollingStrategy pollingStrategy;
+        private long previous;
+
+        private BackoffSleeper(PollingStrategy pollingStrategy) {
+            this.pollingStrategy = pollingStrategy;
+        }
+
+        @Override
+        public void sleep(Duration duration) throws InterruptedException {
+            previous = pollingStrategy.next(previous);
+            Thread.sleep(previous);
+        }
+
+    }
+
+}
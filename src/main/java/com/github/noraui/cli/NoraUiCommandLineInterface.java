@@ -20,7 +20,8 @@ import java.io.FileWriter;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Scanner;
@@ -38,6 +39,7 @@ import com.github.noraui.cli.model.NoraUiModel;
 import com.github.noraui.cli.model.NoraUiResult;
 import com.github.noraui.cli.model.NoraUiScenarioFile;
 import com.github.noraui.exception.TechnicalException;
+import com.github.noraui.indus.BulkCrypto;
 import com.github.noraui.log.NoraUiLoggingInjector;
 import com.github.noraui.log.annotation.Loggable;
 import com.github.noraui.service.CryptoService;
@@ -205,10 +207,11 @@ public class NoraUiCommandLineInterface {
     }
 
     /**
-     * @return a list of feature (Map<index,feature description>).
+     * @return a list of feature (Map<index,feature description>), in the order of display.
      */
     private Map<String, String> getFeatures() {
-        Map<String, String> features = new HashMap<>();
+        Map<String, String> features = new LinkedHashMap<>();
+        features.put("0", "exit NoraUi CLI");
         features.put("1", "add new application");
         features.put("2", "add new scenario");
         features.put("3", "add new model");
@@ -218,7 +221,8 @@ public class NoraUiCommandLineInterface {
         features.put("7", "encrypt data");
         features.put("8", "decrypt data");
         features.put("9", "status");
-        features.put("0", "exit NoraUi CLI");
+        features.put("10", "encrypt data file");
+        features.put("11", "decrypt data file");
         return features;
     }
 
@@ -239,11 +243,11 @@ public class NoraUiCommandLineInterface {
             }
             log.info("-s: Scenario Name");
             log.info("-u: Url");
-            log.info("-d: Description");
+            log.info("-d: Description (or data file to encrypt or decrypt)");
             log.info("-k: Crypto key");
             log.info("-a: Application Name");
             log.info("-m: Model Name");
-            log.info("-fi: Field list of model");
+            log.info("-fi: Field list of model (or columns of the data file to encrypt or decrypt)");
             log.info("-re: Result list of model");
             log.info(
                     "-interactiveMode: (boolean) When the NoraUi CLI goal is executed in interactive mode, it will prompt the user for all the previously listed parameters. When interactiveMode is false, the NoraUi CLI goal will use the values passed in from the command line.");
@@ -562,6 +566,9 @@ public class NoraUiCommandLineInterface {
             decrypt(noraUiCliParameters.getCryptoKey(), noraUiCliParameters.getDescription(), noraUiCliParameters.getInput(), noraUiCliParameters.getInteractiveMode());
         } else if (noraUiCliParameters.getFeatureCode() == 9) {
             status(noraUiCliFile);
+        } else if (noraUiCliParameters.getFeatureCode() == 10 || noraUiCliParameters.getFeatureCode() == 11) {
+            transformDataFile(noraUiCliParameters.getFeatureCode() == 10, noraUiCliParameters.getCryptoKey(), noraUiCliParameters.getDescription(), noraUiCliParameters.getFields(),
+                    noraUiCliParameters.getInput(), noraUiCliParameters.getInteractiveMode());
         }
         return noraUiCliFile;
     }
@@ -1078,6 +1085,50 @@ public class NoraUiCommandLineInterface {
         }
     }
 
+    /**
+     * Encrypts or decrypts all the cells of some columns of a data file (see {@link BulkCrypto}).
+     * 
+     * @param encrypt
+     *            true to encrypt the plain cells, false to decrypt the encrypted cells.
+     * @param cryptoKey
+     *            is AES key (secret key).
+     * @param dataFile
+     *            path of a CSV, Excel or Gherkin data file.
+     * @param columns
+     *            names of the columns to transform (separated by spaces).
+     * @param input
+     *            NoraUI CLI use Java Scanner class.
+     * @param interactiveMode
+     *            When the NoraUi CLI goal is executed in interactive mode, it will prompt the user for all the
+     *            previously listed parameters.
+     *            When interactiveMode is false, the NoraUi CLI goal will use the values passed in from the command
+     *            line.
+     * @throws TechnicalException
+     *             is throws if the data file can not be read or written or if a cell can not be encrypted or decrypted.
+     */
+    private void transformDataFile(boolean encrypt, String cryptoKey, String dataFile, String columns, Scanner input, boolean interactiveMode) throws TechnicalException {
+        if (interactiveMode) {
+            if (cryptoKey == null || "".equals(cryptoKey)) {
+                log.info("Enter crypto key:");
+                cryptoKey = input.nextLine();
+            }
+            if (dataFile == null || "".equals(dataFile)) {
+                log.info("Enter data file:");
+                dataFile = input.nextLine();
+            }
+            if (columns == null || "".equals(columns)) {
+                log.info("Enter columns (separated by spaces):");
+                columns = input.nextLine();
+            }
+        } else if (cryptoKey == null || "".equals(cryptoKey) || dataFile == null || "".equals(dataFile) || columns == null || "".equals(columns)) {
+            log.error("When you want to {} a data file with interactiveMode is false, you need use -d, -fi and -k", encrypt ? "encrypt" : "decrypt");
+            return;
+        }
+        log.info("{} columns {} of data file [{}]", encrypt ? "Encrypt" : "Decrypt", columns, dataFile);
+        final BulkCrypto bulkCrypto = encrypt ? BulkCrypto.encrypt(cryptoService, cryptoKey) : BulkCrypto.decrypt(cryptoService, cryptoKey);
+        bulkCrypto.transform(new File(dataFile), Arrays.asList(columns.trim().split("\\s+")));
+    }
+
     /**
      * CLI status feature display all datas from NoraUi CLI files (.noraui folder at the root of robot).
      * if the status is false, the element is filtered.
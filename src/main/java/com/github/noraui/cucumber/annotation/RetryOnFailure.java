@@ -31,6 +31,31 @@ public @interface RetryOnFailure {
      */
     TimeUnit unit() default TimeUnit.SECONDS;
 
+    /**
+     * @return Multiplier applied to the delay after each attempt (1 means a fixed delay, 2 doubles the delay after each attempt).
+     */
+    double multiplier() default 1;
+
+    /**
+     * @return Maximum delay between two attempts, in time units. -1 (default) means no maximum.
+     */
+    long maxDelay() default -1;
+
+    /**
+     * @return Randomize each delay between the half and the whole computed delay, so that parallel executions do not retry at the same time.
+     */
+    boolean jitter() default false;
+
+    /**
+     * @return Maximum total time of all attempts, in time units. No new attempt is made if it can not start before this deadline. -1 (default) means no deadline.
+     */
+    long maxDuration() default -1;
+
+    /**
+     * @return Other exception types which also trigger a retry (in addition to {@link com.github.noraui.exception.FailureException}).
+     */
+    Class<? extends Throwable>[] retryOn() default {};
+
     /**
      * @return Shall it be fully verbose (show full exception trace) or just
      */
@@ -17,6 +17,7 @@ import com.github.noraui.cucumber.metrics.module.TimeModule;
 import com.github.noraui.cucumber.module.NoraUiModule;
 import com.github.noraui.exception.TechnicalException;
 import com.github.noraui.log.annotation.Loggable;
+import com.github.noraui.utils.StartupProfiler;
 import com.google.inject.Guice;
 import com.google.inject.Injector;
 import com.google.inject.Module;
@@ -38,12 +39,16 @@ public class NoraUiInjectorSource implements InjectorSource {
      */
     @Override
     public Injector getInjector() {
-        Injector injector = Guice.createInjector(stage, noraUiModules);
+        Injector injector;
+        try (StartupProfiler.Phase phase = StartupProfiler.start("Guice injector")) {
+            injector = Guice.createInjector(stage, noraUiModules);
+        }
         try {
             NoraUiInjector.createInjector(injector);
         } catch (TechnicalException e) {
             log.error("NoraUiInjectorSource.getInjector()", e);
         }
+        StartupProfiler.report();
         return injector;
     }
 
@@ -13,7 +13,6 @@ import org.aopalliance.intercept.MethodInterceptor;
 import org.aopalliance.intercept.MethodInvocation;
 import org.slf4j.Logger;
 
-import com.github.noraui.cucumber.annotation.Conditioned;
 import com.github.noraui.gherkin.GherkinStepCondition;
 import com.github.noraui.log.annotation.Loggable;
 import com.github.noraui.utils.Context;
@@ -34,7 +33,7 @@ public class ConditionedInterceptor implements MethodInterceptor {
         //
         Method m = invocation.getMethod();
 
-        if (m.isAnnotationPresent(Conditioned.class)) {
+        if (MethodMetadata.of(m).isConditioned()) {
             Object[] arg = invocation.getArguments();
             if (arg.length > 0 && arg[arg.length - 1] instanceof List && !((List) arg[arg.length - 1]).isEmpty() && ((List) arg[arg.length - 1]).get(0) instanceof GherkinStepCondition) {
                 List<GherkinStepCondition> conditions = (List) arg[arg.length - 1];
@@ -27,8 +27,8 @@ public class ExperimentalInterceptor implements MethodInterceptor {
     public Object invoke(MethodInvocation invocation) throws Throwable {
         //
         Method m = invocation.getMethod();
-        if (m.isAnnotationPresent(Experimental.class)) {
-            Experimental experimentalAnnotation = m.getAnnotation(Experimental.class);
+        Experimental experimentalAnnotation = MethodMetadata.of(m).getExperimental();
+        if (experimentalAnnotation != null) {
             log.warn("CAUTION: You use a experimental generic step named [{}].", experimentalAnnotation.name());
         }
         log.debug("NORAUI ExperimentalInterceptor invoke method {}", invocation.getMethod());
@@ -0,0 +1,305 @@
+/**
+ * NoraUi is licensed under the license GNU AFFERO GENERAL PUBLIC LICENSE
+ *
+ * @author Nicolas HALLOUIN
+ * @author Stéphane GRILLON
+ */
+package com.github.noraui.cucumber.interceptor;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.github.noraui.cucumber.annotation.Conditioned;
+import com.github.noraui.cucumber.annotation.Experimental;
+import com.github.noraui.cucumber.annotation.RetryOnFailure;
+import com.github.noraui.cucumber.annotation.RetryOnWarning;
+import com.github.noraui.cucumber.metrics.annotation.regulator.SpeedRegulator;
+import com.github.noraui.cucumber.metrics.annotation.regulator.SpeedRegulators;
+import com.github.noraui.cucumber.metrics.annotation.time.Time;
+import com.github.noraui.cucumber.metrics.annotation.time.TimeName;
+import com.github.noraui.cucumber.metrics.annotation.time.TimeValue;
+import com.github.noraui.cucumber.metrics.annotation.time.Times;
+import com.github.noraui.cucumber.retry.RetryPolicy;
+import com.github.noraui.utils.Context;
+
+/**
+ * Annotations of an intercepted method, resolved once per {@link Method} and shared by all NoraUi Guice interceptors.
+ * {@link Method#getAnnotations()}, {@link Method#getAnnotation(Class)} and {@link Method#getParameterAnnotations()} clone arrays on each call, so interceptors must
+ * read this metadata instead of using reflection on each invocation.
+ */
+public final class MethodMetadata {
+
+    private static final ConcurrentMap<Method, MethodMetadata> METADATA = new ConcurrentHashMap<>();
+
+    private final Method method;
+    private final Annotation[] annotations;
+    private final boolean publicMethod;
+    private final boolean conditioned;
+    private final Experimental experimental;
+    private final RetryOnFailure retryOnFailure;
+    private final RetryOnWarning retryOnWarning;
+    private final RetryPolicy failurePolicy;
+    private final RetryPolicy warningPolicy;
+    private final List<SpeedRegulator> speedRegulators;
+    private final boolean speedRegulatorVerbose;
+    private final List<Timer> timers;
+
+    /**
+     * Step log template, resolved lazily because it depends on the locale of the {@link Context}.
+     */
+    private volatile StepLogTemplate stepLogTemplate;
+
+    /**
+     * Method handle bound on first invocation by {@link #invoke(Object, Object...)}.
+     */
+    private volatile MethodHandle invoker;
+
+    private MethodMetadata(Method method) {
+        this.method = method;
+        this.annotations = method.getAnnotations();
+        this.publicMethod = Modifier.isPublic(method.getModifiers());
+        this.conditioned = method.isAnnotationPresent(Conditioned.class);
+        this.experimental = method.getAnnotation(Experimental.class);
+        this.retryOnFailure = method.getAnnotation(RetryOnFailure.class);
+        this.retryOnWarning = method.getAnnotation(RetryOnWarning.class);
+        this.failurePolicy = RetryPolicy.of(retryOnFailure);
+        this.warningPolicy = RetryPolicy.of(retryOnWarning);
+
+        List<SpeedRegulator> regulators = new ArrayList<>();
+        if (method.isAnnotationPresent(SpeedRegulator.class)) {
+            regulators.add(method.getAnnotation(SpeedRegulator.class));
+        }
+        if (method.isAnnotationPresent(SpeedRegulators.class)) {
+            Collections.addAll(regulators, method.getAnnotation(SpeedRegulators.class).value());
+        }
+        this.speedRegulators = Collections.unmodifiableList(regulators);
+        this.speedRegulatorVerbose = regulators.stream().anyMatch(SpeedRegulator::verbose);
+
+        Annotation[][] parameterAnnotations = method.getParameterAnnotations();
+        List<Timer> times = new ArrayList<>();
+        if (method.isAnnotationPresent(Time.class)) {
+            times.add(new Timer(method, parameterAnnotations, method.getAnnotation(Time.class)));
+        }
+        if (method.isAnnotationPresent(Times.class)) {
+            for (Time time : method.getAnnotation(Times.class).value()) {
+                times.add(new Timer(method, parameterAnnotations, time));
+            }
+        }
+        this.timers = Collections.unmodifiableList(times);
+    }
+
+    /**
+     * Gets the metadata of a method, computed on first call.
+     *
+     * @param method
+     *            intercepted method.
+     * @return the metadata of the method (never null).
+     */
+    public static MethodMetadata of(Method method) {
+        MethodMetadata metadata = METADATA.get(method);
+        if (metadata == null) {
+            metadata = METADATA.computeIfAbsent(method, MethodMetadata::new);
+        }
+        return metadata;
+    }
+
+    public Method getMethod() {
+        return method;
+    }
+
+    public boolean isPublic() {
+        return publicMethod;
+    }
+
+    public boolean isConditioned() {
+        return conditioned;
+    }
+
+    public Experimental getExperimental() {
+        return experimental;
+    }
+
+    public RetryOnFailure getRetryOnFailure() {
+        return retryOnFailure;
+    }
+
+    public RetryOnWarning getRetryOnWarning() {
+        return retryOnWarning;
+    }
+
+    /**
+     * @return the retry policy built from {@link RetryOnFailure} (null if the method is not annotated).
+     */
+    public RetryPolicy getFailurePolicy() {
+        return failurePolicy;
+    }
+
+    /**
+     * @return the retry policy built from {@link RetryOnWarning} (null if the method is not annotated).
+     */
+    public RetryPolicy getWarningPolicy() {
+        return warningPolicy;
+    }
+
+    /**
+     * @return true if the method is annotated by {@link RetryOnFailure} or {@link RetryOnWarning}.
+     */
+    public boolean isRetried() {
+        return retryOnFailure != null || retryOnWarning != null;
+    }
+
+    /**
+     * @return all {@link SpeedRegulator} of the method ({@link SpeedRegulator} first, then the content of {@link SpeedRegulators}).
+     */
+    public List<SpeedRegulator> getSpeedRegulators() {
+        return speedRegulators;
+    }
+
+    /**
+     * @return true if at least one {@link SpeedRegulator} of the method is verbose.
+     */
+    public boolean isSpeedRegulatorVerbose() {
+        return speedRegulatorVerbose;
+    }
+
+    /**
+     * @return all {@link Time} of the method ({@link Time} first, then the content of {@link Times}).
+     */
+    public List<Timer> getTimers() {
+        return timers;
+    }
+
+    /**
+     * Invokes the method through a {@link MethodHandle} bound on first call and reused, so access checks and arguments boxing of
+     * {@link Method#invoke(Object, Object...)} are not paid on each invocation. Unlike {@link Method#invoke(Object, Object...)}, exceptions thrown by the method
+     * are not wrapped.
+     *
+     * @param target
+     *            instance on which the method is invoked (ignored for a static method).
+     * @param arguments
+     *            arguments of the method.
+     * @return the result of the method (null for a void method).
+     * @throws Throwable
+     *             if the method is not accessible or throws an exception.
+     */
+    public Object invoke(Object target, Object... arguments) throws Throwable {
+        return (Object) getInvoker().invokeExact(target, arguments);
+    }
+
+    /**
+     * @return a method handle of the method adapted to the type {@code (Object target, Object[] arguments)Object}.
+     * @throws IllegalAccessException
+     *             if the method is not accessible.
+     */
+    private MethodHandle getInvoker() throws IllegalAccessException {
+        MethodHandle handle = invoker;
+        if (handle == null) {
+            int parameterCount = method.getParameterCount();
+            handle = MethodHandles.lookup().unreflect(method);
+            if (Modifier.isStatic(method.getModifiers())) {
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            }
+            handle = handle.asType(MethodType.genericMethodType(parameterCount + 1)).asSpreader(Object[].class, parameterCount);
+            invoker = handle;
+        }
+        return handle;
+    }
+
+    /**
+     * Gets the step log template of the method for the current locale of the {@link Context}.
+     *
+     * @return the step log template (never null).
+     */
+    StepLogTemplate getStepLogTemplate() {
+        StepLogTemplate template = stepLogTemplate;
+        if (template == null || template.isStale()) {
+            template = StepLogTemplate.compile(method, annotations);
+            stepLogTemplate = template;
+        }
+        return template;
+    }
+
+    /**
+     * A {@link Time} annotation with the indexes of its {@link TimeName} and {@link TimeValue} parameters.
+     */
+    public static final class Timer {
+
+        private final Time annotation;
+
+        /**
+         * Name of the timer when it does not depend on arguments (null otherwise).
+         */
+        private final String name;
+
+        /**
+         * Index of the {@link TimeName} parameter giving the name of the timer (-1 if none).
+         */
+        private final int nameIndex;
+
+        /**
+         * Index of the {@link TimeValue} parameter giving the mark of the timer (-1 if none).
+         */
+        private final int valueIndex;
+
+        private Timer(Method method, Annotation[][] parameterAnnotations, Time annotation) {
+            this.annotation = annotation;
+            int timeNameIndex = -1;
+            int timeValueIndex = -1;
+            String timeName = annotation.name();
+            boolean parameterName = timeName.startsWith("{") && timeName.endsWith("}");
+            for (int i = 0; i < parameterAnnotations.length; i++) {
+                for (Annotation a : parameterAnnotations[i]) {
+                    if (parameterName && a instanceof TimeName && timeName.substring(1, timeName.length() - 1).equals(((TimeName) a).value())) {
+                        timeNameIndex = i;
+                    }
+                    if (a instanceof TimeValue) {
+                        timeValueIndex = i;
+                    }
+                }
+            }
+            if ("".equals(timeName)) {
+                this.name = method.getName();
+            } else {
+                this.name = parameterName ? null : timeName;
+            }
+            this.nameIndex = timeNameIndex;
+            this.valueIndex = annotation.mark() == 1 ? timeValueIndex : -1;
+        }
+
+        public Time getAnnotation() {
+            return annotation;
+        }
+
+        /**
+         * @param args
+         *            arguments of the invocation.
+         * @return the name of the timer for this invocation ("" if the named parameter is not a String).
+         */
+        public String getName(Object[] args) {
+            if (name != null) {
+                return name;
+            }
+            return nameIndex != -1 && args[nameIndex] instanceof String ? (String) args[nameIndex] : "";
+        }
+
+        /**
+         * @param args
+         *            arguments of the invocation.
+         * @return the mark of the timer for this invocation (1 by default).
+         */
+        public int getMark(Object[] args) {
+            return valueIndex != -1 && args[valueIndex] instanceof Integer ? (Integer) args[valueIndex] : 1;
+        }
+
+    }
+
+}
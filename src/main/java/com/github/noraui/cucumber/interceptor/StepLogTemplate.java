@@ -0,0 +1,123 @@
+/**
+ * NoraUi is licensed under the license GNU AFFERO GENERAL PUBLIC LICENSE
+ *
+ * @author Nicolas HALLOUIN
+ * @author Stéphane GRILLON
+ */
+package com.github.noraui.cucumber.interceptor;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+
+import org.slf4j.Logger;
+
+import com.github.noraui.Constants;
+import com.github.noraui.log.annotation.Loggable;
+import com.github.noraui.utils.Context;
+
+import cucumber.runtime.java.StepDefAnnotation;
+
+/**
+ * Pre-computed log line of a Cucumber step method, built once per {@link Method} (see {@link MethodMetadata}) and reused by {@link StepInterceptor} for each invocation.
+ */
+@Loggable
+final class StepLogTemplate {
+
+    static Logger log;
+
+    /**
+     * Template of a method without any annotation.
+     */
+    private static final StepLogTemplate NONE = new StepLogTemplate(null, null, null);
+
+    /**
+     * Language used to resolve the step annotation (null if the method has no annotation).
+     */
+    private final String language;
+
+    /**
+     * Coloured simple name of the step annotation followed by a space (null if the method is not a step).
+     */
+    private final String prefix;
+
+    /**
+     * Step expression converted into a {@link String#format(String, Object...)} pattern (null if the method is not a step).
+     */
+    private final String pattern;
+
+    private StepLogTemplate(String language, String prefix, String pattern) {
+        this.language = language;
+        this.prefix = prefix;
+        this.pattern = pattern;
+    }
+
+    /**
+     * @return true if the template was computed for another locale than the current locale of the {@link Context}.
+     */
+    boolean isStale() {
+        return language != null && !language.equals(Context.getLocale().getLanguage());
+    }
+
+    /**
+     * @return true if the method is annotated by a Cucumber step annotation.
+     */
+    boolean isStep() {
+        return pattern != null;
+    }
+
+    /**
+     * Formats the log line of a running step. Must only be called when the log line is really written.
+     *
+     * @param stepIndex
+     *            index of the running step.
+     * @param arguments
+     *            arguments of the step method.
+     * @return the log line.
+     */
+    String format(String stepIndex, Object[] arguments) {
+        return new StringBuilder("#").append(stepIndex).append(" - ").append(prefix).append(String.format(pattern, arguments)).toString();
+    }
+
+    /**
+     * Computes the template of a method for the current locale of the {@link Context}.
+     *
+     * @param method
+     *            intercepted method.
+     * @param annotations
+     *            annotations of the method.
+     * @return the template of the method (never null).
+     */
+    static StepLogTemplate compile(Method method, Annotation[] annotations) {
+        if (annotations.length == 0) {
+            return NONE;
+        }
+        String language = Context.getLocale().getLanguage();
+        Annotation stepAnnotation = annotations[annotations.length - 1];
+        for (Annotation a : annotations) {
+            if (a.annotationType().getName().startsWith("io.cucumber.java." + language)) {
+                stepAnnotation = a;
+                break;
+            }
+        }
+        Class<? extends Annotation> annotationClass = stepAnnotation.annotationType();
+        if (!annotationClass.isAnnotationPresent(StepDefAnnotation.class)) {
+            return new StepLogTemplate(language, null, null);
+        }
+        try {
+            String value = annotationClass.getDeclaredMethod("value").invoke(stepAnnotation).toString();
+            return new StepLogTemplate(language, blue(annotationClass.getSimpleName()) + " ", value.replaceAll("\\{\\S+\\}", yellow("{%s}")).replace("(\\?)", ""));
+        } catch (ReflectiveOperationException | SecurityException e) {
+            log.error("StepLogTemplate.compile(Method: {})", method, e);
+            return new StepLogTemplate(language, null, null);
+        }
+    }
+
+    private static String blue(String text) {
+        return Constants.BLUE + text + Constants.RESET;
+    }
+
+    private static String yellow(String text) {
+        return Constants.YELLOW + text + Constants.RESET;
+    }
+
+}
@@ -6,7 +6,6 @@
  */
 package com.github.noraui.cucumber.metrics.interceptor;
 
-import java.lang.reflect.Method;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
@@ -14,8 +13,8 @@ import org.aopalliance.intercept.MethodInterceptor;
 import org.aopalliance.intercept.MethodInvocation;
 import org.slf4j.Logger;
 
+import com.github.noraui.cucumber.interceptor.MethodMetadata;
 import com.github.noraui.cucumber.metrics.annotation.regulator.SpeedRegulator;
-import com.github.noraui.cucumber.metrics.annotation.regulator.SpeedRegulators;
 import com.github.noraui.cucumber.metrics.core.impl.Meter;
 import com.github.noraui.log.annotation.Loggable;
 
@@ -28,26 +27,12 @@ public class SpeedRegulatorInterceptor implements MethodInterceptor {
 
     @Override
     public Object invoke(MethodInvocation invocation) throws Throwable {
-        boolean verbose = false;
         //
-        Method m = invocation.getMethod();
-
-        //
-        if (m.isAnnotationPresent(SpeedRegulator.class)) {
-            SpeedRegulator annotation = m.getAnnotation(SpeedRegulator.class);
+        MethodMetadata metadata = MethodMetadata.of(invocation.getMethod());
+        for (SpeedRegulator annotation : metadata.getSpeedRegulators()) {
             speedLimiter(annotation);
-            verbose = annotation.verbose();
-        }
-        if (m.isAnnotationPresent(SpeedRegulators.class)) {
-            SpeedRegulators annotations = m.getAnnotation(SpeedRegulators.class);
-            for (int i = 0; i < annotations.value().length; i++) {
-                SpeedRegulator annotation = annotations.value()[i];
-                speedLimiter(annotation);
-                if (!verbose) {
-                    verbose = annotation.verbose();
-                }
-            }
         }
+        boolean verbose = metadata.isSpeedRegulatorVerbose();
 
         //
         if (verbose) {
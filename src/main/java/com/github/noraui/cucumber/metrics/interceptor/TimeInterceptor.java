@@ -6,9 +6,7 @@
  */
 package com.github.noraui.cucumber.metrics.interceptor;
 
-import java.lang.annotation.Annotation;
 import java.lang.management.ManagementFactory;
-import java.lang.reflect.Method;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
@@ -28,10 +26,9 @@ import org.aopalliance.intercept.MethodInterceptor;
 import org.aopalliance.intercept.MethodInvocation;
 import org.slf4j.Logger;
 
+import com.github.noraui.cucumber.interceptor.MethodMetadata;
+import com.github.noraui.cucumber.interceptor.MethodMetadata.Timer;
 import com.github.noraui.cucumber.metrics.annotation.time.Time;
-import com.github.noraui.cucumber.metrics.annotation.time.TimeName;
-import com.github.noraui.cucumber.metrics.annotation.time.TimeValue;
-import com.github.noraui.cucumber.metrics.annotation.time.Times;
 import com.github.noraui.cucumber.metrics.core.impl.Meter;
 import com.github.noraui.cucumber.metrics.jmx.TimedJmxDynamicMBean;
 import com.github.noraui.log.annotation.Loggable;
@@ -65,21 +62,9 @@ public class TimeInterceptor implements MethodInterceptor {
     @Override
     public Object invoke(MethodInvocation invocation) throws Throwable {
         //
-        Method m = invocation.getMethod();
-        Annotation[][] as = m.getParameterAnnotations();
         Object[] args = invocation.getArguments();
-
-        //
-        if (m.isAnnotationPresent(Time.class)) {
-            Time timeAnnotation = m.getAnnotation(Time.class);
-            timeProceed(m, as, args, timeAnnotation);
-        }
-        if (m.isAnnotationPresent(Times.class)) {
-            Times annotations = m.getAnnotation(Times.class);
-            for (int i = 0; i < annotations.value().length; i++) {
-                Time timeAnnotation = annotations.value()[i];
-                timeProceed(m, as, args, timeAnnotation);
-            }
+        for (Timer timer : MethodMetadata.of(invocation.getMethod()).getTimers()) {
+            timeProceed(timer, args);
         }
 
         //
@@ -89,9 +74,10 @@ public class TimeInterceptor implements MethodInterceptor {
         return result;
     }
 
-    private void timeProceed(Method m, Annotation[][] as, Object[] args, Time timeAnnotation) throws AttributeNotFoundException, InvalidAttributeValueException, MBeanException, ReflectionException {
-        String timedName = getTimeName(m, as, args, timeAnnotation);
-        int timedMark = getTimeMark(as, args, timeAnnotation);
+    private void timeProceed(Timer timer, Object[] args) throws AttributeNotFoundException, InvalidAttributeValueException, MBeanException, ReflectionException {
+        Time timeAnnotation = timer.getAnnotation();
+        String timedName = timer.getName(args);
+        int timedMark = timer.getMark(args);
         if (timeAnnotation.verbose()) {
             log.debug("Timed name:" + timedName + "  Timed mark:" + timedMark);
         }
@@ -113,41 +99,4 @@ public class TimeInterceptor implements MethodInterceptor {
         meters.put(timedName, meter);
     }
 
-    private int getTimeMark(Annotation[][] as, Object[] args, Time timeAnnotation) {
-        int timedValue = 1;
-        if (timeAnnotation.mark() == 1) {
-            for (int i = 0; i < as.length; i++) {
-                Annotation[] annotations = as[i];
-                for (Annotation annotation2 : annotations) {
-                    if (annotation2 instanceof TimeValue && args[i] instanceof Integer) {
-                        timedValue = (Integer) args[i];
-                    }
-                }
-            }
-        }
-        return timedValue;
-    }
-
-    private String getTimeName(Method m, Annotation[][] as, Object[] args, Time timeAnnotation) {
-        String timedName = "";
-        if ("".equals(timeAnnotation.name())) {
-            timedName = m.getName();
-        } else {
-            if (timeAnnotation.name().startsWith("{") && timeAnnotation.name().endsWith("}")) {
-                for (int i = 0; i < as.length; i++) {
-                    Annotation[] annotations = as[i];
-                    for (Annotation annotation2 : annotations) {
-                        if (annotation2 instanceof TimeName && timeAnnotation.name().substring(1, timeAnnotation.name().length() - 1).equals(((TimeName) annotation2).value())
-                                && args[i] instanceof String) {
-                            timedName = (String) args[i];
-                        }
-                    }
-                }
-            } else {
-                timedName = timeAnnotation.name();
-            }
-        }
-        return timedName;
-    }
-
 }
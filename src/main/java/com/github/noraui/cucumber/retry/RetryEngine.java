@@ -0,0 +1,128 @@
+/**
+ * NoraUi is licensed under the license GNU AFFERO GENERAL PUBLIC LICENSE
+ *
+ * @author Nicolas HALLOUIN
+ * @author Stéphane GRILLON
+ */
+package com.github.noraui.cucumber.retry;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.DoubleSupplier;
+
+import org.slf4j.Logger;
+
+import com.github.noraui.log.annotation.Loggable;
+
+/**
+ * Runs an attempt until it succeeds or until its {@link RetryPolicy} is exhausted (attempts or deadline), waiting between attempts with a {@link RetryScheduler}.
+ */
+@Loggable
+public class RetryEngine {
+
+    static Logger log;
+
+    /**
+     * A retryable unit of work.
+     */
+    @FunctionalInterface
+    public interface Attempt {
+
+        /**
+         * @return the result of the attempt.
+         * @throws Throwable
+         *             if the attempt fails.
+         */
+        Object proceed() throws Throwable;
+
+    }
+
+    private final RetryScheduler scheduler;
+    private final DoubleSupplier random;
+
+    /**
+     * Creates a new {@link RetryEngine} using the default scheduler.
+     */
+    public RetryEngine() {
+        this(RetryScheduler.defaultScheduler());
+    }
+
+    /**
+     * Creates a new {@link RetryEngine}.
+     *
+     * @param scheduler
+     *            the scheduler used to read the time and to wait between attempts.
+     */
+    public RetryEngine(RetryScheduler scheduler) {
+        this(scheduler, () -> ThreadLocalRandom.current().nextDouble());
+    }
+
+    /**
+     * Creates a new {@link RetryEngine}.
+     *
+     * @param scheduler
+     *            the scheduler used to read the time and to wait between attempts.
+     * @param random
+     *            supplier of random numbers between 0 (inclusive) and 1 (exclusive) used for jitter.
+     */
+    public RetryEngine(RetryScheduler scheduler, DoubleSupplier random) {
+        this.scheduler = scheduler;
+        this.random = random;
+    }
+
+    /**
+     * Runs the attempt. The first policy handling a thrown exception decides if a new attempt is made. The exception is rethrown when no policy handles it or
+     * when the policy is exhausted.
+     *
+     * @param attempt
+     *            the unit of work.
+     * @param policies
+     *            retry policies (null ones are ignored).
+     * @return the result of the first successful attempt.
+     * @throws Throwable
+     *             the exception of the last attempt.
+     */
+    public Object execute(Attempt attempt, RetryPolicy... policies) throws Throwable {
+        final long start = scheduler.getTick();
+        int failedAttempts = 0;
+        while (true) {
+            try {
+                return attempt.proceed();
+            } catch (Throwable t) {
+                RetryPolicy policy = find(policies, t);
+                if (policy == null) {
+                    throw t;
+                }
+                failedAttempts++;
+                if (policy.isVerbose()) {
+                    log.info("NORAUI RetryEngine attempt n° {} failed: {}", failedAttempts, t.getMessage());
+                }
+                if (failedAttempts >= policy.getAttempts()) {
+                    throw t;
+                }
+                long delay = policy.getDelay(failedAttempts, random.getAsDouble());
+                // compared to the remaining time so that a delay close to Long.MAX_VALUE can not overflow
+                if (policy.getMaxDuration() != -1 && delay > policy.getMaxDuration() - (scheduler.getTick() - start)) {
+                    if (policy.isVerbose()) {
+                        log.info("NORAUI RetryEngine deadline of {} ms exceeded", TimeUnit.NANOSECONDS.toMillis(policy.getMaxDuration()));
+                    }
+                    throw t;
+                }
+                if (policy.isVerbose()) {
+                    log.info("NORAUI RetryEngine waiting {} ms", TimeUnit.NANOSECONDS.toMillis(delay));
+                }
+                scheduler.await(delay);
+            }
+        }
+    }
+
+    private static RetryPolicy find(RetryPolicy[] policies, Throwable t) {
+        for (RetryPolicy policy : policies) {
+            if (policy != null && policy.handles(t)) {
+                return policy;
+            }
+        }
+        return null;
+    }
+
+}
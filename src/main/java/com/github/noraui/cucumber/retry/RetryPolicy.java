@@ -0,0 +1,144 @@
+/**
+ * NoraUi is licensed under the license GNU AFFERO GENERAL PUBLIC LICENSE
+ *
+ * @author Nicolas HALLOUIN
+ * @author Stéphane GRILLON
+ */
+package com.github.noraui.cucumber.retry;
+
+import java.util.concurrent.TimeUnit;
+
+import com.github.noraui.cucumber.annotation.RetryOnFailure;
+import com.github.noraui.cucumber.annotation.RetryOnWarning;
+import com.github.noraui.exception.FailureException;
+import com.github.noraui.exception.WarningException;
+
+/**
+ * Immutable retry settings of a step, built from {@link RetryOnFailure} or {@link RetryOnWarning}. All durations are in nanoseconds.
+ */
+public final class RetryPolicy {
+
+    private final Class<? extends Throwable>[] retryOn;
+    private final int attempts;
+    private final long delay;
+    private final double multiplier;
+    private final long maxDelay;
+    private final boolean jitter;
+    private final long maxDuration;
+    private final boolean verbose;
+
+    /**
+     * @param retryOn
+     *            exception types which trigger a retry.
+     * @param attempts
+     *            maximum number of attempts.
+     * @param delay
+     *            delay before the second attempt.
+     * @param multiplier
+     *            multiplier applied to the delay after each attempt.
+     * @param maxDelay
+     *            maximum delay between two attempts (-1 means no maximum).
+     * @param jitter
+     *            randomize each delay between the half and the whole computed delay.
+     * @param maxDuration
+     *            maximum total time of all attempts (-1 means no deadline).
+     * @param unit
+     *            time unit of delay, maxDelay and maxDuration.
+     * @param verbose
+     *            log each attempt.
+     */
+    public RetryPolicy(Class<? extends Throwable>[] retryOn, int attempts, long delay, double multiplier, long maxDelay, boolean jitter, long maxDuration, TimeUnit unit, boolean verbose) {
+        this.retryOn = retryOn.clone();
+        this.attempts = attempts;
+        this.delay = unit.toNanos(delay);
+        this.multiplier = multiplier < 1 ? 1 : multiplier;
+        this.maxDelay = maxDelay < 0 ? -1 : unit.toNanos(maxDelay);
+        this.jitter = jitter;
+        this.maxDuration = maxDuration < 0 ? -1 : unit.toNanos(maxDuration);
+        this.verbose = verbose;
+    }
+
+    /**
+     * @param annotation
+     *            retry on failure annotation (can be null).
+     * @return the policy retrying on {@link FailureException} or null if annotation is null.
+     */
+    public static RetryPolicy of(RetryOnFailure annotation) {
+        if (annotation == null) {
+            return null;
+        }
+        return new RetryPolicy(concat(FailureException.class, annotation.retryOn()), annotation.attempts(), annotation.delay(), annotation.multiplier(), annotation.maxDelay(), annotation.jitter(),
+                annotation.maxDuration(), annotation.unit(), annotation.verbose());
+    }
+
+    /**
+     * @param annotation
+     *            retry on warning annotation (can be null).
+     * @return the policy retrying on {@link WarningException} or null if annotation is null.
+     */
+    public static RetryPolicy of(RetryOnWarning annotation) {
+        if (annotation == null) {
+            return null;
+        }
+        return new RetryPolicy(concat(WarningException.class, annotation.retryOn()), annotation.attempts(), annotation.delay(), annotation.multiplier(), annotation.maxDelay(), annotation.jitter(),
+                annotation.maxDuration(), annotation.unit(), annotation.verbose());
+    }
+
+    /**
+     * @param t
+     *            thrown by an attempt.
+     * @return true if this policy retries on t.
+     */
+    public boolean handles(Throwable t) {
+        for (Class<? extends Throwable> type : retryOn) {
+            if (type.isInstance(t)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Computes the delay to wait after a failed attempt.
+     *
+     * @param failedAttempts
+     *            number of failed attempts (1 or more).
+     * @param random
+     *            a random number between 0 (inclusive) and 1 (exclusive), only used with jitter.
+     * @return the delay in nanoseconds.
+     */
+    public long getDelay(int failedAttempts, double random) {
+        double d = delay * Math.pow(multiplier, failedAttempts - 1.0);
+        if (maxDelay != -1 && d > maxDelay) {
+            d = maxDelay;
+        }
+        if (jitter) {
+            d = d / 2 + d / 2 * random;
+        }
+        return d >= Long.MAX_VALUE ? Long.MAX_VALUE : (long) d;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    /**
+     * @return maximum total time of all attempts in nanoseconds (-1 means no deadline).
+     */
+    public long getMaxDuration() {
+        return maxDuration;
+    }
+
+    public boolean isVerbose() {
+        return verbose;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Class<? extends Throwable>[] concat(Class<? extends Throwable> first, Class<? extends Throwable>[] others) {
+        Class<? extends Throwable>[] types = new Class[others.length + 1];
+        types[0] = first;
+        System.arraycopy(others, 0, types, 1, others.length);
+        return types;
+    }
+
+}
@@ -0,0 +1,77 @@
+/**
+ * NoraUi is licensed under the license GNU AFFERO GENERAL PUBLIC LICENSE
+ *
+ * @author Nicolas HALLOUIN
+ * @author Stéphane GRILLON
+ */
+package com.github.noraui.cucumber.retry;
+
+import java.util.concurrent.locks.LockSupport;
+
+import com.github.noraui.cucumber.metrics.core.impl.Clock;
+
+/**
+ * An abstraction for how the {@link RetryEngine} reads the time and waits between two attempts.
+ */
+public abstract class RetryScheduler {
+
+    /**
+     * Returns the current time tick.
+     *
+     * @return time tick in nanoseconds
+     */
+    public abstract long getTick();
+
+    /**
+     * Waits before the next attempt. Only the calling thread waits: no lock is held and other scenarios running in parallel are not blocked.
+     *
+     * @param nanos
+     *            time to wait in nanoseconds.
+     * @throws InterruptedException
+     *             if the calling thread is interrupted while waiting.
+     */
+    public abstract void await(long nanos) throws InterruptedException;
+
+    private static final RetryScheduler DEFAULT = new ParkingRetryScheduler(Clock.defaultClock());
+
+    /**
+     * The default scheduler to use.
+     *
+     * @return the default {@link RetryScheduler} instance
+     * @see RetryScheduler.ParkingRetryScheduler
+     */
+    public static RetryScheduler defaultScheduler() {
+        return DEFAULT;
+    }
+
+    /**
+     * A scheduler parking the calling thread with {@link LockSupport#parkNanos(long)} until the delay has elapsed on the given {@link Clock}.
+     */
+    public static class ParkingRetryScheduler extends RetryScheduler {
+
+        private final Clock clock;
+
+        public ParkingRetryScheduler(Clock clock) {
+            this.clock = clock;
+        }
+
+        @Override
+        public long getTick() {
+            return clock.getTick();
+        }
+
+        @Override
+        public void await(long nanos) throws InterruptedException {
+            final long deadline = clock.getTick() + nanos;
+            long remaining = nanos;
+            while (remaining > 0) {
+                LockSupport.parkNanos(this, remaining);
+                if (Thread.interrupted()) {
+                    throw new InterruptedException();
+                }
+                remaining = deadline - clock.getTick();
+            }
+        }
+    }
+
+}
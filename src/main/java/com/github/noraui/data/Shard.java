@@ -0,0 +1,156 @@
+/**
+ * NoraUi is licensed under the license GNU AFFERO GENERAL PUBLIC LICENSE
+ *
+ * @author Nicolas HALLOUIN
+ * @author Stéphane GRILLON
+ */
+package com.github.noraui.data;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.github.noraui.exception.TechnicalException;
+import com.github.noraui.utils.Messages;
+
+/**
+ * Slice of the examples run by one JVM when the execution is sharded with {@code -Dnoraui.shard=i/N} (1 &lt;= i &lt;= N).
+ * Examples are dealt round-robin by their position in the data file (line without model, rank of the model with model), so that a same data file is always
+ * partitioned the same way and each shard gets a share of every scenario.
+ * The features injected with the examples of a shard are written in the features folder of the shard (see {@link #getFeaturesFolder()}) and the output data
+ * files in a sub folder of the data out folder, so the N shards can run at the same time in one workspace.
+ */
+public final class Shard {
+
+    /**
+     * System property selecting the shard of the JVM ({@code index/total}, ex: 2/4).
+     */
+    public static final String SHARD_PROPERTY = "noraui.shard";
+
+    /**
+     * Prefix of the output folder of a shard (under the data out folder).
+     */
+    public static final String SHARD_FOLDER_PREFIX = "shard-";
+
+    /**
+     * System property overriding the folder holding the features of the shards (a sub folder by shard).
+     */
+    public static final String SHARD_FEATURES_PROPERTY = "noraui.shard.features";
+
+    /**
+     * Default folder holding the features of the shards, relative to the working directory.
+     */
+    public static final String DEFAULT_SHARD_FEATURES_FOLDER = "target" + File.separator + "noraui-shards";
+
+    private final int index;
+    private final int total;
+
+    public Shard(int index, int total) throws TechnicalException {
+        if (total < 1 || index < 1 || index > total) {
+            throw new TechnicalException(Messages.format(Messages.getMessage(TechnicalException.TECHNICAL_ERROR_MESSAGE_WRONG_SHARD), index + "/" + total));
+        }
+        this.index = index;
+        this.total = total;
+    }
+
+    /**
+     * Parses a shard definition.
+     *
+     * @param value
+     *            shard as {@code index/total} (ex: 2/4).
+     * @return the shard.
+     * @throws TechnicalException
+     *             if the value is not {@code index/total} with 1 &lt;= index &lt;= total.
+     */
+    public static Shard parse(String value) throws TechnicalException {
+        final String[] parts = value.trim().split("/");
+        try {
+            if (parts.length == 2) {
+                return new Shard(Integer.parseInt(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+            }
+        } catch (final NumberFormatException e) {
+            throw new TechnicalException(Messages.format(Messages.getMessage(TechnicalException.TECHNICAL_ERROR_MESSAGE_WRONG_SHARD), value), e);
+        }
+        throw new TechnicalException(Messages.format(Messages.getMessage(TechnicalException.TECHNICAL_ERROR_MESSAGE_WRONG_SHARD), value));
+    }
+
+    /**
+     * @return the shard of this JVM (see {@link #SHARD_PROPERTY}) or null if the execution is not sharded.
+     * @throws TechnicalException
+     *             if the shard property is wrong.
+     */
+    public static Shard current() throws TechnicalException {
+        final String value = System.getProperty(SHARD_PROPERTY);
+        return value == null || "".equals(value.trim()) ? null : parse(value);
+    }
+
+    /**
+     * @param position
+     *            position of an example in its data file (starting at 1).
+     * @return true if the example is run by this shard.
+     */
+    public boolean owns(int position) {
+        return (position - 1) % total == index - 1;
+    }
+
+    /**
+     * Keeps the data indexes run by this shard. The data lines are renumbered from 1 in the order of the examples injected in the feature of this shard
+     * while the indexes still target the lines of the data file.
+     *
+     * @param indexData
+     *            data indexes of all examples, in the order of the data file.
+     * @return data indexes of the examples of this shard.
+     */
+    public List<DataIndex> select(List<DataIndex> indexData) {
+        final List<DataIndex> selected = new ArrayList<>();
+        for (int position = 1; position <= indexData.size(); position++) {
+            if (owns(position)) {
+                selected.add(new DataIndex(selected.size() + 1, indexData.get(position - 1).getIndexes()));
+            }
+        }
+        return selected;
+    }
+
+    /**
+     * @return name of the output folder of this shard (ex: shard-2-of-4).
+     */
+    public String getFolderName() {
+        return getFolderName(index, total);
+    }
+
+    /**
+     * @param index
+     *            index of the shard (starting at 1).
+     * @param total
+     *            number of shards.
+     * @return name of the output folder of the shard (ex: shard-2-of-4).
+     */
+    public static String getFolderName(int index, int total) {
+        return SHARD_FOLDER_PREFIX + index + "-of-" + total;
+    }
+
+    /**
+     * Folder where ScenarioInitiator writes the features injected with the examples of this shard, keeping their path relative to the resources folder
+     * (ex: target/noraui-shards/shard-2-of-4/steps/hello.feature). Cucumber of the shard must run the features of this folder
+     * (ex: -Dcucumber.options="target/noraui-shards/shard-2-of-4").
+     *
+     * @return the features folder of this shard.
+     */
+    public File getFeaturesFolder() {
+        return new File(System.getProperty(SHARD_FEATURES_PROPERTY, DEFAULT_SHARD_FEATURES_FOLDER), getFolderName());
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    @Override
+    public String toString() {
+        return index + "/" + total;
+    }
+
+}
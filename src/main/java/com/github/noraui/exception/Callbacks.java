@@ -6,12 +6,13 @@
  */
 package com.github.noraui.exception;
 
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.HashMap;
 
 import org.slf4j.Logger;
 
+import com.github.noraui.cucumber.injector.NoraUiInjector;
+import com.github.noraui.cucumber.interceptor.MethodMetadata;
 import com.github.noraui.exception.Callbacks.Callback;
 import com.github.noraui.log.annotation.Loggable;
 import com.github.noraui.utils.Context;
@@ -85,17 +86,32 @@ public class Callbacks extends HashMap<String, Callback> {
         }
 
         /**
-         * Invokes the callback method
+         * Invokes the callback method on the instance of its class for the scenario of the current context (the callbacks are shared by the worker
+         * contexts, see {@link Context#startWorker()}).
          */
         public void call() {
             try {
-                method.invoke(objectClass.newInstance(), parameters);
-            } catch (final InvocationTargetException ite) {
-                log.error("error InvocationTargetException", ite);
-            } catch (final Exception e) {
+                MethodMetadata.of(method).invoke(Context.getScenarioInstance(objectClass, Callbacks::newTarget), parameters);
+            } catch (final Throwable e) {
                 log.error("error Callback.call()", e);
             }
         }
     }
 
+    /**
+     * @param clazz
+     *            class of a callback.
+     * @return a new instance of the class, created by the injector if there is one (it is then also the instance used by the steps of the scenario).
+     */
+    private static Object newTarget(Class<?> clazz) {
+        if (NoraUiInjector.getNoraUiInjectorSource() != null) {
+            return NoraUiInjector.getNoraUiInjectorSource().getInstance(clazz);
+        }
+        try {
+            return clazz.newInstance();
+        } catch (InstantiationException | IllegalAccessException e) {
+            throw new IllegalStateException("Callback class " + clazz.getName() + " can not be instantiated", e);
+        }
+    }
+
 }
@@ -33,6 +33,11 @@ public abstract class Result {
 
     private static final String PARTIAL_SUCCESS_MESSAGE = "PARTIAL_SUCCESS_MESSAGE";
 
+    /**
+     * Screen service shared by all results.
+     */
+    private static final ScreenService SCREEN_SERVICE = new ScreenServiceImpl();
+
     private Result() {
     }
 
@@ -68,7 +73,7 @@ public abstract class Result {
     }
 
     public static class Warning<O> extends Result {
-        private ScreenService screenService = new ScreenServiceImpl();
+        private final ScreenService screenService = SCREEN_SERVICE;
 
         private final O object;
 
@@ -117,7 +122,7 @@ public abstract class Result {
     }
 
     public static class Failure<O> extends Result {
-        private ScreenService screenService = new ScreenServiceImpl();
+        private final ScreenService screenService = SCREEN_SERVICE;
 
         private final O error;
 
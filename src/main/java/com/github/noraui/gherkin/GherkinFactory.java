@@ -24,6 +24,7 @@ import java.util.regex.Pattern;
 
 import org.slf4j.Logger;
 
+import com.github.noraui.data.Shard;
 import com.github.noraui.log.annotation.Loggable;
 import com.github.noraui.utils.Context;
 
@@ -46,6 +47,9 @@ public class GherkinFactory {
     }
 
     /**
+     * When the execution is sharded, the feature is not changed but written with the examples in the features folder of the shard (see
+     * {@link Shard#getFeaturesFolder()}).
+     *
      * @param filename
      *            name of input Gherkin file.
      * @param examplesTable
@@ -57,6 +61,10 @@ public class GherkinFactory {
             if (!examplesTable.isEmpty()) {
                 final Path filePath = getFeaturePath(filename);
                 final String fileContent = new String(Files.readAllBytes(filePath), DEFAULT_ENDODING);
+                final Path targetPath = getRunFeaturePath(filename);
+                if (!targetPath.equals(filePath)) {
+                    Files.createDirectories(targetPath.getParent());
+                }
                 String lang = getFeatureLanguage(fileContent);
                 log.info(lang);
                 StringBuilder examplesString;
@@ -78,7 +86,7 @@ public class GherkinFactory {
                             "$1" + examplesString.toString() + "$2");
                 }
 
-                try (BufferedWriter bw = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(filePath.toString()), DEFAULT_ENDODING));) {
+                try (BufferedWriter bw = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(targetPath.toString()), DEFAULT_ENDODING));) {
                     int i = 0;
                     bw.write(scenarioOutlines[i]);
 
@@ -113,8 +121,8 @@ public class GherkinFactory {
 
     public static String[] getExamples(String filename) {
         try {
-            final Path filePath = getFeaturePath(filename);
-            final String fileContent = new String(Files.readAllBytes(filePath), DEFAULT_ENDODING);
+            final Path filePath = getRunFeaturePath(filename);
+            final String fileContent = new String(Files.readAllBytes(filePath.toFile().exists() ? filePath : getFeaturePath(filename)), DEFAULT_ENDODING);
             final Pattern pattern = Pattern.compile(DATA + "([\\s\\S]*)" + DATA_END);
             final Matcher matcher = pattern.matcher(fileContent);
             String lines = "";
@@ -131,10 +139,22 @@ public class GherkinFactory {
     }
 
     private static Path getFeaturePath(String filename) {
+        return Paths.get(Context.getResourcesPath() + getFeatureRelativePath(filename));
+    }
+
+    /**
+     * @param filename
+     *            name of input Gherkin file.
+     * @return path of the feature run by Cucumber: the copy of the shard when the execution is sharded, else the feature of the resources folder.
+     */
+    private static Path getRunFeaturePath(String filename) {
+        final Shard shard = Context.getShard();
+        return shard == null ? getFeaturePath(filename) : Paths.get(shard.getFeaturesFolder().getPath(), getFeatureRelativePath(filename));
+    }
+
+    private static String getFeatureRelativePath(String filename) {
         final int indexOfUnderscore = filename.lastIndexOf('_');
-        final String path = indexOfUnderscore != -1
-                ? Context.getResourcesPath() + Context.getScenarioProperty(filename.substring(0, indexOfUnderscore)) + filename.substring(0, indexOfUnderscore) + ".feature"
-                : Context.getResourcesPath() + Context.getScenarioProperty(filename) + filename + ".feature";
-        return Paths.get(path);
+        return indexOfUnderscore != -1 ? Context.getScenarioProperty(filename.substring(0, indexOfUnderscore)) + filename.substring(0, indexOfUnderscore) + ".feature"
+                : Context.getScenarioProperty(filename) + filename + ".feature";
     }
 }
@@ -6,10 +6,27 @@
  */
 package com.github.noraui.gherkin;
 
+import java.util.regex.Pattern;
+
 import com.github.noraui.utils.Context;
+import com.google.common.base.Ascii;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 
 public class GherkinStepCondition {
 
+    /**
+     * Maximum number of compiled expected expressions kept in memory.
+     */
+    private static final int PATTERNS_MAXIMUM_SIZE = 512;
+
+    private static final String REGEX_METACHARACTERS = "\\^$.|?*+()[]{}";
+
+    /**
+     * Compiled expected expressions, least recently used ones are evicted first.
+     */
+    private static final Cache<String, Pattern> PATTERNS = CacheBuilder.newBuilder().maximumSize(PATTERNS_MAXIMUM_SIZE).build();
+
     private String key;
     private String expected;
     private String actual;
@@ -47,12 +64,37 @@ public class GherkinStepCondition {
         this.actual = actual;
     }
 
+    /**
+     * Checks if the actual value (or the value saved in the {@link Context} with the actual key) matches the expected regular expression, ignoring case.
+     *
+     * @return true if the condition is verified.
+     */
     public boolean checkCondition() {
-        String actu = Context.getValue(this.actual) != null ? Context.getValue(this.actual) : this.actual;
+        String value = Context.getValue(this.actual);
+        String actu = value != null ? value : this.actual;
         if (actu == null) {
             return false;
         }
-        return actu.matches("(?i)" + this.expected);
+        String regex = String.valueOf(this.expected);
+        if (isLiteral(regex)) {
+            // (?i) without UNICODE_CASE only ignores the case of US-ASCII characters.
+            return Ascii.equalsIgnoreCase(actu, regex);
+        }
+        Pattern pattern = PATTERNS.getIfPresent(regex);
+        if (pattern == null) {
+            pattern = Pattern.compile(regex, Pattern.CASE_INSENSITIVE);
+            PATTERNS.put(regex, pattern);
+        }
+        return pattern.matcher(actu).matches();
+    }
+
+    private static boolean isLiteral(String regex) {
+        for (int i = 0; i < regex.length(); i++) {
+            if (REGEX_METACHARACTERS.indexOf(regex.charAt(i)) != -1) {
+                return false;
+            }
+        }
+        return true;
     }
 
 }
@@ -0,0 +1,213 @@
+/**
+ * NoraUi is licensed under the license GNU AFFERO GENERAL PUBLIC LICENSE
+ *
+ * @author Nicolas HALLOUIN
+ * @author Stéphane GRILLON
+ */
+package com.github.noraui.gherkin;
+
+import java.lang.reflect.Method;
+import java.util.AbstractMap.SimpleEntry;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+
+import com.github.noraui.log.annotation.Loggable;
+import com.github.noraui.service.CucumberExpressionService;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import io.cucumber.cucumberexpressions.Argument;
+import io.cucumber.cucumberexpressions.Expression;
+
+/**
+ * Index of the Cucumber step definitions used to find the method matching a Gherkin step text (looped steps for example).
+ * Expressions are compiled once by the {@link CucumberExpressionService}, candidates are pruned with a trie of the literal prefixes of the expressions and each resolved step text is memorized.
+ * When several expressions match a text, the first one in the iteration order of the step definitions wins.
+ */
+@Loggable
+public final class StepDefinitionIndex {
+
+    static Logger log;
+
+    /**
+     * Maximum number of step texts memorized.
+     */
+    private static final int RESOLVED_MAXIMUM_SIZE = 1024;
+
+    /**
+     * Characters of a Cucumber expression which are not literal text (parameter, optional text, alternative text and escape).
+     */
+    private static final String SPECIAL_CHARACTERS = "{(/\\";
+
+    private static volatile StepDefinitionIndex current;
+
+    private final Map<String, Method> cucumberMethods;
+    private final CucumberExpressionService cucumberExpressionService;
+    private final Node root = new Node();
+    private final Cache<String, Optional<Definition>> resolved = CacheBuilder.newBuilder().maximumSize(RESOLVED_MAXIMUM_SIZE).build();
+
+    StepDefinitionIndex(Map<String, Method> cucumberMethods, CucumberExpressionService cucumberExpressionService) {
+        this.cucumberMethods = cucumberMethods;
+        this.cucumberExpressionService = cucumberExpressionService;
+        int order = 0;
+        for (Entry<String, Method> entry : cucumberMethods.entrySet()) {
+            root.add(getLiteralPrefix(entry.getKey()), new Definition(order++, entry.getKey(), entry.getValue()));
+        }
+    }
+
+    /**
+     * Gets the index of step definitions, built again only when the step definitions change.
+     *
+     * @param cucumberMethods
+     *            all step definitions (expression of the step annotation to method).
+     * @param cucumberExpressionService
+     *            service compiling the expressions.
+     * @return the index of these step definitions.
+     */
+    public static StepDefinitionIndex of(Map<String, Method> cucumberMethods, CucumberExpressionService cucumberExpressionService) {
+        StepDefinitionIndex index = current;
+        if (index == null || index.cucumberMethods != cucumberMethods || index.cucumberExpressionService != cucumberExpressionService) {
+            index = new StepDefinitionIndex(cucumberMethods, cucumberExpressionService);
+            current = index;
+        }
+        return index;
+    }
+
+    /**
+     * Finds the step definition matching a Gherkin step text.
+     *
+     * @param text
+     *            present in Gherkin file.
+     * @return the method and its arguments (can be 0) if match OR null if no match.
+     */
+    public SimpleEntry<Method, List<?>> find(String text) {
+        Optional<Definition> definition = resolved.getIfPresent(text);
+        if (definition != null) {
+            return definition.isPresent() ? new SimpleEntry<>(definition.get().method, definition.get().match(text)) : null;
+        }
+        for (Definition candidate : getCandidates(text)) {
+            log.debug("Method: {}", candidate.expressionString);
+            List<Object> params = candidate.match(text);
+            if (params != null) {
+                resolved.put(text, Optional.of(candidate));
+                return new SimpleEntry<>(candidate.method, params);
+            }
+            log.debug("No match for [{}], check next...", candidate.method);
+        }
+        resolved.put(text, Optional.empty());
+        return null;
+    }
+
+    /**
+     * Tests all step definitions against a Gherkin step text.
+     *
+     * @param text
+     *            present in Gherkin file.
+     * @return list of arguments (can be 0) of each matching step definition expression, in the iteration order of the step definitions (empty if no match).
+     */
+    public Map<String, List<Object>> matchAll(String text) {
+        Map<String, List<Object>> matches = new LinkedHashMap<>();
+        for (Definition candidate : getCandidates(text)) {
+            List<Object> params = candidate.match(text);
+            if (params != null) {
+                matches.put(candidate.expressionString, params);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * @param text
+     *            present in Gherkin file.
+     * @return the step definitions whose literal prefix starts the text, in the iteration order of the step definitions.
+     */
+    List<Definition> getCandidates(String text) {
+        List<Definition> candidates = new ArrayList<>(root.definitions);
+        Node node = root;
+        for (int i = 0; i < text.length() && node != null; i++) {
+            node = node.children.get(text.charAt(i));
+            if (node != null) {
+                candidates.addAll(node.definitions);
+            }
+        }
+        candidates.sort(Comparator.comparingInt(d -> d.order));
+        return candidates;
+    }
+
+    /**
+     * Gets the literal text starting an expression. The prefix stops at the beginning of the word holding the first special character because alternative texts
+     * apply to the whole word.
+     *
+     * @param expressionString
+     *            source in cucumber annotation.
+     * @return the literal prefix (can be empty).
+     */
+    static String getLiteralPrefix(String expressionString) {
+        for (int i = 0; i < expressionString.length(); i++) {
+            if (SPECIAL_CHARACTERS.indexOf(expressionString.charAt(i)) != -1) {
+                return expressionString.substring(0, expressionString.lastIndexOf(' ', i) + 1);
+            }
+        }
+        return expressionString;
+    }
+
+    /**
+     * A step definition with its expression, compiled on first use.
+     */
+    final class Definition {
+
+        private final int order;
+        private final String expressionString;
+        private final Method method;
+        private volatile Expression expression;
+
+        private Definition(int order, String expressionString, Method method) {
+            this.order = order;
+            this.expressionString = expressionString;
+            this.method = method;
+        }
+
+        Method getMethod() {
+            return method;
+        }
+
+        private List<Object> match(String text) {
+            Expression e = expression;
+            if (e == null) {
+                e = cucumberExpressionService.getExpression(expressionString);
+                expression = e;
+            }
+            List<Argument<?>> args = e.match(text);
+            return args == null ? null : args.stream().map(Argument::getValue).collect(Collectors.toList());
+        }
+
+    }
+
+    /**
+     * A node of the trie of literal prefixes.
+     */
+    private static final class Node {
+
+        private final Map<Character, Node> children = new HashMap<>();
+        private final List<Definition> definitions = new ArrayList<>();
+
+        private void add(String prefix, Definition definition) {
+            Node node = this;
+            for (int i = 0; i < prefix.length(); i++) {
+                node = node.children.computeIfAbsent(prefix.charAt(i), c -> new Node());
+            }
+            node.definitions.add(definition);
+        }
+
+    }
+
+}
@@ -0,0 +1,482 @@
+/**
+ * NoraUi is licensed under the license GNU AFFERO GENERAL PUBLIC LICENSE
+ *
+ * @author Nicolas HALLOUIN
+ * @author Stéphane GRILLON
+ */
+package com.github.noraui.indus;
+
+import static com.github.noraui.Constants.DEFAULT_ENDODING;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.FilenameUtils;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.ss.usermodel.WorkbookFactory;
+import org.slf4j.Logger;
+
+import com.github.noraui.data.csv.CsvDataProvider;
+import com.github.noraui.exception.TechnicalException;
+import com.github.noraui.log.annotation.Loggable;
+import com.github.noraui.service.CryptoService;
+import com.github.noraui.utils.Messages;
+import com.opencsv.CSVParserBuilder;
+import com.opencsv.CSVReader;
+import com.opencsv.CSVReaderBuilder;
+import com.opencsv.CSVWriter;
+
+/**
+ * Encrypts, decrypts or re-encrypts with a new crypto key (key rotation) the selected columns of a whole data file: CSV, Excel (first sheet) or Gherkin
+ * feature (lines between #DATA and #END). The first line of the data is the header naming the columns.
+ * The cells are transformed in parallel chunks of rows by a fork-join pool, then the file is written in a temporary file that replaces the data file, so
+ * that the data file is never left half transformed. Only cells which need it are transformed (plain cells are encrypted, encrypted cells are decrypted).
+ */
+@Loggable
+public final class BulkCrypto {
+
+    static Logger log;
+
+    /**
+     * Rows transformed by a fork-join task without splitting it.
+     */
+    static final int CHUNK_ROWS = 512;
+
+    private static final String FEATURE_TYPE = "feature";
+    private static final String DATA = "#DATA";
+    private static final String DATA_END = "#END";
+    private static final String GHERKIN_SEPARATOR = "|";
+
+    private final CryptoService cryptoService;
+    private final String decryptKey;
+    private final String encryptKey;
+    private final int parallelism;
+
+    private BulkCrypto(CryptoService cryptoService, String decryptKey, String encryptKey, int parallelism) {
+        this.cryptoService = cryptoService;
+        this.decryptKey = decryptKey;
+        this.encryptKey = encryptKey;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * @param cryptoService
+     *            service encrypting the cells.
+     * @param cryptoKey
+     *            crypto key.
+     * @return an engine encrypting the plain cells.
+     */
+    public static BulkCrypto encrypt(CryptoService cryptoService, String cryptoKey) {
+        return new BulkCrypto(cryptoService, null, cryptoKey, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param cryptoService
+     *            service decrypting the cells.
+     * @param cryptoKey
+     *            crypto key.
+     * @return an engine decrypting the encrypted cells.
+     */
+    public static BulkCrypto decrypt(CryptoService cryptoService, String cryptoKey) {
+        return new BulkCrypto(cryptoService, cryptoKey, null, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param cryptoService
+     *            service decrypting and encrypting the cells.
+     * @param oldCryptoKey
+     *            crypto key of the encrypted cells.
+     * @param newCryptoKey
+     *            new crypto key.
+     * @return an engine encrypting again the encrypted cells with a new crypto key.
+     */
+    public static BulkCrypto rotate(CryptoService cryptoService, String oldCryptoKey, String newCryptoKey) {
+        return new BulkCrypto(cryptoService, oldCryptoKey, newCryptoKey, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param threads
+     *            number of threads transforming the cells.
+     * @return a copy of this engine using the given number of threads.
+     */
+    public BulkCrypto withParallelism(int threads) {
+        return new BulkCrypto(cryptoService, decryptKey, encryptKey, Math.max(1, threads));
+    }
+
+    /**
+     * Transforms the selected columns of a data file and replaces it.
+     *
+     * @param file
+     *            CSV, Excel or Gherkin data file.
+     * @param columns
+     *            names of the columns to transform (as written in the header).
+     * @return figures of the transformation.
+     * @throws TechnicalException
+     *             is thrown if the file can not be read or written, or if a cell can not be encrypted or decrypted.
+     */
+    public Report transform(File file, Collection<String> columns) throws TechnicalException {
+        final long start = System.nanoTime();
+        final String extension = FilenameUtils.getExtension(file.getName());
+        final Report report;
+        try {
+            if (CsvDataProvider.CSV_TYPE.equals(extension)) {
+                report = transformCsv(file, columns);
+            } else if (extension.startsWith("xls")) {
+                report = transformExcel(file, columns);
+            } else if (FEATURE_TYPE.equals(extension)) {
+                report = transformGherkin(file, columns);
+            } else {
+                throw new TechnicalException(Messages.getMessage(TechnicalException.TECHNICAL_ERROR_MESSAGE_DATA_IOEXCEPTION));
+            }
+        } catch (final IOException e) {
+            throw new TechnicalException(Messages.getMessage(TechnicalException.TECHNICAL_ERROR_MESSAGE_DATA_IOEXCEPTION), e);
+        }
+        report.elapsed = System.nanoTime() - start;
+        log.info("{}", report);
+        return report;
+    }
+
+    /**
+     * Transforms the selected cells of the data rows (the header excluded) in parallel.
+     *
+     * @param rows
+     *            rows of the data file, header first.
+     * @param columns
+     *            names of the columns to transform.
+     * @param offset
+     *            index of the first column of the data in a row (1 for the Gherkin rows starting by an empty cell).
+     * @param report
+     *            report updated with the number of rows and cells.
+     * @throws TechnicalException
+     *             if a selected column is missing or if a cell can not be encrypted or decrypted.
+     */
+    void transformRows(List<String[]> rows, Collection<String> columns, int offset, Report report) throws TechnicalException {
+        if (rows.isEmpty()) {
+            return;
+        }
+        final List<String> header = Arrays.asList(rows.get(0));
+        final int[] indexes = new int[columns.size()];
+        int i = 0;
+        for (final String column : columns) {
+            indexes[i] = header.subList(offset, header.size()).indexOf(column) + offset;
+            if (indexes[i] < offset) {
+                log.error("Column [{}] not found in the header {}", column, header);
+                throw new TechnicalException(Messages.getMessage(TechnicalException.TECHNICAL_ERROR_MESSAGE_DATA_IOEXCEPTION));
+            }
+            i++;
+        }
+        final List<String[]> data = rows.subList(1, rows.size());
+        final ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            report.transformed += pool.invoke(new Chunk(data, 0, data.size(), indexes));
+        } catch (final CellException e) {
+            log.error("Cell [{}] of row {} can not be transformed", header.get(e.column), e.row);
+            throw e.getCause();
+        } finally {
+            // the worker threads, and the decrypted values they may hold, do not outlive the transformation
+            pool.shutdown();
+        }
+        report.rows += data.size();
+        report.cells += (long) data.size() * indexes.length;
+    }
+
+    /**
+     * @param value
+     *            a cell.
+     * @return the transformed cell, or the same cell if it does not need to be transformed.
+     * @throws TechnicalException
+     *             if the cell can not be encrypted or decrypted.
+     */
+    String transformCell(String value) throws TechnicalException {
+        if (value == null || "".equals(value)) {
+            return value;
+        }
+        final boolean encrypted = value.startsWith(cryptoService.getPrefix());
+        if (decryptKey == null) {
+            return encrypted ? value : cryptoService.encrypt(encryptKey, value);
+        }
+        if (!encrypted) {
+            return value;
+        }
+        final String text = cryptoService.decrypt(decryptKey, value);
+        return encryptKey == null ? text : cryptoService.encrypt(encryptKey, text);
+    }
+
+    private Report transformCsv(File file, Collection<String> columns) throws IOException, TechnicalException {
+        final Report report = new Report(file);
+        final List<String[]> rows;
+        try (CSVReader reader = new CSVReaderBuilder(new InputStreamReader(new FileInputStream(file), DEFAULT_ENDODING))
+                .withCSVParser(new CSVParserBuilder().withSeparator(CsvDataProvider.CSV_CHAR_SEPARATOR).build()).build();) {
+            rows = reader.readAll();
+        }
+        transformRows(rows, columns, 0, report);
+        if (report.transformed > 0) {
+            replace(file, out -> {
+                try (CSVWriter writer = new CSVWriter(new OutputStreamWriter(out, DEFAULT_ENDODING), CsvDataProvider.CSV_CHAR_SEPARATOR, CsvDataProvider.CSV_CHAR_QUOTE,
+                        CsvDataProvider.CSV_CHAR_ESCAPE, CsvDataProvider.CSV_CHAR_LINEEND);) {
+                    writer.writeAll(rows);
+                }
+            });
+        }
+        return report;
+    }
+
+    private Report transformExcel(File file, Collection<String> columns) throws IOException, TechnicalException {
+        final Report report = new Report(file);
+        try (Workbook workbook = WorkbookFactory.create(new ByteArrayInputStream(FileUtils.readFileToByteArray(file)));) {
+            final Sheet sheet = workbook.getSheetAt(0);
+            final DataFormatter formatter = new DataFormatter();
+            final int width = sheet.getRow(0) == null ? 0 : Math.max(0, sheet.getRow(0).getLastCellNum());
+            final List<String[]> rows = new ArrayList<>();
+            for (int i = 0; i <= sheet.getLastRowNum(); i++) {
+                final Row row = sheet.getRow(i);
+                final String[] values = new String[width];
+                for (int j = 0; j < width; j++) {
+                    values[j] = row == null ? "" : formatter.formatCellValue(row.getCell(j));
+                }
+                rows.add(values);
+            }
+            final List<String[]> original = new ArrayList<>();
+            for (final String[] row : rows) {
+                original.add(row.clone());
+            }
+            transformRows(rows, columns, 0, report);
+            if (report.transformed > 0) {
+                // POI is not thread safe, the transformed cells are written back by this thread only
+                for (int i = 1; i < rows.size(); i++) {
+                    for (int j = 0; j < width; j++) {
+                        if (!rows.get(i)[j].equals(original.get(i)[j])) {
+                            final Row row = sheet.getRow(i);
+                            final Cell cell = row.getCell(j) == null ? row.createCell(j) : row.getCell(j);
+                            cell.setCellValue(rows.get(i)[j]);
+                        }
+                    }
+                }
+                replace(file, workbook::write);
+            }
+        }
+        return report;
+    }
+
+    private Report transformGherkin(File file, Collection<String> columns) throws IOException, TechnicalException {
+        final Report report = new Report(file);
+        final String[] lines = FileUtils.readFileToString(file, DEFAULT_ENDODING).split("\n", -1);
+        final List<Integer> positions = new ArrayList<>();
+        final List<String[]> rows = new ArrayList<>();
+        boolean data = false;
+        for (int i = 0; i < lines.length; i++) {
+            final String line = lines[i].trim();
+            if (DATA.equals(line)) {
+                data = true;
+            } else if (DATA_END.equals(line)) {
+                data = false;
+                transformGherkinRows(lines, positions, rows, columns, report);
+            } else if (data && line.startsWith(GHERKIN_SEPARATOR)) {
+                positions.add(i);
+                rows.add(line.split("\\|", -1));
+            }
+        }
+        if (report.transformed > 0) {
+            replace(file, out -> out.write(String.join("\n", lines).getBytes(DEFAULT_ENDODING)));
+        }
+        return report;
+    }
+
+    /**
+     * Transforms the rows of one #DATA section of a Gherkin feature and writes them back into the lines of the file (indentation and line ending kept).
+     */
+    private void transformGherkinRows(String[] lines, List<Integer> positions, List<String[]> rows, Collection<String> columns, Report report) throws TechnicalException {
+        transformRows(rows, columns, 1, report);
+        for (int i = 1; i < rows.size(); i++) {
+            final String line = lines[positions.get(i)];
+            final String indentation = line.substring(0, line.indexOf(GHERKIN_SEPARATOR));
+            lines[positions.get(i)] = indentation + String.join(GHERKIN_SEPARATOR, rows.get(i)) + (line.endsWith("\r") ? "\r" : "");
+        }
+        positions.clear();
+        rows.clear();
+    }
+
+    /**
+     * Writes a temporary file next to the data file, then moves it onto the data file.
+     */
+    private static void replace(File file, Content content) throws IOException {
+        final File tmp = new File(file.getParentFile(), file.getName() + ".tmp");
+        try {
+            try (OutputStream out = new FileOutputStream(tmp);) {
+                content.write(out);
+            }
+            try {
+                Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (final AtomicMoveNotSupportedException e) {
+                Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            FileUtils.deleteQuietly(tmp);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Content {
+
+        void write(OutputStream out) throws IOException;
+
+    }
+
+    /**
+     * Transforms the selected cells of a range of rows, split in halves beyond {@link #CHUNK_ROWS} rows.
+     */
+    private final class Chunk extends RecursiveTask<Long> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient List<String[]> rows;
+        private final int from;
+        private final int to;
+        private final int[] columns;
+
+        private Chunk(List<String[]> rows, int from, int to, int[] columns) {
+            this.rows = rows;
+            this.from = from;
+            this.to = to;
+            this.columns = columns;
+        }
+
+        @Override
+        protected Long compute() {
+            if (to - from > CHUNK_ROWS) {
+                final int middle = (from + to) >>> 1;
+                final Chunk left = new Chunk(rows, from, middle, columns);
+                left.fork();
+                final long right = new Chunk(rows, middle, to, columns).compute();
+                return left.join() + right;
+            }
+            long transformed = 0;
+            for (int i = from; i < to; i++) {
+                final String[] row = rows.get(i);
+                for (final int column : columns) {
+                    if (column < row.length) {
+                        try {
+                            final String value = transformCell(row[column]);
+                            // a cell which does not need to be transformed is returned as is
+                            if (value != row[column]) {
+                                row[column] = value;
+                                transformed++;
+                            }
+                        } catch (final TechnicalException e) {
+                            throw new CellException(i + 1, column, e);
+                        }
+                    }
+                }
+            }
+            return transformed;
+        }
+
+    }
+
+    /**
+     * Carries the failure of a cell out of the fork-join pool.
+     */
+    private static final class CellException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int row;
+        private final int column;
+
+        private CellException(int row, int column, TechnicalException cause) {
+            super(cause);
+            this.row = row;
+            this.column = column;
+        }
+
+        @Override
+        public synchronized TechnicalException getCause() {
+            return (TechnicalException) super.getCause();
+        }
+
+    }
+
+    /**
+     * Figures of the transformation of a data file.
+     */
+    public static final class Report {
+
+        private final File file;
+        private long rows;
+        private long cells;
+        private long transformed;
+        private long elapsed;
+
+        private Report(File file) {
+            this.file = file;
+        }
+
+        public File getFile() {
+            return file;
+        }
+
+        /**
+         * @return number of data rows (headers excluded).
+         */
+        public long getRows() {
+            return rows;
+        }
+
+        /**
+         * @return number of cells of the selected columns.
+         */
+        public long getCells() {
+            return cells;
+        }
+
+        /**
+         * @return number of cells encrypted or decrypted.
+         */
+        public long getTransformed() {
+            return transformed;
+        }
+
+        /**
+         * @return duration of the transformation (read and write included) in milliseconds.
+         */
+        public long getElapsedMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(elapsed);
+        }
+
+        /**
+         * @return number of cells of the selected columns processed by second.
+         */
+        public long getCellsPerSecond() {
+            return elapsed == 0 ? 0 : cells * TimeUnit.SECONDS.toNanos(1) / elapsed;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s: %d cell(s) transformed out of %d in %d row(s), %d ms (%d cells/s, %.1f µs/cell)", file.getName(), transformed, cells, rows, getElapsedMillis(),
+                    getCellsPerSecond(), cells == 0 ? 0d : elapsed / 1000d / cells);
+        }
+
+    }
+
+}
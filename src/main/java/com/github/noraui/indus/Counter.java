@@ -12,6 +12,7 @@ import java.util.List;
 
 import org.slf4j.Logger;
 
+import com.github.noraui.data.Shard;
 import com.github.noraui.exception.TechnicalException;
 import com.github.noraui.log.annotation.Loggable;
 import com.github.noraui.utils.Context;
@@ -27,8 +28,17 @@ public class Counter {
     private Counter() {
     }
 
+    /**
+     * Prints the expected test runs results of a type of data provider. With a second parameter (number of shards), prints the expected results of each shard and
+     * their recombination. Without it, a sharded JVM (-Dnoraui.shard=i/N) prints the expected results of its shard.
+     *
+     * @param args
+     *            type of counter and optional number of shards.
+     * @throws TechnicalException
+     *             is thrown if you have a technical error (format, configuration, datas, ...) in NoraUi.
+     */
     public static void main(String[] args) throws TechnicalException {
-        if (args.length == 1) {
+        if (args.length == 1 || args.length == 2) {
             Context.getInstance().initializeEnv("demo" + args[0] + ".properties");
             final List<String> manager = new ArrayList<>();
             final List<String> scenarioBlacklist = new ArrayList<>();
@@ -43,8 +53,21 @@ public class Counter {
             scenarioBlacklist.add("loginLogout");
 
             final MavenRunCounter mavenRunCounter = new MavenRunCounter();
-            final List<MavenRunCounter.Counter> counters = mavenRunCounter.count(versionControlSystemsBlacklist, scenarioBlacklist, manager, new File(Context.getResourcesPath() + "/steps"));
-            mavenRunCounter.print(counters, args[0]);
+            final File scenarioFolder = new File(Context.getResourcesPath() + "/steps");
+            if (args.length == 2) {
+                final int total = Integer.parseInt(args[1]);
+                final List<List<MavenRunCounter.Counter>> shardsCounters = new ArrayList<>();
+                for (int i = 1; i <= total; i++) {
+                    final Shard shard = new Shard(i, total);
+                    final List<MavenRunCounter.Counter> counters = mavenRunCounter.count(versionControlSystemsBlacklist, scenarioBlacklist, manager, scenarioFolder, shard);
+                    mavenRunCounter.print(counters, args[0] + " " + shard);
+                    shardsCounters.add(counters);
+                }
+                mavenRunCounter.print(mavenRunCounter.merge(shardsCounters), args[0]);
+            } else {
+                final List<MavenRunCounter.Counter> counters = mavenRunCounter.count(versionControlSystemsBlacklist, scenarioBlacklist, manager, scenarioFolder);
+                mavenRunCounter.print(counters, Context.getShard() == null ? args[0] : args[0] + " " + Context.getShard());
+            }
             Context.quit();
         } else {
             log.warn(Messages.getMessage(COUNTER_USAGE_WARNING_MESSAGE));
@@ -17,6 +17,7 @@ import java.lang.reflect.Constructor;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -27,6 +28,7 @@ import org.slf4j.Logger;
 
 import com.github.noraui.data.DataIndex;
 import com.github.noraui.data.DataUtils;
+import com.github.noraui.data.Shard;
 import com.github.noraui.exception.TechnicalException;
 import com.github.noraui.log.annotation.Loggable;
 import com.github.noraui.main.ScenarioInitiator;
@@ -63,6 +65,28 @@ public class MavenRunCounter {
      *             Exception with message and with screenshot and with exception if functional error but no screenshot and no exception if technical error.
      */
     public List<Counter> count(List<String> versionControlSystemsBlacklist, List<String> blacklist, List<String> manager, File scenarioFolder) throws TechnicalException {
+        return count(versionControlSystemsBlacklist, blacklist, manager, scenarioFolder, Context.getShard());
+    }
+
+    /**
+     * Runs the counting process to figure out expected test runs results (Runs, Failures, Errors, Skipped) of a shard.
+     * 
+     * @param versionControlSystemsBlacklist
+     *            a list of control system files that won't be counted
+     * @param blacklist
+     *            a list of scenarios that won't be counted
+     * @param manager
+     *            a list of scenario that should be run at the very end
+     * @param scenarioFolder
+     *            root folder of Gherkin scenarios
+     * @param shard
+     *            shard whose examples are counted (null to count all examples)
+     * @return
+     *         a list of {@link Counter}
+     * @throws TechnicalException
+     *             is throws if you have a technical error (format, configuration, datas, ...) in NoraUi.
+     */
+    public List<Counter> count(List<String> versionControlSystemsBlacklist, List<String> blacklist, List<String> manager, File scenarioFolder, Shard shard) throws TechnicalException {
         final List<Counter> result = new ArrayList<>();
         final List<String> files = listFilesForFolder(versionControlSystemsBlacklist, scenarioFolder);
 
@@ -83,7 +107,7 @@ public class MavenRunCounter {
                         matcher = newScenario.matcher(sCurrentLine);
                         if (matcher.find()) {
                             if (counter != null) {
-                                countAndAddToList(manager, result, scenarioName, nbStep, counter);
+                                countAndAddToList(manager, result, scenarioName, nbStep, counter, shard);
                             }
                             nbScenario++;
                             counter = new Counter(scenarioName, nbScenario);
@@ -103,7 +127,7 @@ public class MavenRunCounter {
                     log.error("IOException error: ", e);
                 }
                 if (counter != null) {
-                    countAndAddToList(manager, result, scenarioName, nbStep, counter);
+                    countAndAddToList(manager, result, scenarioName, nbStep, counter, shard);
                 } else {
                     throw new TechnicalException(Messages.format(Messages.getMessage(Messages.SCENARIO_ERROR_MESSAGE_SCENARIO_OUTLINE_IS_MANDATORY), scenarioName));
                 }
@@ -112,17 +136,17 @@ public class MavenRunCounter {
         return result;
     }
 
-    private void countAndAddToList(List<String> manager, final List<Counter> result, final String scenarioName, int nbStep, Counter counter) {
-        countNbCasFailuresAndSkipped(scenarioName, counter, nbStep);
+    private void countAndAddToList(List<String> manager, final List<Counter> result, final String scenarioName, int nbStep, Counter counter, Shard shard) {
+        countNbCasFailuresAndSkipped(scenarioName, counter, nbStep, shard);
         result.add(counter);
         if (manager.contains(scenarioName)) {
-            countNbCasFailuresAndSkipped(Z_MANAGER + scenarioName, new Counter(counter), nbStep);
+            countNbCasFailuresAndSkipped(Z_MANAGER + scenarioName, new Counter(counter), nbStep, shard);
             result.add(counter);
         }
     }
 
-    private void countNbCasFailuresAndSkipped(String scenarioName, Counter counter, int nbStep) {
-        final Counter nb = countNbCasFailuresAndSkipped(scenarioName, counter.getNbScenario(), nbStep);
+    private void countNbCasFailuresAndSkipped(String scenarioName, Counter counter, int nbStep, Shard shard) {
+        final Counter nb = countNbCasFailuresAndSkipped(scenarioName, counter.getNbScenario(), nbStep, shard);
         counter.setNbStep(nbStep);
         counter.setNbCas(nb.getNbCas());
         counter.setRun(nbStep * nb.getNbCas() + nb.getNbCas());
@@ -130,6 +154,32 @@ public class MavenRunCounter {
         counter.setSkipped(nb.getSkipped());
     }
 
+    /**
+     * Recombines the expectations of all shards of an execution: counters of a same scenario are summed.
+     * 
+     * @param shardsCounters
+     *            counters of each shard (see {@link #count(List, List, List, File, Shard)})
+     * @return
+     *         a list of {@link Counter}, one by scenario
+     */
+    public List<Counter> merge(List<List<Counter>> shardsCounters) {
+        final Map<String, Counter> merged = new LinkedHashMap<>();
+        for (final List<Counter> counters : shardsCounters) {
+            for (final Counter counter : counters) {
+                final Counter total = merged.get(counter.getScenarioName());
+                if (total == null) {
+                    merged.put(counter.getScenarioName(), new Counter(counter));
+                } else {
+                    total.setNbCas(total.getNbCas() + counter.getNbCas());
+                    total.setRun(total.getRun() + counter.getRun());
+                    total.setFailures(total.getFailures() + counter.getFailures());
+                    total.setSkipped(total.getSkipped() + counter.getSkipped());
+                }
+            }
+        }
+        return new ArrayList<>(merged.values());
+    }
+
     public void print(List<Counter> counters, String type) {
         int run = 0;
         int failures = 0;
@@ -314,16 +364,16 @@ public class MavenRunCounter {
 
     }
 
-    private static MavenRunCounter.Counter countNbCasFailuresAndSkipped(String scenarioName, int nbScenario, int nbStep) {
+    private static MavenRunCounter.Counter countNbCasFailuresAndSkipped(String scenarioName, int nbScenario, int nbStep, Shard shard) {
         final Counter result = new MavenRunCounter().new Counter("", nbScenario);
         final List<DataIndex> indexData = new ArrayList<>();
         try {
             Context.getDataInputProvider().prepare(scenarioName);
             final Class<Model> model = Context.getDataInputProvider().getModel(Context.getModelPackages());
             if (model != null) {
-                countWithModel(nbStep, result, indexData, model);
+                countWithModel(nbStep, result, indexData, model, shard);
             } else {
-                countWithoutModel(nbStep, result, indexData);
+                countWithoutModel(nbStep, result, indexData, shard);
             }
         } catch (final Exception e) {
             log.error("error MavenRunCounter.countNbCasFailuresAndSkipped()", e);
@@ -331,7 +381,7 @@ public class MavenRunCounter {
         return result;
     }
 
-    private static void countWithoutModel(int nbStep, Counter result, List<DataIndex> indexData) throws TechnicalException {
+    private static void countWithoutModel(int nbStep, Counter result, List<DataIndex> indexData, Shard shard) throws TechnicalException {
         int failures = 0;
         int skipped = 0;
         int currentNbScenario = 1;
@@ -339,7 +389,7 @@ public class MavenRunCounter {
             if (null == Context.getDataInputProvider().readLine(i, true)) {
                 currentNbScenario++;
             } else {
-                if (currentNbScenario == result.getNbScenario()) {
+                if (currentNbScenario == result.getNbScenario() && (shard == null || shard.owns(i))) {
                     final List<Integer> index = new ArrayList<>();
                     index.add(i);
                     indexData.add(new DataIndex(i, index));
@@ -357,7 +407,7 @@ public class MavenRunCounter {
         result.setSkipped(skipped);
     }
 
-    private static void countWithModel(int nbStep, Counter result, List<DataIndex> indexData, Class<Model> model) throws TechnicalException {
+    private static void countWithModel(int nbStep, Counter result, List<DataIndex> indexData, Class<Model> model, Shard shard) throws TechnicalException {
         int failures = 0;
         int skipped = 0;
         final String[] headers = Context.getDataInputProvider().readLine(0, false);
@@ -371,7 +421,14 @@ public class MavenRunCounter {
             final Constructor<Model> modelConstructor = DataUtils.getModelConstructor(model, headers);
             final Map<Integer, Map<String, ModelList>> fusionedData = DataUtils.fusionProcessor(model, modelConstructor);
             int dataIndex = 0;
+            int position = 0;
+            for (int i = 0; i < result.getNbScenario() - 1; i++) {
+                position += fusionedData.get(i).size();
+            }
             for (final Entry<String, ModelList> e2 : fusionedData.get(result.getNbScenario() - 1).entrySet()) {
+                if (shard != null && !shard.owns(++position)) {
+                    continue;
+                }
                 dataIndex++;
                 indexData.add(new DataIndex(dataIndex, e2.getValue().getIds()));
                 for (int i = 0; i < e2.getValue().getIds().size(); i++) {
@@ -0,0 +1,227 @@
+/**
+ * NoraUi is licensed under the license GNU AFFERO GENERAL PUBLIC LICENSE
+ *
+ * @author Nicolas HALLOUIN
+ * @author Stéphane GRILLON
+ */
+package com.github.noraui.indus;
+
+import static com.github.noraui.Constants.DATA_OUT;
+import static com.github.noraui.Constants.DEFAULT_ENDODING;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.FilenameUtils;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.ss.usermodel.WorkbookFactory;
+import org.slf4j.Logger;
+
+import com.github.noraui.data.Shard;
+import com.github.noraui.data.csv.CsvDataProvider;
+import com.github.noraui.exception.TechnicalException;
+import com.github.noraui.log.annotation.Loggable;
+import com.github.noraui.utils.Messages;
+import com.opencsv.CSVParserBuilder;
+import com.opencsv.CSVReader;
+import com.opencsv.CSVReaderBuilder;
+import com.opencsv.CSVWriter;
+
+/**
+ * Merges the output data files written by the shards of an execution (-Dnoraui.shard=i/N) back into the output data folder.
+ * Each shard starts from a copy of the output data files and only writes the lines of its own examples, so every cell changed by a shard is copied into the
+ * output data file (the first shard wins if several shards changed a same cell). Merged shard files are deleted, so a merge is never applied twice.
+ */
+@Loggable
+public class ShardMerger {
+
+    static Logger log;
+
+    private static final String SHARD_MERGER_USAGE_WARNING_MESSAGE = "SHARD_MERGER_USAGE_WARNING_MESSAGE";
+
+    private ShardMerger() {
+    }
+
+    public static void main(String[] args) throws TechnicalException {
+        if (args.length == 1) {
+            merge(new File(System.getProperty("resourcespath") + DATA_OUT), Integer.parseInt(args[0]));
+        } else {
+            log.warn(Messages.getMessage(SHARD_MERGER_USAGE_WARNING_MESSAGE));
+        }
+    }
+
+    /**
+     * Merges the CSV and Excel output data files of all shards, then deletes the files of the shards.
+     *
+     * @param outFolder
+     *            output data folder (holding a sub folder by shard).
+     * @param total
+     *            number of shards.
+     * @return number of merged cells.
+     * @throws TechnicalException
+     *             is thrown if an output data file can not be read or written.
+     */
+    public static int merge(File outFolder, int total) throws TechnicalException {
+        int merged = 0;
+        final File[] files = outFolder.listFiles(File::isFile);
+        if (files == null) {
+            return merged;
+        }
+        for (final File file : files) {
+            final List<File> shardFiles = new ArrayList<>();
+            for (int i = 1; i <= total; i++) {
+                final File shardFile = new File(new File(outFolder, Shard.getFolderName(i, total)), file.getName());
+                if (shardFile.isFile()) {
+                    shardFiles.add(shardFile);
+                }
+            }
+            final String extension = FilenameUtils.getExtension(file.getName());
+            if (CsvDataProvider.CSV_TYPE.equals(extension) || extension.startsWith("xls")) {
+                final int cells = CsvDataProvider.CSV_TYPE.equals(extension) ? mergeCsv(file, shardFiles) : mergeExcel(file, shardFiles);
+                log.info("{} cell(s) merged from {} shard(s) in {}", cells, shardFiles.size(), file.getName());
+                merged += cells;
+                for (final File shardFile : shardFiles) {
+                    FileUtils.deleteQuietly(shardFile);
+                }
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * @param file
+     *            CSV output data file.
+     * @param shardFiles
+     *            same file written by each shard.
+     * @return number of merged cells.
+     * @throws TechnicalException
+     *             is thrown if a file can not be read or written.
+     */
+    static int mergeCsv(File file, List<File> shardFiles) throws TechnicalException {
+        final List<String[]> original = readCsv(file);
+        final List<String[]> result = new ArrayList<>();
+        for (final String[] line : original) {
+            result.add(line.clone());
+        }
+        int merged = 0;
+        for (final File shardFile : shardFiles) {
+            final List<String[]> shard = readCsv(shardFile);
+            for (int line = 0; line < Math.min(original.size(), shard.size()); line++) {
+                for (int column = 0; column < Math.min(original.get(line).length, shard.get(line).length); column++) {
+                    final String value = shard.get(line)[column];
+                    if (!value.equals(original.get(line)[column]) && original.get(line)[column].equals(result.get(line)[column])) {
+                        result.get(line)[column] = value;
+                        merged++;
+                    }
+                }
+            }
+        }
+        if (merged > 0) {
+            try (CSVWriter writer = new CSVWriter(new OutputStreamWriter(new FileOutputStream(file), DEFAULT_ENDODING), CsvDataProvider.CSV_CHAR_SEPARATOR,
+                    CsvDataProvider.CSV_CHAR_QUOTE, CsvDataProvider.CSV_CHAR_ESCAPE, CsvDataProvider.CSV_CHAR_LINEEND);) {
+                writer.writeAll(result);
+            } catch (final IOException e) {
+                throw new TechnicalException(Messages.getMessage(TechnicalException.TECHNICAL_ERROR_MESSAGE_DATA_IOEXCEPTION), e);
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * @param file
+     *            Excel output data file (first sheet only, as written by the Excel data provider).
+     * @param shardFiles
+     *            same file written by each shard.
+     * @return number of merged cells.
+     * @throws TechnicalException
+     *             is thrown if a file can not be read or written.
+     */
+    static int mergeExcel(File file, List<File> shardFiles) throws TechnicalException {
+        int merged = 0;
+        try {
+            final byte[] content = FileUtils.readFileToByteArray(file);
+            try (Workbook original = WorkbookFactory.create(new ByteArrayInputStream(content)); Workbook result = WorkbookFactory.create(new ByteArrayInputStream(content));) {
+                for (final File shardFile : shardFiles) {
+                    try (Workbook shard = WorkbookFactory.create(shardFile, null, true);) {
+                        merged += mergeSheet(original.getSheetAt(0), result, shard.getSheetAt(0));
+                    }
+                }
+                if (merged > 0) {
+                    try (FileOutputStream fileOut = new FileOutputStream(file);) {
+                        result.write(fileOut);
+                    }
+                }
+            }
+        } catch (final IOException e) {
+            throw new TechnicalException(Messages.getMessage(TechnicalException.TECHNICAL_ERROR_MESSAGE_DATA_IOEXCEPTION), e);
+        }
+        return merged;
+    }
+
+    /**
+     * @param originalSheet
+     *            first sheet of the output data file before merge.
+     * @param result
+     *            merged workbook.
+     * @param shardSheet
+     *            first sheet written by a shard.
+     * @return number of merged cells.
+     */
+    private static int mergeSheet(Sheet originalSheet, Workbook result, Sheet shardSheet) {
+        final DataFormatter formatter = new DataFormatter();
+        final Sheet resultSheet = result.getSheetAt(0);
+        final Map<Short, CellStyle> styles = new HashMap<>();
+        int merged = 0;
+        for (final Row shardRow : shardSheet) {
+            final Row originalRow = originalSheet.getRow(shardRow.getRowNum());
+            final Row resultRow = resultSheet.getRow(shardRow.getRowNum());
+            if (originalRow != null && resultRow != null) {
+                for (final Cell shardCell : shardRow) {
+                    final int column = shardCell.getColumnIndex();
+                    final String originalValue = formatter.formatCellValue(originalRow.getCell(column));
+                    final String value = formatter.formatCellValue(shardCell);
+                    if (!value.equals(originalValue) && originalValue.equals(formatter.formatCellValue(resultRow.getCell(column)))) {
+                        final Cell cell = resultRow.getCell(column);
+                        if (cell != null) {
+                            resultRow.removeCell(cell);
+                        }
+                        final Cell mergedCell = resultRow.createCell(column);
+                        mergedCell.setCellStyle(styles.computeIfAbsent(shardCell.getCellStyle().getIndex(), index -> {
+                            final CellStyle style = result.createCellStyle();
+                            style.cloneStyleFrom(shardCell.getCellStyle());
+                            return style;
+                        }));
+                        mergedCell.setCellValue(value);
+                        merged++;
+                    }
+                }
+            }
+        }
+        return merged;
+    }
+
+    private static List<String[]> readCsv(File file) throws TechnicalException {
+        try (CSVReader reader = new CSVReaderBuilder(new InputStreamReader(new FileInputStream(file), DEFAULT_ENDODING))
+                .withCSVParser(new CSVParserBuilder().withSeparator(CsvDataProvider.CSV_CHAR_SEPARATOR).build()).build();) {
+            return reader.readAll();
+        } catch (final IOException e) {
+            throw new TechnicalException(Messages.getMessage(TechnicalException.TECHNICAL_ERROR_MESSAGE_DATA_IOEXCEPTION), e);
+        }
+    }
+
+}
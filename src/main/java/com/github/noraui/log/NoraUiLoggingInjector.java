@@ -14,8 +14,6 @@ import org.slf4j.LoggerFactory;
 
 import com.github.noraui.exception.TechnicalException;
 import com.github.noraui.utils.Messages;
-import com.google.inject.Guice;
-import com.google.inject.Stage;
 
 public class NoraUiLoggingInjector {
 
@@ -31,13 +29,20 @@ public class NoraUiLoggingInjector {
     private NoraUiLoggingInjector() {
     }
 
-    public static List<String> getInjector() {
-        return logInjectors;
+    public static synchronized List<String> getInjector() {
+        return new ArrayList<>(logInjectors);
     }
 
-    public static void addInjector(String packageName) {
+    /**
+     * Injects the static loggers of the @Loggable classes of a package, once by package (no Guice injector is needed to set static fields).
+     *
+     * @param packageName
+     *            name of the package.
+     */
+    public static synchronized void addInjector(String packageName) {
         if (!logInjectors.contains(packageName)) {
-            Guice.createInjector(Stage.PRODUCTION, new NoraUiLoggingModule(packageName));
+            new NoraUiLoggingModule(packageName).injectLoggers();
+            logInjectors.add(packageName);
             LOGGER.info("Created injector: {}", packageName);
         } else {
             if (LOGGER.isWarnEnabled()) {
@@ -47,7 +52,7 @@ public class NoraUiLoggingInjector {
         }
     }
 
-    public static void resetInjector() {
+    public static synchronized void resetInjector() {
         logInjectors.clear();
     }
 
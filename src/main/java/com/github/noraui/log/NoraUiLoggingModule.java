@@ -1,13 +1,25 @@
 package com.github.noraui.log;
 
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStreamReader;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.github.noraui.log.annotation.Loggable;
+import com.github.noraui.log.processor.LoggableProcessor;
 import com.google.common.reflect.ClassPath;
 import com.google.common.reflect.ClassPath.ClassInfo;
 import com.google.inject.Binder;
@@ -15,6 +27,11 @@ import com.google.inject.Module;
 
 public class NoraUiLoggingModule implements Module {
 
+    /**
+     * System property forcing the scan of the class path instead of reading the indexes of @Loggable classes.
+     */
+    public static final String SCAN_PROPERTY = "noraui.loggable.scan";
+
     private static final Logger LOGGER = LoggerFactory.getLogger(NoraUiLoggingModule.class);
 
     private String packageName;
@@ -29,19 +46,116 @@ public class NoraUiLoggingModule implements Module {
      */
     @Override
     public void configure(Binder binder) {
+        injectLoggers();
+    }
+
+    /**
+     * Injects static loggers in the classes of the package annotated with @see com.github.noraui.log.annotation.Loggable.
+     * The classes are read from the indexes written at compile time by {@link LoggableProcessor}, the class path is only scanned if a class path root holding
+     * the package has no index (see {@link #getIndexedClassNames(ClassLoader)}) or if the system property {@value #SCAN_PROPERTY} is true.
+     */
+    public void injectLoggers() {
         LOGGER.debug("NORAUI logging listeners binding");
+        List<Class<?>> classes = Boolean.getBoolean(SCAN_PROPERTY) ? new ArrayList<>() : getIndexedClasses();
+        if (classes.isEmpty()) {
+            LOGGER.debug("No index of the @Loggable classes of {}, the class path is scanned", packageName);
+            classes = scanClasses();
+        }
         // @formatter:off
-        try {
-            ClassPath.from(getClass().getClassLoader()).getTopLevelClassesRecursive(packageName).stream()
-            .map(ClassInfo::load)
+        classes.stream()
             .filter(c -> !Modifier.isInterface(c.getModifiers()))
             .filter(c -> c.isAnnotationPresent(Loggable.class))
             .forEach(this::injectSlf4JLogger);
+        // @formatter:on
+    }
+
+    /**
+     * @return the classes of the package listed by the indexes of the class path, or an empty list if the package is not indexed.
+     */
+    List<Class<?>> getIndexedClasses() {
+        final ClassLoader classLoader = getClass().getClassLoader();
+        final List<Class<?>> classes = new ArrayList<>();
+        final Set<String> names = getIndexedClassNames(classLoader);
+        if (names == null) {
+            return classes;
+        }
+        for (String name : names) {
+            try {
+                classes.add(Class.forName(name, false, classLoader));
+            } catch (ClassNotFoundException | LinkageError e) {
+                LOGGER.debug("Indexed class {} can not be loaded", name, e);
+            }
+        }
+        return classes;
+    }
+
+    /**
+     * The package is indexed if each class path root (directory or jar) holding the package has an index: a robot in a sub-package of com.github.noraui
+     * compiled without the annotation processor is not covered by the index of the NoraUi jar.
+     *
+     * @param classLoader
+     *            class loader of the class path.
+     * @return the classes of the package listed by the indexes of the class path roots holding the package, or null if the package is not indexed.
+     */
+    Set<String> getIndexedClassNames(ClassLoader classLoader) {
+        final Set<String> names = new LinkedHashSet<>();
+        final Set<String> indexedRoots = new HashSet<>();
+        try {
+            final Enumeration<URL> indexes = classLoader.getResources(LoggableProcessor.INDEX);
+            while (indexes.hasMoreElements()) {
+                final URL index = indexes.nextElement();
+                indexedRoots.add(getRoot(index, LoggableProcessor.INDEX));
+                try (BufferedReader reader = new BufferedReader(new InputStreamReader(index.openStream(), StandardCharsets.UTF_8))) {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        if (line.startsWith(packageName + ".")) {
+                            names.add(line.trim());
+                        }
+                    }
+                }
+            }
+            final String packagePath = packageName.replace('.', '/');
+            final Enumeration<URL> packages = classLoader.getResources(packagePath);
+            if (!packages.hasMoreElements()) {
+                // the package is not listed by the class path (ex: jar without directory entries)
+                return null;
+            }
+            while (packages.hasMoreElements()) {
+                final URL packageUrl = packages.nextElement();
+                if (!indexedRoots.contains(getRoot(packageUrl, packagePath))) {
+                    LOGGER.debug("No index of the @Loggable classes of {} in {}", packageName, packageUrl);
+                    return null;
+                }
+            }
         } catch (IOException e) {
-            LOGGER.error("NoraUiLoggingModule.configure(Binder: {})", binder, e);
+            LOGGER.error("NoraUiLoggingModule.getIndexedClassNames()", e);
+            return null;
+        }
+        return names;
+    }
 
+    /**
+     * @param resource
+     *            URL of a resource of the class path.
+     * @param path
+     *            path of the resource in its class path root.
+     * @return URL of the class path root of the resource.
+     */
+    private static String getRoot(URL resource, String path) {
+        String url = resource.toExternalForm();
+        if (url.endsWith("/")) {
+            url = url.substring(0, url.length() - 1);
+        }
+        return url.endsWith(path) ? url.substring(0, url.length() - path.length()) : url;
+    }
+
+    private List<Class<?>> scanClasses() {
+        try {
+            return ClassPath.from(getClass().getClassLoader()).getTopLevelClassesRecursive(packageName).stream().map(ClassInfo::load).collect(Collectors.toList());
+        } catch (IOException e) {
+            LOGGER.error("NoraUiLoggingModule.scanClasses()", e);
+            return new ArrayList<>();
         }
-        // @formatter:on
     }
 
     private void injectSlf4JLogger(Class<?> clazz) {
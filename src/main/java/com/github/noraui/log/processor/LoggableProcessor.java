@@ -0,0 +1,110 @@
+/**
+ * NoraUi is licensed under the license GNU AFFERO GENERAL PUBLIC LICENSE
+ *
+ * @author Nicolas HALLOUIN
+ * @author Stéphane GRILLON
+ */
+package com.github.noraui.log.processor;
+
+import java.io.BufferedReader;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.NoSuchFileException;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Annotation processor writing at compile time the index {@value #INDEX} of the classes annotated with {@link com.github.noraui.log.annotation.Loggable},
+ * so that {@link com.github.noraui.log.NoraUiLoggingModule} injects their loggers without scanning the class path.
+ * The index holds one binary class name by line. On an incremental compilation, the classes of the previous index are kept (a class which is no longer
+ * annotated is skipped at runtime).
+ * The processor is registered in META-INF/services of the NoraUi jar: javac runs it on every project compiled with NoraUi in its class path, unless
+ * annotation processing is disabled ({@code -proc:none}) or the processors are listed explicitly ({@code -processor}).
+ */
+@SupportedAnnotationTypes(LoggableProcessor.LOGGABLE)
+public class LoggableProcessor extends AbstractProcessor {
+
+    /**
+     * Index of the {@code @Loggable} classes, in the class output (and in the jar).
+     */
+    public static final String INDEX = "META-INF/noraui/loggable.index";
+
+    static final String LOGGABLE = "com.github.noraui.log.annotation.Loggable";
+
+    private final Set<String> classes = new TreeSet<>();
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (final TypeElement annotation : annotations) {
+            for (final Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() == ElementKind.CLASS || element.getKind() == ElementKind.ENUM) {
+                    classes.add(processingEnv.getElementUtils().getBinaryName((TypeElement) element).toString());
+                }
+            }
+        }
+        if (roundEnv.processingOver() && !classes.isEmpty()) {
+            readPreviousIndex();
+            writeIndex();
+        }
+        return false;
+    }
+
+    private void readPreviousIndex() {
+        try {
+            final FileObject previous = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", INDEX);
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(previous.openInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (!line.trim().isEmpty()) {
+                        classes.add(line.trim());
+                    }
+                }
+            }
+        } catch (final FileNotFoundException | NoSuchFileException e) {
+            // first compilation
+        } catch (final IOException | IllegalArgumentException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, "Previous " + INDEX + " can not be read: " + e);
+        }
+    }
+
+    private void writeIndex() {
+        try {
+            final FileObject index = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", INDEX);
+            try (Writer writer = new OutputStreamWriter(index.openOutputStream(), StandardCharsets.UTF_8)) {
+                for (final String name : classes) {
+                    writer.write(name);
+                    writer.write('\n');
+                }
+            }
+        } catch (final IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, "Unable to write " + INDEX + ": " + e);
+        }
+    }
+
+}
@@ -27,6 +27,7 @@ import java.util.regex.Pattern;
 import org.slf4j.Logger;
 
 import com.github.noraui.data.DataUtils;
+import com.github.noraui.data.Shard;
 import com.github.noraui.exception.TechnicalException;
 import com.github.noraui.gherkin.GherkinFactory;
 import com.github.noraui.log.annotation.Loggable;
@@ -165,6 +166,7 @@ public class ScenarioInitiator {
 
     /**
      * This method inject data from dataProvider in Gherkin feature file.
+     * When the execution is sharded, only the examples of the shard are injected, in the copy of the feature of the shard (see {@link Shard#getFeaturesFolder()}).
      * 
      * @param scenarioName
      *            is the name of scenario.
@@ -174,6 +176,7 @@ public class ScenarioInitiator {
     private static void injectWithoutModel(String scenarioName) throws TechnicalException {
         final String[] headers = Context.getDataInputProvider().readLine(0, false);
         if (headers != null) {
+            final Shard shard = Context.getShard();
             List<String[]> examples = new ArrayList<>();
             final HashMap<Integer, List<String[]>> examplesTable = new HashMap<>();
             String[] example;
@@ -184,7 +187,7 @@ public class ScenarioInitiator {
                 if (example == null) {
                     examplesTable.put(Integer.valueOf(j++), examples);
                     examples = new ArrayList<>();
-                } else {
+                } else if (shard == null || shard.owns(i)) {
                     examples.add(example);
                 }
             } while (Context.getDataInputProvider().readLine(++i, false) != null || example != null);
@@ -197,6 +200,7 @@ public class ScenarioInitiator {
     /**
      * This method inject data from dataProvider in Gherkin feature file.
      * The object corresponding to the model is in JSON format on the corresponding column.
+     * When the execution is sharded, only the examples of the shard are injected, in the copy of the feature of the shard (see {@link Shard#getFeaturesFolder()}).
      * 
      * @param scenarioName
      *            is the name of scenario.
@@ -213,10 +217,14 @@ public class ScenarioInitiator {
                 final Constructor<Model> modelConstructor = DataUtils.getModelConstructor(model, headers);
                 final Map<Integer, Map<String, ModelList>> fusionedData = DataUtils.fusionProcessor(model, modelConstructor);
                 final HashMap<Integer, List<String[]>> examplesTable = new HashMap<>();
+                final Shard shard = Context.getShard();
+                int position = 0;
 
                 for (final Entry<Integer, Map<String, ModelList>> e : fusionedData.entrySet()) {
                     for (final Entry<String, ModelList> e2 : e.getValue().entrySet()) {
-                        examples.add(new String[] { e2.getKey(), e2.getValue().serialize() });
+                        if (shard == null || shard.owns(++position)) {
+                            examples.add(new String[] { e2.getKey(), e2.getValue().serialize() });
+                        }
                     }
                     examplesTable.put(e.getKey(), examples);
                     examples = new ArrayList<>();
@@ -20,7 +20,12 @@ import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.ExpectedCondition;
 
 import com.beust.jcommander.internal.Nullable;
+import com.github.noraui.selenium.ScriptConditions.Check;
 
+/**
+ * Expected conditions of NoraUi. Conditions reading several elements or properties are evaluated by script with one round trip by poll when the locator
+ * allows it (see {@link ScriptConditions}), otherwise with the WebDriver API.
+ */
 public class NoraUiExpectedConditions {
 
     private NoraUiExpectedConditions() {
@@ -40,6 +45,9 @@ public class NoraUiExpectedConditions {
     public static ExpectedCondition<Boolean> textToBeEqualsToExpectedValue(final By locator, final String value) {
         return (@Nullable WebDriver driver) -> {
             try {
+                if (ScriptConditions.isSupported(driver, locator)) {
+                    return value != null && Boolean.TRUE.equals(ScriptConditions.evaluate(driver, Check.TEXT_EQUALS, value, locator));
+                }
                 final WebElement element = driver.findElement(locator);
                 if (element != null && value != null) {
                     return !((element.getAttribute(VALUE) == null || !value.equals(element.getAttribute(VALUE).trim())) && !value.equals(element.getText().replaceAll("\n", "")));
@@ -63,6 +71,9 @@ public class NoraUiExpectedConditions {
     public static ExpectedCondition<Boolean> textContainsExpectedValue(final By locator, final String value) {
         return (@Nullable WebDriver driver) -> {
             try {
+                if (ScriptConditions.isSupported(driver, locator)) {
+                    return value != null && Boolean.TRUE.equals(ScriptConditions.evaluate(driver, Check.TEXT_CONTAINS, value, locator));
+                }
                 final WebElement element = driver.findElement(locator);
                 if (element != null && value != null) {
                     return !((element.getAttribute(VALUE) == null || !element.getAttribute(VALUE).trim().contains(value)) && !element.getText().replaceAll("\n", "").contains(value));
@@ -83,6 +94,13 @@ public class NoraUiExpectedConditions {
     public static ExpectedCondition<WebElement> atLeastOneOfTheseElementsIsPresent(final By... locators) {
         return (@Nullable WebDriver driver) -> {
             WebElement element = null;
+            if (ScriptConditions.isSupported(driver, locators)) {
+                try {
+                    return (WebElement) ScriptConditions.evaluate(driver, Check.PRESENT, null, locators);
+                } catch (final Exception e) {
+                    return null;
+                }
+            }
             if (driver != null && locators.length > 0) {
                 for (final By b : locators) {
                     try {
@@ -167,11 +185,15 @@ public class NoraUiExpectedConditions {
      *            Expected number of elements
      * @return the list of WebElements once they are located
      */
+    @SuppressWarnings("unchecked")
     public static ExpectedCondition<List<WebElement>> visibilityOfNbElementsLocatedBy(final By locator, final int nb) {
         return (WebDriver driver) -> {
             int nbElementIsDisplayed = 0;
             final List<WebElement> elements;
             try {
+                if (ScriptConditions.isSupported(driver, locator)) {
+                    return (List<WebElement>) ScriptConditions.evaluate(driver, Check.VISIBLE_COUNT, nb, locator);
+                }
                 elements = driver.findElements(locator);
                 for (final WebElement element : elements) {
                     if (element.isDisplayed()) {
@@ -262,6 +284,9 @@ public class NoraUiExpectedConditions {
     public static ExpectedCondition<String> textToBePresentInElement(final By locator) {
         return (@Nullable WebDriver driver) -> {
             try {
+                if (ScriptConditions.isSupported(driver, locator)) {
+                    return (String) ScriptConditions.evaluate(driver, Check.TEXT_PRESENT, null, locator);
+                }
                 final WebElement element = driver.findElement(locator);
                 if (element != null && element.getText() != null && !"".equals(element.getText())) {
                     return element.getText();
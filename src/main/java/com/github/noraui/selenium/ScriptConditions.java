@@ -0,0 +1,213 @@
+/**
+ * NoraUi is licensed under the license GNU AFFERO GENERAL PUBLIC LICENSE
+ *
+ * @author Nicolas HALLOUIN
+ * @author Stéphane GRILLON
+ */
+package com.github.noraui.selenium;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+/**
+ * Evaluates a whole DOM condition (lookup, count, visibility, text) in the page with one executeScript by poll, instead of one driver round trip by
+ * element and property. Only locators built by {@link #locator(String, String, By)} from a type the page can resolve (css, id, name, class, xpath) are
+ * evaluated by script, as {@link com.github.noraui.utils.Utilities#getLocator(String, String, Object...)} does; {@link #evaluate(WebDriver, Check, Object,
+ * By...)} throws {@link UnsupportedOperationException} for the others (and for drivers without JavaScript) so that callers use the WebDriver API.
+ * Text and visibility follow the semantics of {@link WebElement#getText()} and {@link WebElement#isDisplayed()}: a hidden element has no text.
+ */
+public final class ScriptConditions {
+
+    /**
+     * Condition evaluated in the page.
+     */
+    public enum Check {
+
+        /**
+         * First element of the first locator matching an element (or null).
+         */
+        PRESENT,
+
+        /**
+         * All elements if the number of visible elements is the expected number (or null).
+         */
+        VISIBLE_COUNT,
+
+        /**
+         * True if the trimmed value or the text (without line breaks) of the first element is the expected text.
+         */
+        TEXT_EQUALS,
+
+        /**
+         * True if the trimmed value or the text (without line breaks) of the first element contains the expected text.
+         */
+        TEXT_CONTAINS,
+
+        /**
+         * Text of the first element if not empty (or null).
+         */
+        TEXT_PRESENT
+
+    }
+
+    /**
+     * Types of locator the script can resolve.
+     */
+    private static final Set<String> SCRIPT_TYPES = Collections.unmodifiableSet(new HashSet<>(Arrays.asList("css", "id", "name", "class", "xpath")));
+
+    /**
+     * Arguments: locators ([[type, value], ...]), check, expected value. An element is displayed as by WebElement.isDisplayed(): not an hidden input, not
+     * in a hidden select, without hidden or transparent ancestor, with a size (or a child with a size). A hidden element has no text, as by
+     * WebElement.getText() whose text is trimmed.
+     */
+    static final String SCRIPT = "var locators = arguments[0], check = arguments[1], expected = arguments[2];"
+            + "function find(l) { var s = l[0], v = l[1], r = [], i;"
+            + " if (s === 'xpath') { var x = document.evaluate(v, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);"
+            + "  for (i = 0; i < x.snapshotLength; i++) { r.push(x.snapshotItem(i)); } return r; }"
+            + " if (s === 'css') { return Array.prototype.slice.call(document.querySelectorAll(v)); }"
+            + " if (s === 'class') { return Array.prototype.slice.call(document.getElementsByClassName(v)); }"
+            + " var all = document.querySelectorAll('[' + s + ']');"
+            + " for (i = 0; i < all.length; i++) { if (all[i].getAttribute(s) === v) { r.push(all[i]); } } return r; }"
+            + "function sized(e) { var b = e.getBoundingClientRect(), c;"
+            + " if (b.width > 0 && b.height > 0) { return true; }"
+            + " for (c = e.firstElementChild; c; c = c.nextElementSibling) { if (sized(c)) { return true; } } return false; }"
+            + "function displayed(e) { var t = e.tagName.toUpperCase(), p, s;"
+            + " if (t === 'OPTION' || t === 'OPTGROUP') { for (p = e.parentElement; p && p.tagName.toUpperCase() !== 'SELECT'; p = p.parentElement) {}"
+            + "  return !!p && displayed(p); }"
+            + " if ((t === 'INPUT' && String(e.type).toLowerCase() === 'hidden') || t === 'NOSCRIPT') { return false; }"
+            + " s = window.getComputedStyle(e); if (s.visibility === 'hidden' || s.visibility === 'collapse') { return false; }"
+            + " for (p = e; p && p.nodeType === 1; p = p.parentElement) { s = window.getComputedStyle(p);"
+            + "  if (s.display === 'none' || s.opacity === '0') { return false; } }"
+            + " return sized(e); }"
+            + "function value(e) { return e.value === undefined || e.value === null ? null : String(e.value).trim(); }"
+            + "function text(e) { return displayed(e) ? String(e.innerText === undefined ? e.textContent : e.innerText).trim() : ''; }"
+            + "if (check === 'PRESENT') { for (var j = 0; j < locators.length; j++) { var f = find(locators[j]); if (f.length > 0) { return f[0]; } } return null; }"
+            + "var elements = find(locators[0]);"
+            + "if (check === 'VISIBLE_COUNT') { return elements.filter(displayed).length === expected ? elements : null; }"
+            + "if (elements.length === 0) { return check === 'TEXT_PRESENT' ? null : false; }"
+            + "var e = elements[0], v = value(e), t = text(e), n = t.replace(/\\n/g, '');"
+            + "if (check === 'TEXT_EQUALS') { return v === expected || n === expected; }"
+            + "if (check === 'TEXT_CONTAINS') { return (v !== null && v.indexOf(expected) >= 0) || n.indexOf(expected) >= 0; }"
+            + "return t === '' ? null : t;";
+
+    private ScriptConditions() {
+        // Utility class
+    }
+
+    /**
+     * @param driver
+     *            the web driver.
+     * @param locators
+     *            locators of the elements.
+     * @return true if the condition on these locators can be evaluated by script.
+     */
+    public static boolean isSupported(WebDriver driver, By... locators) {
+        if (!(driver instanceof JavascriptExecutor) || locators.length == 0) {
+            return false;
+        }
+        for (final By locator : locators) {
+            if (toScriptLocator(locator) == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Evaluates a condition in the page with one round trip.
+     *
+     * @param driver
+     *            the web driver.
+     * @param check
+     *            condition to evaluate.
+     * @param expected
+     *            expected number or text (null for {@link Check#PRESENT} and {@link Check#TEXT_PRESENT}).
+     * @param locators
+     *            locators of the elements (only the first one is used, except by {@link Check#PRESENT}).
+     * @return the result of the check (see {@link Check}).
+     * @throws UnsupportedOperationException
+     *             if the condition can not be evaluated by script (see {@link #isSupported(WebDriver, By...)}).
+     * @throws WebDriverException
+     *             if the script fails (ex: page unloading).
+     */
+    public static Object evaluate(WebDriver driver, Check check, Object expected, By... locators) {
+        if (!isSupported(driver, locators)) {
+            throw new UnsupportedOperationException("Condition " + check + " can not be evaluated by script on " + Arrays.toString(locators));
+        }
+        final List<List<String>> scriptLocators = new ArrayList<>(locators.length);
+        for (final By locator : locators) {
+            scriptLocators.add(toScriptLocator(locator));
+        }
+        return ((JavascriptExecutor) driver).executeScript(SCRIPT, scriptLocators, check.name(), expected);
+    }
+
+    /**
+     * @param type
+     *            type of the locator in the selectors file (css, id, name, class, xpath, link).
+     * @param value
+     *            selector of the locator.
+     * @param locator
+     *            the selenium locator built from the type and the selector.
+     * @return the locator, which the script can evaluate if the page can resolve its type.
+     */
+    public static By locator(String type, String value, By locator) {
+        return SCRIPT_TYPES.contains(type) ? new ScriptLocator(type, value, locator) : locator;
+    }
+
+    /**
+     * @param locator
+     *            the selenium locator.
+     * @return [type, value] of the locator for the script, or null if the script can not resolve it.
+     */
+    static List<String> toScriptLocator(By locator) {
+        if (locator instanceof ScriptLocator) {
+            final ScriptLocator scriptLocator = (ScriptLocator) locator;
+            return Arrays.asList(scriptLocator.type, scriptLocator.value);
+        }
+        return null;
+    }
+
+    /**
+     * Selenium locator which knows the type and the selector it has been built from.
+     */
+    private static final class ScriptLocator extends By {
+
+        private final String type;
+        private final String value;
+        private final By locator;
+
+        private ScriptLocator(String type, String value, By locator) {
+            this.type = type;
+            this.value = value;
+            this.locator = locator;
+        }
+
+        @Override
+        public List<WebElement> findElements(SearchContext context) {
+            return locator.findElements(context);
+        }
+
+        @Override
+        public WebElement findElement(SearchContext context) {
+            return locator.findElement(context);
+        }
+
+        @Override
+        public String toString() {
+            return locator.toString();
+        }
+
+    }
+
+}
@@ -7,6 +7,9 @@
 package com.github.noraui.service;
 
 import java.util.List;
+import java.util.Map;
+
+import io.cucumber.cucumberexpressions.Expression;
 
 public interface CucumberExpressionService {
 
@@ -19,4 +22,20 @@ public interface CucumberExpressionService {
      */
     List<Object> match(String expressionString, String text);
 
+    /**
+     * @param expressionString
+     *            source in cucumber annotation.
+     * @return the compiled expression (compiled once and kept in a bounded cache).
+     */
+    Expression getExpression(String expressionString);
+
+    /**
+     * Tests all Cucumber step definitions of the {@link com.github.noraui.utils.Context} against a text in one pass.
+     *
+     * @param text
+     *            present in Gherkin file.
+     * @return list of arguments (can be 0) of each matching step definition expression, in the iteration order of the step definitions (empty if no match).
+     */
+    Map<String, List<Object>> matchAll(String text);
+
 }
@@ -83,4 +83,71 @@ public interface ScreenService {
      */
     double getDifferencePercent(String actual, String expected) throws IOException;
 
+    /**
+     * Percentage difference between images, the comparison stops as soon as the difference exceeds the threshold.
+     *
+     * @param actual
+     *            is actual source.
+     * @param expected
+     *            is expected source.
+     * @param threshold
+     *            percent of difference above which the exact difference is not needed.
+     * @return percent of difference, or a value greater than the threshold if the difference exceeds it.
+     * @throws IOException
+     *             if a file can not be read.
+     */
+    default double getDifferencePercent(String actual, String expected, double threshold) throws IOException {
+        return getDifferencePercent(actual, expected);
+    }
+
+    /**
+     * Baseline looking the most like a screenshot, found by comparing perceptual hashes.
+     *
+     * @param actual
+     *            is actual source.
+     * @return name of the closest expected screenshot of the same size, or null if there is none.
+     * @throws IOException
+     *             if the actual screenshot can not be read, or if the implementation does not compare perceptual hashes.
+     */
+    default String getClosestBaseline(String actual) throws IOException {
+        throw new IOException(getClass().getName() + " does not compare screenshots by their perceptual hashes");
+    }
+
+    /**
+     * Percentage of the bits of the global perceptual hashes which differ between images. Unlike the difference of the changed tiles, it sees a change of
+     * the brightness of uniform areas (ex: a blank page).
+     *
+     * @param actual
+     *            is actual source.
+     * @param expected
+     *            is expected source.
+     * @return percent of different bits (100 if the images do not have the same size).
+     * @throws IOException
+     *             if a file can not be read, or if the implementation does not compare perceptual hashes.
+     */
+    default double getHashDifferencePercent(String actual, String expected) throws IOException {
+        throw new IOException(getClass().getName() + " does not compare screenshots by their perceptual hashes");
+    }
+
+    /**
+     * Percentage difference between images, only computed on the tiles whose perceptual hashes differ.
+     *
+     * @param actual
+     *            is actual source.
+     * @param expected
+     *            is expected source.
+     * @return percent of difference of the changed tiles, relative to the whole images (100 if the images do not have the same size).
+     * @throws IOException
+     *             if a file can not be read, or if the implementation does not compare perceptual hashes.
+     */
+    default double getChangedTilesDifferencePercent(String actual, String expected) throws IOException {
+        throw new IOException(getClass().getName() + " does not compare screenshots by their perceptual hashes");
+    }
+
+    /**
+     * Waits for the screenshots saved in background to be written.
+     */
+    default void flush() {
+    }
+
 }
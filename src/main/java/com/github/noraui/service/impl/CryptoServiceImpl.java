@@ -6,15 +6,13 @@
  */
 package com.github.noraui.service.impl;
 
-import java.security.InvalidAlgorithmParameterException;
-import java.security.InvalidKeyException;
+import java.security.GeneralSecurityException;
 import java.security.Key;
-import java.security.NoSuchAlgorithmException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
-import javax.crypto.BadPaddingException;
 import javax.crypto.Cipher;
-import javax.crypto.IllegalBlockSizeException;
-import javax.crypto.NoSuchPaddingException;
 import javax.crypto.spec.IvParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
 
@@ -34,6 +32,32 @@ public class CryptoServiceImpl implements CryptoService {
 
     protected static Logger log;
 
+    /**
+     * Maximum number of decrypted values kept by thread during a scenario.
+     */
+    static final int DECRYPTED_CACHE_SIZE = 256;
+
+    private static final String TRANSFORMATION = "AES/CBC/PKCS5Padding";
+
+    /**
+     * AES keys already derived, by crypto key.
+     */
+    private static final Map<String, Key> KEYS = new ConcurrentHashMap<>();
+
+    /**
+     * A Cipher is not thread safe and costly to look up, so each thread reuses its own one (initialized again on each call).
+     */
+    private static final ThreadLocal<Cipher> CIPHERS = new ThreadLocal<>();
+
+    private static final ThreadLocal<DecryptedCache> DECRYPTED = ThreadLocal.withInitial(DecryptedCache::new);
+
+    /**
+     * Forgets the values decrypted by the current thread (called at the end of each scenario).
+     */
+    public static void clearCache() {
+        DECRYPTED.remove();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -63,19 +87,12 @@ public class CryptoServiceImpl implements CryptoService {
      */
     @Override
     public String encrypt(String cryptoKey, String text) throws TechnicalException {
-        Key aesKey = null;
-        if (cryptoKey != null && !"".equals(cryptoKey)) {
-            aesKey = buildKey16char(cryptoKey);
-        }
-        if (aesKey == null) {
-            log.error(TechnicalException.TECHNICAL_ERROR_MESSAGE_DECRYPT_CONFIGURATION_EXCEPTION);
-            throw new TechnicalException(Messages.getMessage(TechnicalException.TECHNICAL_ERROR_MESSAGE_DECRYPT_CONFIGURATION_EXCEPTION));
-        }
+        final Key aesKey = getKey(cryptoKey);
         try {
-            Cipher cipher = Cipher.getInstance("AES/CBC/PKCS5Padding");
+            final Cipher cipher = getCipher();
             cipher.init(Cipher.ENCRYPT_MODE, aesKey, new IvParameterSpec(new byte[16]));
             return getPrefix() + Base64.encodeBase64String(cipher.doFinal(text.getBytes()));
-        } catch (NoSuchAlgorithmException | NoSuchPaddingException | InvalidKeyException | IllegalBlockSizeException | BadPaddingException | InvalidAlgorithmParameterException e) {
+        } catch (final GeneralSecurityException e) {
             log.error(Messages.getMessage(TechnicalException.TECHNICAL_ERROR_MESSAGE_ENCRYPT_EXCEPTION));
             throw new TechnicalException(Messages.getMessage(TechnicalException.TECHNICAL_ERROR_MESSAGE_ENCRYPT_EXCEPTION), e);
         }
@@ -90,36 +107,88 @@ public class CryptoServiceImpl implements CryptoService {
             log.error(TechnicalException.TECHNICAL_ERROR_MESSAGE_DECRYPT_EXCEPTION);
             throw new TechnicalException(Messages.getMessage(TechnicalException.TECHNICAL_ERROR_MESSAGE_DECRYPT_EXCEPTION));
         }
-        Key aesKey = null;
-        if (cryptoKey != null && !"".equals(cryptoKey)) {
-            aesKey = buildKey16char(cryptoKey);
-        }
-        if (aesKey == null) {
-            log.error(TechnicalException.TECHNICAL_ERROR_MESSAGE_DECRYPT_CONFIGURATION_EXCEPTION);
-            throw new TechnicalException(Messages.getMessage(TechnicalException.TECHNICAL_ERROR_MESSAGE_DECRYPT_CONFIGURATION_EXCEPTION));
+        final Key aesKey = getKey(cryptoKey);
+        final DecryptedCache cache = DECRYPTED.get();
+        final String cached = cache.get(aesKey, encrypted);
+        if (cached != null) {
+            return cached;
         }
         try {
-            Cipher cipher = Cipher.getInstance("AES/CBC/PKCS5Padding");
+            final Cipher cipher = getCipher();
             cipher.init(Cipher.DECRYPT_MODE, aesKey, new IvParameterSpec(new byte[16]));
-            return new String(cipher.doFinal(Base64.decodeBase64(encrypted.substring(getPrefix().length(), encrypted.length()))));
-        } catch (NoSuchAlgorithmException | NoSuchPaddingException | InvalidKeyException | IllegalBlockSizeException | BadPaddingException | InvalidAlgorithmParameterException e) {
+            final String decrypted = new String(cipher.doFinal(Base64.decodeBase64(encrypted.substring(getPrefix().length(), encrypted.length()))));
+            cache.put(encrypted, decrypted);
+            return decrypted;
+        } catch (final GeneralSecurityException e) {
             throw new TechnicalException(Messages.getMessage(TechnicalException.TECHNICAL_ERROR_MESSAGE_DECRYPT_EXCEPTION), e);
         }
     }
 
     /**
      * @param cryptoKey
-     * @return
+     *            crypto key (from context or given).
+     * @return AES key derived from the crypto key, once by crypto key.
+     * @throws TechnicalException
+     *             if the crypto key is not configured.
+     */
+    private static Key getKey(String cryptoKey) throws TechnicalException {
+        if (cryptoKey == null || "".equals(cryptoKey)) {
+            log.error(TechnicalException.TECHNICAL_ERROR_MESSAGE_DECRYPT_CONFIGURATION_EXCEPTION);
+            throw new TechnicalException(Messages.getMessage(TechnicalException.TECHNICAL_ERROR_MESSAGE_DECRYPT_CONFIGURATION_EXCEPTION));
+        }
+        return KEYS.computeIfAbsent(cryptoKey, CryptoServiceImpl::buildKey16char);
+    }
+
+    private static Cipher getCipher() throws GeneralSecurityException {
+        Cipher cipher = CIPHERS.get();
+        if (cipher == null) {
+            cipher = Cipher.getInstance(TRANSFORMATION);
+            CIPHERS.set(cipher);
+        }
+        return cipher;
+    }
+
+    /**
+     * @param cryptoKey
+     *            crypto key repeated (or cut) to 16 characters.
+     * @return AES key.
      */
-    private Key buildKey16char(String cryptoKey) {
-        Key aesKey;
+    private static Key buildKey16char(String cryptoKey) {
         StringBuilder cryptoKeyBuilder = new StringBuilder();
         cryptoKeyBuilder.append(cryptoKey);
         do {
             cryptoKeyBuilder.append(cryptoKey);
         } while (cryptoKeyBuilder.length() < 16);
-        aesKey = new SecretKeySpec(cryptoKeyBuilder.toString().substring(0, 16).getBytes(), "AES");
-        return aesKey;
+        return new SecretKeySpec(cryptoKeyBuilder.toString().substring(0, 16).getBytes(), "AES");
+    }
+
+    /**
+     * Values decrypted by a thread with one AES key, the least recently used ones are dropped beyond {@link #DECRYPTED_CACHE_SIZE}.
+     */
+    private static final class DecryptedCache extends LinkedHashMap<String, String> {
+
+        private static final long serialVersionUID = 1L;
+
+        private transient Key key;
+
+        private DecryptedCache() {
+            super(16, 0.75f, true);
+        }
+
+        private String get(Key aesKey, String encrypted) {
+            if (aesKey != key) {
+                clear();
+                key = aesKey;
+                return null;
+            }
+            return get(encrypted);
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+            return size() > DECRYPTED_CACHE_SIZE;
+        }
+
     }
 
 }
@@ -8,13 +8,20 @@ package com.github.noraui.service.impl;
 
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 
 import com.github.noraui.cucumber.config.CucumberTypeRegistryConfigurer;
+import com.github.noraui.gherkin.StepDefinitionIndex;
 import com.github.noraui.log.annotation.Loggable;
 import com.github.noraui.service.CucumberExpressionService;
+import com.github.noraui.utils.Context;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.inject.Singleton;
 
 import io.cucumber.cucumberexpressions.Argument;
@@ -28,18 +35,66 @@ public class CucumberExpressionServiceImpl implements CucumberExpressionService
 
     static Logger log;
 
+    /**
+     * Maximum number of compiled expressions kept in memory.
+     */
+    private static final int EXPRESSIONS_MAXIMUM_SIZE = 2048;
+
+    /**
+     * Parameter types registries (with NoraUi parameter types) by locale, built once.
+     */
+    private final ConcurrentMap<Locale, ParameterTypeRegistry> parameterTypeRegistries = new ConcurrentHashMap<>();
+
+    /**
+     * Compiled expressions by source, least recently used ones are evicted first.
+     */
+    private final Cache<String, Expression> expressions = CacheBuilder.newBuilder().maximumSize(EXPRESSIONS_MAXIMUM_SIZE).build();
+
     /**
      * {@inheritDoc}
      */
     @Override
     public List<Object> match(String expressionString, String text) {
         log.debug("CucumberExpressionService match expressionString: {} and text: {}", expressionString, text);
-        Expression expression;
-        ParameterTypeRegistry parameterTypeRegistry = new ParameterTypeRegistry(Locale.ENGLISH);
-        CucumberTypeRegistryConfigurer.getParameterTypes().stream().forEach(parameterTypeRegistry::defineParameterType);
-        expression = new CucumberExpression(expressionString, parameterTypeRegistry);
-        List<Argument<?>> args = expression.match(text);
+        List<Argument<?>> args = getExpression(expressionString).match(text);
         return args == null ? null : args.stream().map(Argument::getValue).collect(Collectors.toList());
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Expression getExpression(String expressionString) {
+        Expression expression = expressions.getIfPresent(expressionString);
+        if (expression == null) {
+            expression = new CucumberExpression(expressionString, getParameterTypeRegistry(Locale.ENGLISH));
+            expressions.put(expressionString, expression);
+        }
+        return expression;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, List<Object>> matchAll(String text) {
+        log.debug("CucumberExpressionService matchAll text: {}", text);
+        return StepDefinitionIndex.of(Context.getCucumberMethods(), this).matchAll(text);
+    }
+
+    /**
+     * The registry is only read once built, so it can be shared by all threads.
+     *
+     * @param locale
+     *            locale of the registry.
+     * @return the registry of the locale with all NoraUi parameter types.
+     */
+    private ParameterTypeRegistry getParameterTypeRegistry(Locale locale) {
+        return parameterTypeRegistries.computeIfAbsent(locale, l -> {
+            ParameterTypeRegistry parameterTypeRegistry = new ParameterTypeRegistry(l);
+            CucumberTypeRegistryConfigurer.getParameterTypes().stream().forEach(parameterTypeRegistry::defineParameterType);
+            return parameterTypeRegistry;
+        });
+    }
+
 }
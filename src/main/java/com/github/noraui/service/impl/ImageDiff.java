@@ -0,0 +1,183 @@
+/**
+ * NoraUi is licensed under the license GNU AFFERO GENERAL PUBLIC LICENSE
+ *
+ * @author Nicolas HALLOUIN
+ * @author Stéphane GRILLON
+ */
+package com.github.noraui.service.impl;
+
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferByte;
+import java.awt.image.DataBufferInt;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Difference between two images of the same size: sum of the absolute differences of the red, green and blue components of each pixel, in percent of the
+ * maximum difference. The raster data is read directly (3-byte BGR images as decoded from JPEG, int RGB images) and the rows are compared in parallel
+ * chunks. The comparison stops as soon as the difference exceeds a threshold.
+ */
+final class ImageDiff {
+
+    /**
+     * Number of pixels compared by one task.
+     */
+    private static final int CHUNK_PIXELS = 1 << 16;
+
+    private ImageDiff() {
+    }
+
+    /**
+     * @param actual
+     *            actual image.
+     * @param expected
+     *            expected image.
+     * @param threshold
+     *            difference in percent above which the comparison can stop ({@link Double#POSITIVE_INFINITY} for an exact result).
+     * @return percent of difference, or a value greater than the threshold (a lower bound of the difference) if the comparison stopped early.
+     */
+    static double differencePercent(BufferedImage actual, BufferedImage expected, double threshold) {
+        final int width = actual.getWidth();
+        final int height = actual.getHeight();
+        if (width != expected.getWidth() || height != expected.getHeight()) {
+            throw new IllegalArgumentException(String.format("Images must have the same dimensions: (%d,%d) vs. (%d,%d)", width, height, expected.getWidth(), expected.getHeight()));
+        }
+        final long maxDiff = 3L * 255 * width * height;
+        if (maxDiff == 0) {
+            return 0;
+        }
+        final long budget = Double.isInfinite(threshold) ? Long.MAX_VALUE : (long) Math.floor(maxDiff * threshold / 100.0);
+        final AtomicLong diff = new AtomicLong();
+        final int rowsByChunk = Math.max(1, CHUNK_PIXELS / width);
+        final byte[] actualBytes = bgrBytes(actual);
+        final byte[] expectedBytes = bgrBytes(expected);
+        if (actualBytes != null && expectedBytes != null) {
+            ForkJoinPool.commonPool().invoke(new Rows(0, height, rowsByChunk, diff, budget, (from, to) -> diff(actualBytes, expectedBytes, from * width * 3, to * width * 3)));
+        } else {
+            final int[] actualPixels = rgbPixels(actual);
+            final int[] expectedPixels = rgbPixels(expected);
+            ForkJoinPool.commonPool().invoke(new Rows(0, height, rowsByChunk, diff, budget, (from, to) -> diff(actualPixels, expectedPixels, from * width, to * width)));
+        }
+        return 100.0 * diff.get() / maxDiff;
+    }
+
+    /**
+     * @param actual
+     *            actual image.
+     * @param expected
+     *            expected image.
+     * @param areas
+     *            areas compared (not overlapping), the rest of the images is considered the same.
+     * @return percent of difference of the areas, relative to the whole images.
+     */
+    static double differencePercent(BufferedImage actual, BufferedImage expected, List<Rectangle> areas) {
+        final int width = actual.getWidth();
+        final int height = actual.getHeight();
+        if (width != expected.getWidth() || height != expected.getHeight()) {
+            throw new IllegalArgumentException(String.format("Images must have the same dimensions: (%d,%d) vs. (%d,%d)", width, height, expected.getWidth(), expected.getHeight()));
+        }
+        final long diff = areas.parallelStream().mapToLong(area -> {
+            final int[] actualPixels = actual.getRGB(area.x, area.y, area.width, area.height, null, 0, area.width);
+            final int[] expectedPixels = expected.getRGB(area.x, area.y, area.width, area.height, null, 0, area.width);
+            return diff(actualPixels, expectedPixels, 0, actualPixels.length);
+        }).sum();
+        return 100.0 * diff / (3L * 255 * width * height);
+    }
+
+    static long diff(byte[] actual, byte[] expected, int from, int to) {
+        long diff = 0;
+        for (int i = from; i < to; i++) {
+            diff += Math.abs((actual[i] & 0xff) - (expected[i] & 0xff));
+        }
+        return diff;
+    }
+
+    static long diff(int[] actual, int[] expected, int from, int to) {
+        long diff = 0;
+        for (int i = from; i < to; i++) {
+            final int a = actual[i];
+            final int e = expected[i];
+            diff += Math.abs(((a >> 16) & 0xff) - ((e >> 16) & 0xff)) + Math.abs(((a >> 8) & 0xff) - ((e >> 8) & 0xff)) + Math.abs((a & 0xff) - (e & 0xff));
+        }
+        return diff;
+    }
+
+    /**
+     * @return the BGR bytes of a 3-byte BGR image backed by a plain raster, or null.
+     */
+    private static byte[] bgrBytes(BufferedImage image) {
+        if (image.getType() == BufferedImage.TYPE_3BYTE_BGR && image.getRaster().getDataBuffer() instanceof DataBufferByte && image.getRaster().getParent() == null) {
+            final byte[] data = ((DataBufferByte) image.getRaster().getDataBuffer()).getData();
+            if (data.length == image.getWidth() * image.getHeight() * 3) {
+                return data;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return the RGB pixels of an image (the raster itself for int RGB images, a bulk copy otherwise).
+     */
+    private static int[] rgbPixels(BufferedImage image) {
+        if ((image.getType() == BufferedImage.TYPE_INT_RGB || image.getType() == BufferedImage.TYPE_INT_ARGB) && image.getRaster().getDataBuffer() instanceof DataBufferInt
+                && image.getRaster().getParent() == null) {
+            final int[] data = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+            if (data.length == image.getWidth() * image.getHeight()) {
+                return data;
+            }
+        }
+        return image.getRGB(0, 0, image.getWidth(), image.getHeight(), null, 0, image.getWidth());
+    }
+
+    @FunctionalInterface
+    private interface RowsDiff {
+
+        long diff(int fromRow, int toRow);
+
+    }
+
+    /**
+     * Compares a range of rows, split in chunks. The comparison stops once the budget is exceeded.
+     */
+    private static final class Rows extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+        private final int rowsByChunk;
+        private final transient AtomicLong total;
+        private final long budget;
+        private final transient RowsDiff rowsDiff;
+
+        private Rows(int from, int to, int rowsByChunk, AtomicLong total, long budget, RowsDiff rowsDiff) {
+            this.from = from;
+            this.to = to;
+            this.rowsByChunk = rowsByChunk;
+            this.total = total;
+            this.budget = budget;
+            this.rowsDiff = rowsDiff;
+        }
+
+        @Override
+        protected void compute() {
+            if (total.get() > budget) {
+                return;
+            }
+            if (to - from <= rowsByChunk) {
+                // the budget is checked after each row so that chunks running in parallel stop soon
+                for (int row = from; row < to && total.addAndGet(rowsDiff.diff(row, row + 1)) <= budget; row++) {
+                    // next row
+                }
+            } else {
+                final int middle = (from + to) >>> 1;
+                invokeAll(new Rows(from, middle, rowsByChunk, total, budget, rowsDiff), new Rows(middle, to, rowsByChunk, total, budget, rowsDiff));
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,222 @@
+/**
+ * NoraUi is licensed under the license GNU AFFERO GENERAL PUBLIC LICENSE
+ *
+ * @author Nicolas HALLOUIN
+ * @author Stéphane GRILLON
+ */
+package com.github.noraui.service.impl;
+
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compact perceptual hashes of an image: average hash (aHash) and difference hash (dHash) of the whole image, and dHash of each tile of a
+ * {@value #GRID}x{@value #GRID} grid. Two images looking the same have hashes at a small Hamming distance, and the tiles whose hashes differ locate the
+ * changes.
+ * The image is read once into a summed area table, so that the mean luminance of any area is computed in constant time.
+ */
+final class PerceptualHash {
+
+    /**
+     * Number of tiles by row and by column.
+     */
+    static final int GRID = 4;
+
+    /**
+     * Number of bits of the global hashes (aHash and dHash).
+     */
+    static final int BITS = 128;
+
+    private final int width;
+    private final int height;
+    private final long aHash;
+    private final long dHash;
+    private final long[] tiles;
+
+    PerceptualHash(int width, int height, long aHash, long dHash, long[] tiles) {
+        this.width = width;
+        this.height = height;
+        this.aHash = aHash;
+        this.dHash = dHash;
+        this.tiles = tiles;
+    }
+
+    /**
+     * @param image
+     *            an image.
+     * @return hashes of the image.
+     */
+    static PerceptualHash of(BufferedImage image) {
+        final int width = image.getWidth();
+        final int height = image.getHeight();
+        final long[] sums = summedArea(image);
+        final long[] tiles = new long[GRID * GRID];
+        for (int i = 0; i < tiles.length; i++) {
+            final Rectangle tile = tile(width, height, i);
+            tiles[i] = dHash(sums, width, tile.x, tile.y, tile.width, tile.height);
+        }
+        return new PerceptualHash(width, height, aHash(sums, width, 0, 0, width, height), dHash(sums, width, 0, 0, width, height), tiles);
+    }
+
+    /**
+     * @param other
+     *            hashes of another image.
+     * @return Hamming distance between the global hashes (from 0 to 128), {@link Integer#MAX_VALUE} if the images do not have the same size.
+     */
+    int distance(PerceptualHash other) {
+        if (width != other.width || height != other.height) {
+            return Integer.MAX_VALUE;
+        }
+        return Long.bitCount(aHash ^ other.aHash) + Long.bitCount(dHash ^ other.dHash);
+    }
+
+    /**
+     * @param other
+     *            hashes of another image of the same size.
+     * @return areas of the tiles whose hashes differ (all the image if the sizes differ).
+     */
+    List<Rectangle> changedTiles(PerceptualHash other) {
+        final List<Rectangle> changed = new ArrayList<>();
+        if (width != other.width || height != other.height) {
+            changed.add(new Rectangle(0, 0, width, height));
+        } else {
+            for (int i = 0; i < tiles.length; i++) {
+                if (tiles[i] != other.tiles[i]) {
+                    changed.add(tile(width, height, i));
+                }
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * @return the hashes as {@code width;height;aHash;dHash;tile1,tile2,...} (hexadecimal hashes).
+     */
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder().append(width).append(';').append(height).append(';').append(Long.toHexString(aHash)).append(';')
+                .append(Long.toHexString(dHash)).append(';');
+        for (int i = 0; i < tiles.length; i++) {
+            sb.append(i == 0 ? "" : ",").append(Long.toHexString(tiles[i]));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * @param value
+     *            hashes written by {@link #toString()}.
+     * @return the hashes, or null if the value is malformed.
+     */
+    static PerceptualHash parse(String value) {
+        final String[] parts = value.split(";");
+        if (parts.length != 5) {
+            return null;
+        }
+        final String[] tileParts = parts[4].split(",");
+        if (tileParts.length != GRID * GRID) {
+            return null;
+        }
+        try {
+            final long[] tiles = new long[tileParts.length];
+            for (int i = 0; i < tiles.length; i++) {
+                tiles[i] = Long.parseUnsignedLong(tileParts[i], 16);
+            }
+            return new PerceptualHash(Integer.parseInt(parts[0]), Integer.parseInt(parts[1]), Long.parseUnsignedLong(parts[2], 16), Long.parseUnsignedLong(parts[3], 16), tiles);
+        } catch (final NumberFormatException e) {
+            return null;
+        }
+    }
+
+    int getWidth() {
+        return width;
+    }
+
+    int getHeight() {
+        return height;
+    }
+
+    /**
+     * @return area of the tile of an image of the given size.
+     */
+    static Rectangle tile(int width, int height, int index) {
+        final int column = index % GRID;
+        final int row = index / GRID;
+        final int x = column * width / GRID;
+        final int y = row * height / GRID;
+        return new Rectangle(x, y, (column + 1) * width / GRID - x, (row + 1) * height / GRID - y);
+    }
+
+    /**
+     * 64 bits hash: each bit tells if a cell of an 8x8 grid is brighter than the mean of the area.
+     */
+    private static long aHash(long[] sums, int width, int x, int y, int w, int h) {
+        final long[] cells = new long[64];
+        long total = 0;
+        for (int i = 0; i < 64; i++) {
+            cells[i] = mean(sums, width, x + (i % 8) * w / 8, y + (i / 8) * h / 8, x + (i % 8 + 1) * w / 8, y + (i / 8 + 1) * h / 8);
+            total += cells[i];
+        }
+        final long mean = total / 64;
+        long hash = 0;
+        for (int i = 0; i < 64; i++) {
+            hash = hash << 1 | (cells[i] > mean ? 1 : 0);
+        }
+        return hash;
+    }
+
+    /**
+     * 64 bits hash: each bit tells if a cell of a 9x8 grid is brighter than its right neighbour.
+     */
+    private static long dHash(long[] sums, int width, int x, int y, int w, int h) {
+        long hash = 0;
+        for (int row = 0; row < 8; row++) {
+            final int top = y + row * h / 8;
+            final int bottom = y + (row + 1) * h / 8;
+            long previous = mean(sums, width, x, top, x + w / 9, bottom);
+            for (int column = 1; column < 9; column++) {
+                final long current = mean(sums, width, x + column * w / 9, top, x + (column + 1) * w / 9, bottom);
+                hash = hash << 1 | (previous > current ? 1 : 0);
+                previous = current;
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * @return mean luminance of the area [x1, x2[ x [y1, y2[ (the nearest pixel if the area is empty).
+     */
+    private static long mean(long[] sums, int width, int x, int y, int x2, int y2) {
+        final int stride = width + 1;
+        final int x1 = Math.min(x, width - 1);
+        final int y1 = Math.min(y, sums.length / stride - 2);
+        final int right = Math.max(x2, x1 + 1);
+        final int bottom = Math.max(y2, y1 + 1);
+        final long sum = sums[bottom * stride + right] - sums[y1 * stride + right] - sums[bottom * stride + x1] + sums[y1 * stride + x1];
+        return sum / ((long) (right - x1) * (bottom - y1));
+    }
+
+    /**
+     * @return summed area table of the luminance: element (x, y) of a (width + 1) x (height + 1) table is the sum of the pixels above and left of (x, y).
+     */
+    private static long[] summedArea(BufferedImage image) {
+        final int width = image.getWidth();
+        final int height = image.getHeight();
+        final int stride = width + 1;
+        final long[] sums = new long[stride * (height + 1)];
+        final int[] row = new int[width];
+        for (int y = 0; y < height; y++) {
+            image.getRGB(0, y, width, 1, row, 0, width);
+            long line = 0;
+            for (int x = 0; x < width; x++) {
+                final int rgb = row[x];
+                // integer approximation of 0.299 R + 0.587 G + 0.114 B
+                line += (((rgb >> 16) & 0xff) * 77 + ((rgb >> 8) & 0xff) * 150 + (rgb & 0xff) * 29) >> 8;
+                sums[(y + 1) * stride + x + 1] = sums[y * stride + x + 1] + line;
+            }
+        }
+        return sums;
+    }
+
+}
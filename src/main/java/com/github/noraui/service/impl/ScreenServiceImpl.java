@@ -22,20 +22,17 @@ import static org.monte.media.VideoFormatKeys.QualityKey;
 
 import java.awt.AWTException;
 import java.awt.Dimension;
-import java.awt.Graphics;
 import java.awt.GraphicsEnvironment;
 import java.awt.Rectangle;
 import java.awt.Toolkit;
 import java.awt.image.BufferedImage;
-import java.awt.image.RasterFormatException;
-import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
-import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.List;
 
 import javax.imageio.ImageIO;
 
-import org.apache.commons.io.FileUtils;
 import org.monte.media.Format;
 import org.monte.media.FormatKeys.MediaType;
 import org.monte.media.math.Rational;
@@ -44,6 +41,7 @@ import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.OutputType;
 import org.openqa.selenium.Point;
 import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
 import org.slf4j.Logger;
 
@@ -70,7 +68,10 @@ public class ScreenServiceImpl implements ScreenService {
     @Override
     public void takeScreenshot(Scenario scenario) {
         log.debug("takeScreenshot with the scenario named [{}]", scenario.getName());
-        log.debug("size: {}x{}", Context.getDriver().manage().window().getSize().getWidth(), Context.getDriver().manage().window().getSize().getHeight());
+        if (log.isDebugEnabled()) {
+            final org.openqa.selenium.Dimension size = Context.getDriver().manage().window().getSize();
+            log.debug("size: {}x{}", size.getWidth(), size.getHeight());
+        }
         final byte[] screenshot = ((TakesScreenshot) Context.getDriver()).getScreenshotAs(OutputType.BYTES);
         scenario.embed(screenshot, "image/png");
     }
@@ -81,10 +82,10 @@ public class ScreenServiceImpl implements ScreenService {
     @Override
     public void saveScreenshot(String screenName) throws IOException {
         log.info("saveScreenshot with the scenario named [{}]", screenName);
-        log.info("size: {}x{}", Context.getDriver().manage().window().getSize().getWidth(), Context.getDriver().manage().window().getSize().getHeight());
+        final org.openqa.selenium.Dimension size = Context.getDriver().manage().window().getSize();
+        log.info("size: {}x{}", size.getWidth(), size.getHeight());
         final byte[] screenshot = ((TakesScreenshot) Context.getDriver()).getScreenshotAs(OutputType.BYTES);
-        FileUtils.forceMkdir(new File(System.getProperty(USER_DIR) + File.separator + DOWNLOADED_FILES_FOLDER));
-        FileUtils.writeByteArrayToFile(new File(System.getProperty(USER_DIR) + File.separator + DOWNLOADED_FILES_FOLDER + File.separator + screenName + ".jpg"), screenshot);
+        ScreenshotWriter.getInstance().write(screenshot, new File(System.getProperty(USER_DIR) + File.separator + DOWNLOADED_FILES_FOLDER + File.separator + screenName + ".jpg"));
     }
 
     /**
@@ -94,32 +95,34 @@ public class ScreenServiceImpl implements ScreenService {
     public void saveScreenshot(String screenName, WebElement element) throws IOException {
         log.debug("saveScreenshot with the screen named [{}] and element [{}]", screenName, element.getTagName());
 
+        final File file = new File(System.getProperty(USER_DIR) + File.separator + DOWNLOADED_FILES_FOLDER + File.separator + screenName + ".jpg");
+        try {
+            // native element capture (W3C drivers)
+            ScreenshotWriter.getInstance().writeJpeg(element.getScreenshotAs(OutputType.BYTES), null, file);
+            return;
+        } catch (final WebDriverException e) {
+            log.debug("Element screenshot not supported by the driver, the page screenshot is cropped", e);
+        }
         final byte[] screenshot = ((TakesScreenshot) Context.getDriver()).getScreenshotAs(OutputType.BYTES);
-        FileUtils.forceMkdir(new File(System.getProperty(USER_DIR) + File.separator + DOWNLOADED_FILES_FOLDER));
-
-        InputStream in = new ByteArrayInputStream(screenshot);
-        BufferedImage fullImg = ImageIO.read(in);
-
-        // Get the location of element on the page
-        Point point = element.getLocation();
-
-        // Get width and height of the element
-        int eleWidth = element.getSize().getWidth();
-        int eleHeight = element.getSize().getHeight();
 
-        // Crop the entire page screenshot to get only element screenshot
-        try {
-            BufferedImage eleScreenshot = fullImg.getSubimage(point.getX(), point.getY(), eleWidth, eleHeight);
-            ImageIO.write(convertType(eleScreenshot, BufferedImage.TYPE_3BYTE_BGR), "jpg",
-                    new File(System.getProperty(USER_DIR) + File.separator + DOWNLOADED_FILES_FOLDER + File.separator + screenName + ".jpg"));
-        } catch (RasterFormatException e) {
+        // Get the area of element on the page (the image is decoded, cropped and written in background)
+        final Point point = element.getLocation();
+        final org.openqa.selenium.Dimension eleSize = element.getSize();
+        final Rectangle area = new Rectangle(point.getX(), point.getY(), eleSize.getWidth(), eleSize.getHeight());
+        final Dimension screen = getPngSize(screenshot);
+        if (screen != null && !new Rectangle(screen).contains(area)) {
             // if image protrudes from the screen, the whole image is saved.
-            log.warn("image protrudes from the screen, the whole image is saved.");
             scrollIntoView(element);
-            ImageIO.write(convertType(fullImg, BufferedImage.TYPE_3BYTE_BGR), "jpg",
-                    new File(System.getProperty(USER_DIR) + File.separator + DOWNLOADED_FILES_FOLDER + File.separator + screenName + ".jpg"));
         }
+        ScreenshotWriter.getInstance().writeJpeg(screenshot, area, file);
+    }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void flush() {
+        ScreenshotWriter.getInstance().flush();
     }
 
     /**
@@ -175,42 +178,101 @@ public class ScreenServiceImpl implements ScreenService {
      */
     @Override
     public double getDifferencePercent(String actual, String expected) throws IOException {
+        return getDifferencePercent(actual, expected, Double.POSITIVE_INFINITY);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getDifferencePercent(String actual, String expected, double threshold) throws IOException {
+        flush();
         BufferedImage imgActual = ImageIO.read(new File(System.getProperty(USER_DIR) + File.separator + DOWNLOADED_FILES_FOLDER + File.separator + actual + ".jpg"));
         BufferedImage imgExpected = ImageIO.read(new File(System.getProperty(USER_DIR) + File.separator + EXPECTED_FILES_FOLDER + File.separator + expected + ".jpg"));
-        int widthActual = imgActual.getWidth();
-        int heightActual = imgActual.getHeight();
-        int widthExpected = imgExpected.getWidth();
-        int heightExpected = imgExpected.getHeight();
-        if (widthActual != widthExpected || heightActual != heightExpected) {
-            throw new IllegalArgumentException(String.format("Images must have the same dimensions: (%d,%d) vs. (%d,%d)", widthActual, heightActual, widthExpected, heightExpected));
+        return ImageDiff.differencePercent(imgActual, imgExpected, threshold);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getClosestBaseline(String actual) throws IOException {
+        flush();
+        final String closest = VisualIndex.scanned(new File(System.getProperty(USER_DIR) + File.separator + EXPECTED_FILES_FOLDER)).closest(PerceptualHash.of(readScreenshot(actual)));
+        log.debug("closest baseline of [{}] is [{}]", actual, closest);
+        return closest;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getHashDifferencePercent(String actual, String expected) throws IOException {
+        flush();
+        final int distance = PerceptualHash.of(readScreenshot(actual)).distance(getExpectedHash(expected));
+        log.debug("hash distance between [{}] and [{}] is {}", actual, expected, distance);
+        return distance == Integer.MAX_VALUE ? 100 : 100.0 * distance / PerceptualHash.BITS;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getChangedTilesDifferencePercent(String actual, String expected) throws IOException {
+        flush();
+        final File expectedFolder = new File(System.getProperty(USER_DIR) + File.separator + EXPECTED_FILES_FOLDER);
+        final PerceptualHash expectedHash = getExpectedHash(expected);
+        final BufferedImage imgActual = readScreenshot(actual);
+        if (imgActual.getWidth() != expectedHash.getWidth() || imgActual.getHeight() != expectedHash.getHeight()) {
+            log.debug("[{}] and [{}] do not have the same size", actual, expected);
+            return 100;
         }
+        final List<Rectangle> tiles = PerceptualHash.of(imgActual).changedTiles(expectedHash);
+        log.debug("{} changed tile(s) between [{}] and [{}]", tiles.size(), actual, expected);
+        if (tiles.isEmpty()) {
+            return 0;
+        }
+        BufferedImage imgExpected = ImageIO.read(new File(expectedFolder, expected + ".jpg"));
+        return ImageDiff.differencePercent(imgActual, imgExpected, tiles);
+    }
 
-        long diff = 0;
-        for (int y = 0; y < heightActual; y++) {
-            for (int x = 0; x < widthActual; x++) {
-                diff += pixelDiff(imgActual.getRGB(x, y), imgExpected.getRGB(x, y));
-            }
+    private static PerceptualHash getExpectedHash(String expected) throws IOException {
+        final PerceptualHash expectedHash = VisualIndex.of(new File(System.getProperty(USER_DIR) + File.separator + EXPECTED_FILES_FOLDER)).get(expected);
+        if (expectedHash == null) {
+            throw new IOException("Unable to read the expected screenshot " + expected);
         }
-        long maxDiff = 3L * 255 * widthActual * heightActual;
-        return 100.0 * diff / maxDiff;
+        return expectedHash;
     }
 
-    private BufferedImage convertType(BufferedImage eleScreenshot, int type) {
-        BufferedImage bi = new BufferedImage(eleScreenshot.getWidth(), eleScreenshot.getHeight(), type);
-        Graphics g = bi.getGraphics();
-        g.drawImage(eleScreenshot, 0, 0, null);
-        g.dispose();
-        return bi;
+    /**
+     * The actual screenshot is read and hashed each time (it is not indexed): it is often overwritten (tmp) and the date of its file may not change.
+     */
+    private static BufferedImage readScreenshot(String actual) throws IOException {
+        final BufferedImage image = ImageIO.read(new File(System.getProperty(USER_DIR) + File.separator + DOWNLOADED_FILES_FOLDER + File.separator + actual + ".jpg"));
+        if (image == null) {
+            throw new IOException("Unable to read the screenshot " + actual);
+        }
+        return image;
     }
 
-    private static int pixelDiff(int rgb1, int rgb2) {
-        int r1 = (rgb1 >> 16) & 0xff;
-        int g1 = (rgb1 >> 8) & 0xff;
-        int b1 = rgb1 & 0xff;
-        int r2 = (rgb2 >> 16) & 0xff;
-        int g2 = (rgb2 >> 8) & 0xff;
-        int b2 = rgb2 & 0xff;
-        return Math.abs(r1 - r2) + Math.abs(g1 - g2) + Math.abs(b1 - b2);
+    /**
+     * @param png
+     *            bytes of a PNG image.
+     * @return size of the image read from its header, or null if it is not a PNG image.
+     */
+    static Dimension getPngSize(byte[] png) {
+        final byte[] signature = { (byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1a, '\n' };
+        if (png.length < 24) {
+            return null;
+        }
+        for (int i = 0; i < signature.length; i++) {
+            if (png[i] != signature[i]) {
+                return null;
+            }
+        }
+        // IHDR chunk: width then height (big-endian) after the signature, the chunk length and the chunk type
+        final ByteBuffer header = ByteBuffer.wrap(png, 16, 8);
+        return new Dimension(header.getInt(), header.getInt());
     }
 
 }
@@ -0,0 +1,171 @@
+/**
+ * NoraUi is licensed under the license GNU AFFERO GENERAL PUBLIC LICENSE
+ *
+ * @author Nicolas HALLOUIN
+ * @author Stéphane GRILLON
+ */
+package com.github.noraui.service.impl;
+
+import java.awt.Graphics;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.imageio.ImageIO;
+
+import org.apache.commons.io.FileUtils;
+import org.slf4j.Logger;
+
+import com.github.noraui.log.annotation.Loggable;
+
+/**
+ * Writes screenshots off the scenario thread: the scenario thread only captures the bytes of the screenshot, decoding, cropping, JPEG encoding and disk write
+ * run on a small bounded pool. When the queue is full the scenario thread writes the screenshot itself (backpressure), so pending screenshots never grow
+ * without bound. {@link #flush()} waits for the pending screenshots (called at the end of each scenario and before reading a screenshot back).
+ */
+@Loggable
+public final class ScreenshotWriter {
+
+    static Logger log;
+
+    /**
+     * Maximum number of screenshots waiting to be written.
+     */
+    public static final int QUEUE_CAPACITY = 16;
+
+    private static final ScreenshotWriter INSTANCE = new ScreenshotWriter(Math.max(1, Math.min(2, Runtime.getRuntime().availableProcessors() / 2)), QUEUE_CAPACITY);
+
+    private final ThreadPoolExecutor executor;
+    private final Set<Future<?>> pending = ConcurrentHashMap.newKeySet();
+
+    ScreenshotWriter(int threads, int capacity) {
+        final AtomicInteger count = new AtomicInteger();
+        executor = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS, new ArrayBlockingQueue<>(capacity), r -> {
+            final Thread thread = new Thread(r, "noraui-screenshot-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * @return the screenshot writer of the JVM.
+     */
+    public static ScreenshotWriter getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Writes the bytes of a screenshot as they are.
+     *
+     * @param screenshot
+     *            bytes of the screenshot.
+     * @param file
+     *            target file (its folder is created if needed).
+     */
+    public void write(byte[] screenshot, File file) {
+        submit(file, () -> FileUtils.writeByteArrayToFile(file, screenshot));
+    }
+
+    /**
+     * Decodes a screenshot, crops it and writes it as JPEG. The whole screenshot is written if the area protrudes from it.
+     *
+     * @param screenshot
+     *            bytes of the screenshot (PNG).
+     * @param area
+     *            area to keep (null for the whole screenshot).
+     * @param file
+     *            target JPEG file (its folder is created if needed).
+     */
+    public void writeJpeg(byte[] screenshot, Rectangle area, File file) {
+        submit(file, () -> {
+            final BufferedImage image = ImageIO.read(new ByteArrayInputStream(screenshot));
+            if (image == null) {
+                throw new IOException("Unreadable screenshot " + file.getName());
+            }
+            BufferedImage kept = image;
+            if (area != null) {
+                if (new Rectangle(0, 0, image.getWidth(), image.getHeight()).contains(area)) {
+                    kept = image.getSubimage(area.x, area.y, area.width, area.height);
+                } else {
+                    log.warn("image protrudes from the screen, the whole image is saved.");
+                }
+            }
+            FileUtils.forceMkdirParent(file);
+            ImageIO.write(toBgr(kept), "jpg", file);
+        });
+    }
+
+    /**
+     * Waits for the pending screenshots. Errors are logged.
+     *
+     * @return number of screenshots that could not be written.
+     */
+    public int flush() {
+        int errors = 0;
+        final Iterator<Future<?>> iterator = pending.iterator();
+        while (iterator.hasNext()) {
+            final Future<?> future = iterator.next();
+            try {
+                future.get();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return errors;
+            } catch (final ExecutionException e) {
+                log.error("error ScreenshotWriter.flush()", e.getCause());
+                errors++;
+            }
+            iterator.remove();
+        }
+        return errors;
+    }
+
+    /**
+     * @return number of screenshots not written yet.
+     */
+    int getPendingCount() {
+        pending.removeIf(Future::isDone);
+        return pending.size();
+    }
+
+    private void submit(File file, IoTask task) {
+        final FutureTask<Void> future = new FutureTask<>(() -> {
+            task.run();
+            log.debug("Screenshot {} written", file.getName());
+            return null;
+        });
+        pending.add(future);
+        executor.execute(future);
+    }
+
+    private static BufferedImage toBgr(BufferedImage image) {
+        if (image.getType() == BufferedImage.TYPE_3BYTE_BGR) {
+            return image;
+        }
+        final BufferedImage bgr = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_3BYTE_BGR);
+        final Graphics g = bgr.getGraphics();
+        g.drawImage(image, 0, 0, null);
+        g.dispose();
+        return bgr;
+    }
+
+    @FunctionalInterface
+    private interface IoTask {
+
+        void run() throws IOException;
+
+    }
+
+}
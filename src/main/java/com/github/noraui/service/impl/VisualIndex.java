@@ -0,0 +1,225 @@
+/**
+ * NoraUi is licensed under the license GNU AFFERO GENERAL PUBLIC LICENSE
+ *
+ * @author Nicolas HALLOUIN
+ * @author Stéphane GRILLON
+ */
+package com.github.noraui.service.impl;
+
+import java.awt.image.BufferedImage;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.imageio.ImageIO;
+
+import org.slf4j.Logger;
+
+import com.github.noraui.log.annotation.Loggable;
+
+/**
+ * Index of the perceptual hashes ({@link PerceptualHash}) of the screenshots (*.jpg) of a folder, kept in the file {@value #INDEX_FILE} of the folder.
+ * A screenshot is hashed once: its hashes are reused as long as the date and the size of its file do not change. Finding the screenshot closest to an image
+ * only compares hashes, without reading any screenshot.
+ */
+@Loggable
+final class VisualIndex {
+
+    static Logger log;
+
+    /**
+     * Name of the index file written in the folder of the screenshots.
+     */
+    static final String INDEX_FILE = "visual-index.txt";
+
+    private static final String EXTENSION = ".jpg";
+
+    private static final Map<File, VisualIndex> INDEXES = new ConcurrentHashMap<>();
+
+    private final File folder;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private volatile boolean scanned;
+
+    VisualIndex(File folder) {
+        this.folder = folder;
+        load();
+    }
+
+    /**
+     * @param folder
+     *            a folder of screenshots.
+     * @return the index of the folder, loaded from its index file (screenshots are hashed when they are asked).
+     */
+    static VisualIndex of(File folder) {
+        return INDEXES.computeIfAbsent(folder.getAbsoluteFile(), VisualIndex::new);
+    }
+
+    /**
+     * @param folder
+     *            a folder of screenshots.
+     * @return the index of the folder, completed with all the screenshots of the folder the first time.
+     */
+    static VisualIndex scanned(File folder) {
+        final VisualIndex index = of(folder);
+        if (!index.scanned) {
+            index.refresh();
+        }
+        return index;
+    }
+
+    /**
+     * Hashes the screenshots of the folder not indexed yet (or changed since), forgets the deleted ones and saves the index file if it changed.
+     */
+    synchronized void refresh() {
+        final File[] files = folder.listFiles((dir, name) -> name.endsWith(EXTENSION));
+        scanned = true;
+        if (files == null) {
+            return;
+        }
+        final Map<String, File> present = new ConcurrentHashMap<>();
+        for (final File file : files) {
+            present.put(file.getName().substring(0, file.getName().length() - EXTENSION.length()), file);
+        }
+        boolean changed = entries.keySet().retainAll(present.keySet());
+        final long hashed = present.entrySet().parallelStream().filter(e -> hash(e.getKey(), e.getValue()) != null).count();
+        changed |= hashed > 0;
+        if (changed) {
+            save();
+        }
+    }
+
+    /**
+     * @param name
+     *            name of a screenshot of the folder (without extension).
+     * @return hashes of the screenshot, or null if it can not be read.
+     */
+    PerceptualHash get(String name) {
+        final File file = new File(folder, name + EXTENSION);
+        if (!file.isFile()) {
+            entries.remove(name);
+            return null;
+        }
+        Entry entry = entries.get(name);
+        if (entry == null || !entry.isFor(file)) {
+            entry = hash(name, file);
+            if (entry != null) {
+                save();
+            }
+        }
+        return entry == null ? null : entry.hash;
+    }
+
+    /**
+     * @param hash
+     *            hashes of an image.
+     * @return name of the screenshot of the same size closest to the image, or null if none has the same size.
+     */
+    String closest(PerceptualHash hash) {
+        String closest = null;
+        int min = Integer.MAX_VALUE;
+        for (final Map.Entry<String, Entry> entry : entries.entrySet()) {
+            final int distance = hash.distance(entry.getValue().hash);
+            if (distance < min || distance == min && distance != Integer.MAX_VALUE && entry.getKey().compareTo(closest) < 0) {
+                min = distance;
+                closest = entry.getKey();
+            }
+        }
+        return closest;
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return the new entry if the file has been hashed, null if the entry is up to date or the file can not be read.
+     */
+    private Entry hash(String name, File file) {
+        final Entry current = entries.get(name);
+        if (current != null && current.isFor(file)) {
+            return null;
+        }
+        try {
+            final BufferedImage image = ImageIO.read(file);
+            if (image == null) {
+                log.warn("{} is not an image and is not indexed", file);
+                entries.remove(name);
+                return null;
+            }
+            final Entry entry = new Entry(file.lastModified(), file.length(), PerceptualHash.of(image));
+            entries.put(name, entry);
+            return entry;
+        } catch (final IOException e) {
+            log.warn("{} can not be read and is not indexed", file, e);
+            entries.remove(name);
+            return null;
+        }
+    }
+
+    private void load() {
+        final File file = new File(folder, INDEX_FILE);
+        if (!file.isFile()) {
+            return;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                final String[] parts = line.split("\t");
+                final PerceptualHash hash = parts.length == 4 ? PerceptualHash.parse(parts[3]) : null;
+                if (hash != null) {
+                    entries.put(parts[0], new Entry(Long.parseLong(parts[1]), Long.parseLong(parts[2]), hash));
+                }
+            }
+        } catch (final IOException | NumberFormatException e) {
+            log.warn("Visual index {} can not be read, the screenshots are hashed again", file, e);
+            entries.clear();
+        }
+    }
+
+    /**
+     * Writes the index in a temporary file then replaces the index file, so that a reader never sees a partial index.
+     */
+    private synchronized void save() {
+        final File file = new File(folder, INDEX_FILE);
+        final File tmp = new File(folder, INDEX_FILE + ".tmp");
+        try {
+            try (BufferedWriter writer = Files.newBufferedWriter(tmp.toPath(), StandardCharsets.UTF_8)) {
+                for (final Map.Entry<String, Entry> entry : entries.entrySet()) {
+                    writer.write(entry.getKey() + '\t' + entry.getValue().lastModified + '\t' + entry.getValue().length + '\t' + entry.getValue().hash);
+                    writer.newLine();
+                }
+            }
+            Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        } catch (final IOException e) {
+            log.warn("Visual index {} can not be written", file, e);
+        }
+    }
+
+    /**
+     * Hashes of a screenshot with the date and the size of its file when it was hashed.
+     */
+    private static final class Entry {
+
+        private final long lastModified;
+        private final long length;
+        private final PerceptualHash hash;
+
+        private Entry(long lastModified, long length, PerceptualHash hash) {
+            this.lastModified = lastModified;
+            this.length = length;
+            this.hash = hash;
+        }
+
+        private boolean isFor(File file) {
+            return file.lastModified() == lastModified && file.length() == length;
+        }
+
+    }
+
+}
@@ -21,6 +21,7 @@ import java.lang.reflect.Method;
 import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
@@ -29,10 +30,13 @@ import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.NotImplementedException;
 import org.apache.maven.model.io.xpp3.MavenXpp3Reader;
 import org.codehaus.plexus.util.xml.pull.XmlPullParserException;
@@ -41,6 +45,7 @@ import org.ini4j.InvalidFileFormatException;
 import org.joda.time.DateTime;
 import org.openqa.selenium.Proxy;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.WebDriverWait;
 import org.reflections.Reflections;
 import org.reflections.scanners.SubTypesScanner;
 import org.slf4j.Logger;
@@ -50,14 +55,18 @@ import com.github.noraui.application.Application;
 import com.github.noraui.application.steps.Step;
 import com.github.noraui.browser.Auth;
 import com.github.noraui.browser.DriverFactory;
+import com.github.noraui.browser.ElementCache;
 import com.github.noraui.browser.WindowManager;
 import com.github.noraui.browser.steps.BrowserSteps;
+import com.github.noraui.browser.waits.PollingStrategy;
 import com.github.noraui.browser.waits.Wait;
+import com.github.noraui.browser.waits.WaitFactory;
 import com.github.noraui.data.DataIndex;
 import com.github.noraui.data.DataInputProvider;
 import com.github.noraui.data.DataOutputProvider;
 import com.github.noraui.data.DataProvider;
 import com.github.noraui.data.DataUtils;
+import com.github.noraui.data.Shard;
 import com.github.noraui.data.console.OutputConsoleDataProvider;
 import com.github.noraui.data.csv.CsvDataProvider;
 import com.github.noraui.data.db.DBDataProvider;
@@ -144,6 +153,11 @@ public class Context {
      */
     protected static volatile Context instance = null;
 
+    /**
+     * Context of the worker running on the current thread (not set when scenarios run one at a time with the static context instance).
+     */
+    private static final ThreadLocal<Context> WORKER_INSTANCE = new ThreadLocal<>();
+
     /**
      * Context driver factory.
      */
@@ -199,6 +213,31 @@ public class Context {
      */
     private Scenario currentScenario;
 
+    /**
+     * Instances of classes resolved once for the current Cucumber scenario (steps classes of looped steps for example).
+     */
+    private Map<Class<?>, Object> scenarioInstances;
+
+    /**
+     * Authentication of the current user (see {@link Auth}).
+     */
+    private Auth auth;
+
+    /**
+     * Waits of the driver of this context (see {@link Wait}).
+     */
+    private WaitFactory waitFactory;
+
+    /**
+     * Polling of the waits.
+     */
+    private PollingStrategy pollingStrategy;
+
+    /**
+     * Elements located on the current page of the driver of this context (see {@link com.github.noraui.application.page.Page#isElementCacheEnabled()}).
+     */
+    private ElementCache elementCache;
+
     /**
      * start date of current Cucumber scenario.
      */
@@ -261,6 +300,16 @@ public class Context {
      */
     private boolean isHeadless;
 
+    /**
+     * Shard of this JVM (null if the execution is not sharded).
+     */
+    private Shard shard;
+
+    /**
+     * Folder of the output data files (a sub folder per shard when the execution is sharded).
+     */
+    private String dataOutPath;
+
     /**
      * Instance of DataInputProvider
      */
@@ -296,6 +345,11 @@ public class Context {
      */
     protected Map<String, String> properties;
 
+    /**
+     * Selectors files of the applications by application key. Since the selectors files are parsed on first use (see
+     * {@link #initApplicationDom(ClassLoader, String, String)}), a file is only in this map once parsed, not at the end of {@link #initializeRobot(Class)}:
+     * use {@link #getIniFile(String)}, which parses the file if needed.
+     */
     protected static volatile Map<String, Ini> iniFiles;
 
     protected String resourcesPath;
@@ -306,7 +360,9 @@ public class Context {
      * Private constructor
      */
     protected Context() {
-        NoraUiLoggingInjector.addInjector(Constants.TOP_LEVEL_PACKAGE);
+        try (StartupProfiler.Phase phase = StartupProfiler.start("logging injection")) {
+            NoraUiLoggingInjector.addInjector(Constants.TOP_LEVEL_PACKAGE);
+        }
         driverFactory = new DriverFactory();
         windowManager = new WindowManager();
         scenarioRegistry = new ScenarioRegistry();
@@ -316,47 +372,172 @@ public class Context {
         applications = new HashMap<>();
         properties = new HashMap<>();
         cucumberMethods = new HashMap<>();
+        scenarioInstances = new HashMap<>();
     }
 
     /**
-     * Get context singleton.
+     * Worker constructor: the configuration is shared with the given context, the scenario state (driver, windows, registry, counters, data providers and
+     * authentication) is owned by the worker.
+     *
+     * @param shared
+     *            initialized context.
+     */
+    protected Context(Context shared) {
+        driverFactory = new DriverFactory();
+        windowManager = new WindowManager();
+        scenarioRegistry = new ScenarioRegistry();
+        currentScenarioData = nbFailure = nbWarning = 0;
+        scenarioHasWarning = false;
+        scenarioInstances = new HashMap<>();
+        exceptionCallbacks = shared.exceptionCallbacks;
+        applications = shared.applications;
+        properties = shared.properties;
+        cucumberMethods = shared.cucumberMethods;
+        applicationProperties = shared.applicationProperties;
+        resourcesPath = shared.resourcesPath;
+        modelPackages = shared.modelPackages;
+        currentLocale = shared.currentLocale;
+        selectorsVersion = shared.selectorsVersion;
+        browser = shared.browser;
+        timeout = shared.timeout;
+        cryptoKey = shared.cryptoKey;
+        proxy = shared.proxy;
+        connectTimeout = shared.connectTimeout;
+        writeTimeout = shared.writeTimeout;
+        readTimeout = shared.readTimeout;
+        displayStackTrace = shared.displayStackTrace;
+        isHeadless = shared.isHeadless;
+        pollingStrategy = shared.pollingStrategy;
+        shard = shared.shard;
+        dataOutPath = shared.dataOutPath;
+        if (applicationProperties != null) {
+            plugDataProvider(applicationProperties);
+            dataInputProvider.setDataInPath(resourcesPath + DATA_IN);
+            dataOutputProvider.setDataOutPath(dataOutPath);
+        }
+    }
+
+    /**
+     * Get context singleton, or the context of the worker running on the current thread (see {@link #startWorker()}).
      *
      * @return context instance
      */
     public static Context getInstance() {
+        Context worker = WORKER_INSTANCE.get();
+        if (worker != null) {
+            return worker;
+        }
         if (instance == null) {
             instance = new Context();
         }
         return instance;
     }
 
+    /**
+     * Binds a new worker context to the current thread, so that the static methods of {@link Context} (and {@link Auth}, {@link Wait}) use its own driver,
+     * scenario registry, counters and data providers, while sharing the configuration of the static context instance (which must be initialized).
+     * Several scenarios can then run concurrently in one JVM, one per worker thread. A worker already bound to the current thread is stopped first.
+     *
+     * @return the worker context.
+     */
+    public static Context startWorker() {
+        stopWorker();
+        Context shared = getInstance();
+        String authenticationType = Auth.getAuthenticationType();
+        Context worker = shared.newWorker();
+        WORKER_INSTANCE.set(worker);
+        Auth.setAuthenticationType(authenticationType);
+        return worker;
+    }
+
+    /**
+     * Quits the driver of the worker context bound to the current thread (if any) and unbinds it.
+     */
+    public static void stopWorker() {
+        Context worker = WORKER_INSTANCE.get();
+        if (worker != null) {
+            quit();
+            WORKER_INSTANCE.remove();
+        }
+    }
+
+    /**
+     * Creates a worker context sharing the configuration of this context. Override it when the application context adds its own configuration.
+     *
+     * @return a new worker context.
+     */
+    protected Context newWorker() {
+        return new Context(this);
+    }
+
     /**
      * @param propertiesFileName
      *            is name of properties file.
      */
     public synchronized void initializeEnv(String propertiesFileName) {
         log.info("Context > initializeEnv()");
+        try (StartupProfiler.Phase phase = StartupProfiler.start("Context.initializeEnv")) {
+            iniFiles = new ConcurrentHashMap<>();
+            try (StartupProfiler.Phase files = StartupProfiler.start("properties files")) {
+                applicationProperties = initPropertiesFile(Thread.currentThread().getContextClassLoader(), propertiesFileName);
 
-        iniFiles = new HashMap<>();
-        applicationProperties = initPropertiesFile(Thread.currentThread().getContextClassLoader(), propertiesFileName);
+                // init locale
+                initializeLocale();
 
-        // init locale
-        initializeLocale();
+                // init scenarios paths
+                initializeScenarioProperties(ScenarioInitiator.class.getClassLoader());
+            }
 
-        // init scenarios paths
-        initializeScenarioProperties(ScenarioInitiator.class.getClassLoader());
+            resourcesPath = System.getProperty("resourcespath");
 
-        resourcesPath = System.getProperty("resourcespath");
+            // set list of model packages
+            modelPackages = getProperty(MODEL_PACKAGES, applicationProperties);
 
-        // set list of model packages
-        modelPackages = getProperty(MODEL_PACKAGES, applicationProperties);
+            try (StartupProfiler.Phase dataProviders = StartupProfiler.start("plugDataProvider")) {
+                plugDataProvider(applicationProperties);
+            }
 
-        plugDataProvider(applicationProperties);
+            // Sharding configuration
+            try (StartupProfiler.Phase sharding = StartupProfiler.start("initializeShard")) {
+                initializeShard();
+            }
 
-        // Paths configuration
-        getDataInputProvider().setDataInPath(resourcesPath + DATA_IN);
-        getDataOutputProvider().setDataOutPath(resourcesPath + DATA_OUT);
+            // Paths configuration
+            getDataInputProvider().setDataInPath(resourcesPath + DATA_IN);
+            getDataOutputProvider().setDataOutPath(dataOutPath);
+        }
+    }
 
+    /**
+     * Reads the shard of this JVM (-Dnoraui.shard=i/N). When the execution is sharded, output data files are written in a sub folder of the shard, initialized
+     * with a copy of the output data files, and features are injected in the features folder of the shard (see {@link Shard#getFeaturesFolder()}), so that N
+     * JVMs can run at the same time in one workspace. Results are merged back with {@link com.github.noraui.indus.ShardMerger}.
+     */
+    private void initializeShard() {
+        dataOutPath = resourcesPath + DATA_OUT;
+        try {
+            shard = Shard.current();
+        } catch (final TechnicalException e) {
+            log.error(Messages.getMessage(TechnicalException.TECHNICAL_ERROR_MESSAGE), e);
+            shard = null;
+        }
+        if (shard != null) {
+            final File outFolder = new File(dataOutPath);
+            final File shardFolder = new File(outFolder, shard.getFolderName());
+            log.info("Shard {}: output data files are written in {}, features in {}", shard, shardFolder.getAbsolutePath(), shard.getFeaturesFolder().getAbsolutePath());
+            try {
+                FileUtils.forceMkdir(shardFolder);
+                final File[] files = outFolder.listFiles(File::isFile);
+                if (files != null) {
+                    for (final File file : files) {
+                        FileUtils.copyFileToDirectory(file, shardFolder);
+                    }
+                }
+            } catch (final IOException e) {
+                log.error(TechnicalException.TECHNICAL_IO_EXCEPTION, e.getMessage(), e);
+            }
+            dataOutPath = shardFolder.getPath() + File.separator;
+        }
     }
 
     /**
@@ -367,11 +548,20 @@ public class Context {
      */
     public synchronized void initializeRobot(Class<?> clazz) throws TechnicalException {
         log.info("Context > initializeRobot() with {}", clazz.getCanonicalName());
+        try (StartupProfiler.Phase phase = StartupProfiler.start("Context.initializeRobot")) {
+            initializeNoraUiRobot(clazz);
+        }
+        StartupProfiler.report();
+    }
+
+    private void initializeNoraUiRobot(Class<?> clazz) throws TechnicalException {
         // set browser: chrome,firefox or ie
         browser = getProperty(BROWSER_KEY, applicationProperties);
 
         // set Webdriver file: src/test/resources/drivers/...
-        initializeWebdriversProperties(Thread.currentThread().getContextClassLoader());
+        try (StartupProfiler.Phase phase = StartupProfiler.start("webdrivers properties")) {
+            initializeWebdriversProperties(Thread.currentThread().getContextClassLoader());
+        }
 
         // wait delay until web element is displayed.
         timeout = getIntProperty(TIMEOUT_KEY, applicationProperties);
@@ -420,6 +610,9 @@ public class Context {
         // enable browser headless mode ?
         isHeadless = "true".equals(Context.getWebdriversProperties(HEADLESS));
 
+        // polling of the waits
+        pollingStrategy = PollingStrategy.fromProperties();
+
         // init driver callbacks
         exceptionCallbacks.put(Callbacks.RESTART_WEB_DRIVER, STEPS_BROWSER_STEPS_CLASS_QUALIFIED_NAME, RESTART_WEB_DRIVER_METHOD_NAME);
         exceptionCallbacks.put(Callbacks.CLOSE_WINDOW_AND_SWITCH_TO_GITHUBAPI_HOME, STEPS_BROWSER_STEPS_CLASS_QUALIFIED_NAME, GO_TO_URL_METHOD_NAME, GITHUBAPI_HOME);
@@ -433,28 +626,48 @@ public class Context {
         applications.put(GITHUBAPI_KEY, new Application(GITHUBAPI_HOME, getProperty(GITHUBAPI_KEY, applicationProperties)));
 
         // read and init all cucumber methods
-        cucumberMethods = getAllCucumberMethods(clazz);
+        try (StartupProfiler.Phase phase = StartupProfiler.start("getAllCucumberMethods")) {
+            cucumberMethods = getAllCucumberMethods(clazz);
+        }
     }
 
     /**
      * Clear context
      */
     public static void clear() {
-        instance.driverFactory.clear();
-        instance.windowManager.clear();
-        instance.scenarioRegistry.clear();
-        instance.scenarioName = null;
+        Context context = getInstance();
+        context.driverFactory.clear();
+        context.waitFactory = null;
+        context.elementCache = null;
+        context.windowManager.clear();
+        context.scenarioRegistry.clear();
+        context.scenarioName = null;
+    }
+
+    /**
+     * Restart the driver (see {@link DriverFactory#restart()}) and clear context
+     */
+    public static void restart() {
+        Context context = getInstance();
+        context.driverFactory.restart();
+        context.waitFactory = null;
+        context.elementCache = null;
+        context.windowManager.clear();
+        context.scenarioRegistry.clear();
+        context.scenarioName = null;
     }
 
     /**
      * Clear context
      */
     public static void quit() {
+        Context context = getInstance();
         Wait.clear();
-        instance.driverFactory.quit();
-        instance.windowManager.clear();
-        instance.scenarioRegistry.clear();
-        instance.scenarioName = null;
+        context.elementCache = null;
+        context.driverFactory.quit();
+        context.windowManager.clear();
+        context.scenarioRegistry.clear();
+        context.scenarioName = null;
     }
 
     /**
@@ -602,6 +815,20 @@ public class Context {
 
     public static void setCurrentScenario(final Scenario scenario) {
         getInstance().currentScenario = scenario;
+        getInstance().scenarioInstances.clear();
+    }
+
+    /**
+     * Gets the instance of a class for the current scenario, created by the factory on first call in the scenario.
+     *
+     * @param clazz
+     *            class of the instance.
+     * @param factory
+     *            creates the instance of the class.
+     * @return the instance of the class for the current scenario.
+     */
+    public static Object getScenarioInstance(Class<?> clazz, Function<Class<?>, Object> factory) {
+        return getInstance().scenarioInstances.computeIfAbsent(clazz, factory);
     }
 
     public static DateTime getStartCurrentScenario() {
@@ -612,6 +839,26 @@ public class Context {
         getInstance().startCurrentScenario = DateTime.now();
     }
 
+    /**
+     * Gets the authentication of the current user, created on first call (and after {@link Auth#clear()}).
+     *
+     * @return the authentication of the current user.
+     */
+    public static Auth getAuth() {
+        Context context = getInstance();
+        if (context.auth == null) {
+            context.auth = new Auth();
+        }
+        return context.auth;
+    }
+
+    /**
+     * Forgets the authentication of the current user.
+     */
+    public static void clearAuth() {
+        getInstance().auth = null;
+    }
+
     public static DataInputProvider getDataInputProvider() {
         return getInstance().dataInputProvider;
     }
@@ -697,6 +944,16 @@ public class Context {
     }
 
     /**
+     * @return the shard of this JVM or null if the execution is not sharded.
+     */
+    public static Shard getShard() {
+        return getInstance().shard;
+    }
+
+    /**
+     * Declares the selectors file of an application. The file is parsed on first use of one of its selectors, or in background if a scenario is tagged with
+     * the key of the application (see {@link #prewarmApplicationDoms(Collection)}).
+     *
      * @param loader
      *            is class loader
      * @param version
@@ -705,17 +962,40 @@ public class Context {
      *            unic key of application
      */
     protected static void initApplicationDom(ClassLoader loader, String version, String applicationKey) {
-        try {
-            final InputStream data = loader.getResourceAsStream("selectors/" + version + "/" + applicationKey + ".ini");
+        iniFiles.remove(applicationKey);
+        LocatorRegistry.declare(applicationKey, () -> parseApplicationDom(loader, version, applicationKey));
+    }
+
+    /**
+     * Parses in background the selectors files of the applications named by tags (ex: {@code @bakery}) which are not parsed yet.
+     *
+     * @param tags
+     *            tags of a scenario.
+     */
+    public static void prewarmApplicationDoms(Collection<String> tags) {
+        LocatorRegistry.prewarm(tags.stream().map(tag -> tag.startsWith("@") ? tag.substring(1) : tag).collect(Collectors.toList()));
+    }
+
+    /**
+     * @param applicationKey
+     *            unic key of application
+     * @return the selectors file of the application, parsed on first call (and put in {@link #iniFiles}), or null if there is none.
+     */
+    public static Ini getIniFile(String applicationKey) {
+        return LocatorRegistry.getIni(applicationKey);
+    }
+
+    private static Ini parseApplicationDom(ClassLoader loader, String version, String applicationKey) {
+        try (InputStream data = loader.getResourceAsStream("selectors/" + version + "/" + applicationKey + ".ini")) {
             if (data != null) {
-                final Ini ini = new Ini(data);
-                iniFiles.put(applicationKey, ini);
+                return new Ini(data);
             }
         } catch (final InvalidFileFormatException e) {
             log.error("error Context.initApplicationDom()", e);
         } catch (final IOException e) {
             log.error(Messages.getMessage(CONTEXT_APP_INI_FILE_NOT_FOUND), applicationKey, e);
         }
+        return null;
     }
 
     public static String getScenarioProperty(String key) {
@@ -742,6 +1022,71 @@ public class Context {
         return getInstance().timeout;
     }
 
+    /**
+     * Gets the WebDriverWait of the driver with the default timeout, created on first call and then reused.
+     *
+     * @return the WebDriverWait of the driver.
+     */
+    public static WebDriverWait getWebDriverWait() {
+        return getWaitFactory().get(getInstance().timeout);
+    }
+
+    /**
+     * Gets the WebDriverWait of the driver with a timeout, created on first call and then reused.
+     *
+     * @param timeOutInSeconds
+     *            timeout of the wait in seconds.
+     * @return the WebDriverWait of the driver.
+     */
+    public static WebDriverWait getWebDriverWait(int timeOutInSeconds) {
+        return getWaitFactory().get(timeOutInSeconds);
+    }
+
+    /**
+     * Gets the waits of the current driver, a new factory is created on first call, after {@link #clearWebDriverWait()} and when the driver has changed.
+     *
+     * @return the wait factory of the driver.
+     */
+    public static WaitFactory getWaitFactory() {
+        Context context = getInstance();
+        WebDriver driver = context.driverFactory.getDriver();
+        if (context.waitFactory == null || !context.waitFactory.isFor(driver)) {
+            if (context.pollingStrategy == null) {
+                context.pollingStrategy = PollingStrategy.fromProperties();
+            }
+            context.waitFactory = new WaitFactory(driver, context.pollingStrategy);
+        }
+        return context.waitFactory;
+    }
+
+    public static void clearWebDriverWait() {
+        getInstance().waitFactory = null;
+    }
+
+    /**
+     * Gets the elements cached on the current page of the driver, a new cache is created on first call and when the driver has changed.
+     *
+     * @return the element cache of the driver.
+     */
+    public static ElementCache getElementCache() {
+        Context context = getInstance();
+        WebDriver driver = context.driverFactory.getDriver();
+        if (context.elementCache == null || !context.elementCache.isFor(driver)) {
+            context.elementCache = new ElementCache(driver);
+        }
+        return context.elementCache;
+    }
+
+    /**
+     * Clears the cached elements, to be called when the driver leaves the current page (navigation, window or frame switch).
+     */
+    public static void clearElementCache() {
+        Context context = getInstance();
+        if (context.elementCache != null) {
+            context.elementCache.clear();
+        }
+    }
+
     public static String getCryptoKey() {
         return getInstance().cryptoKey;
     }
@@ -834,8 +1179,8 @@ public class Context {
         Statistics stat = new Statistics();
         MavenXpp3Reader reader = new MavenXpp3Reader();
         org.apache.maven.model.Model model;
-        try {
-            model = reader.read(new FileReader("pom.xml"));
+        try (StartupProfiler.Phase phase = StartupProfiler.start("statisticsProcessor pom.xml"); FileReader pom = new FileReader("pom.xml")) {
+            model = reader.read(pom);
             stat.setNorauiVersion(model.getProperties().getProperty("noraui.version"));
             stat.setName(model.getName());
             stat.setGroupId(model.getGroupId());
@@ -878,7 +1223,7 @@ public class Context {
     }
 
     /**
-     * init all Data index (by model).
+     * init all Data index (by model). When the execution is sharded, only the Data index of the shard are kept (see {@link Shard#select(List)}).
      *
      * @param scenarioName
      *            name of scenario.
@@ -908,6 +1253,9 @@ public class Context {
                     indexData.add(new DataIndex(i, index));
                 }
             }
+            if (getShard() != null) {
+                indexData = getShard().select(indexData);
+            }
             Context.getDataInputProvider().setIndexData(indexData);
         } catch (final Exception te) {
             throw new TechnicalException(Messages.getMessage(TechnicalException.TECHNICAL_ERROR_MESSAGE) + te.getMessage(), te);
@@ -929,6 +1277,7 @@ public class Context {
         } else {
             currentLocale = Locale.getDefault();
         }
+        Messages.preload(currentLocale);
         log.info(Messages.getMessage(CONTEXT_LOCALE_USED), currentLocale);
     }
 
@@ -0,0 +1,228 @@
+/**
+ * NoraUi is licensed under the license GNU AFFERO GENERAL PUBLIC LICENSE
+ *
+ * @author Nicolas HALLOUIN
+ * @author Stéphane GRILLON
+ */
+package com.github.noraui.utils;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.ini4j.Ini;
+import org.junit.Assert;
+import org.openqa.selenium.By;
+
+import com.github.noraui.selenium.ScriptConditions;
+
+/**
+ * Locators of the applications compiled once from their selectors files (see {@link Context#initApplicationDom(ClassLoader, String, String)}): the type of
+ * each locator is resolved to a {@link By} factory, and locators without format specifier are built once. A locator lookup is then a hash lookup.
+ * The selectors file of an application is only parsed when one of its locators is used for the first time, or in background when it is pre-warmed.
+ */
+final class LocatorRegistry {
+
+    private static final Map<String, Function<String, By>> FACTORIES;
+    static {
+        final Map<String, Function<String, By>> factories = new HashMap<>();
+        factories.put("css", By::cssSelector);
+        factories.put("link", By::linkText);
+        factories.put("id", By::id);
+        factories.put("name", By::name);
+        factories.put("xpath", By::xpath);
+        factories.put("class", By::className);
+        FACTORIES = Collections.unmodifiableMap(factories);
+    }
+
+    private static final Map<String, CompiledApplication> APPLICATIONS = new ConcurrentHashMap<>();
+
+    /**
+     * Parse of the selectors file of each declared application, run once by the first thread needing it.
+     */
+    private static final Map<String, FutureTask<Ini>> SOURCES = new ConcurrentHashMap<>();
+
+    /**
+     * Threads parsing the selectors files in background (daemon threads stopped when idle), apart from the common pool used by the parallel streams.
+     */
+    private static final ThreadPoolExecutor PREWARM;
+    static {
+        final AtomicInteger count = new AtomicInteger();
+        PREWARM = new ThreadPoolExecutor(2, 2, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r -> {
+            final Thread thread = new Thread(r, "noraui-selectors-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        PREWARM.allowCoreThreadTimeOut(true);
+    }
+
+    private LocatorRegistry() {
+    }
+
+    /**
+     * Declares the selectors file of an application, parsed on first use.
+     *
+     * @param applicationKey
+     *            key of the application.
+     * @param parser
+     *            parses the selectors file (returns null if there is none).
+     */
+    static void declare(String applicationKey, Callable<Ini> parser) {
+        SOURCES.put(applicationKey, new FutureTask<>(parser));
+        APPLICATIONS.remove(applicationKey);
+    }
+
+    /**
+     * Parses in background the selectors files of applications not parsed yet.
+     *
+     * @param applicationKeys
+     *            keys of applications (keys not declared are ignored).
+     */
+    static void prewarm(Collection<String> applicationKeys) {
+        for (final String applicationKey : applicationKeys) {
+            final FutureTask<Ini> source = SOURCES.get(applicationKey);
+            if (source != null && !source.isDone()) {
+                PREWARM.execute(source);
+            }
+        }
+    }
+
+    /**
+     * @param applicationKey
+     *            key of the application.
+     * @return the selectors file of the application, parsed on first call (and put in {@link Context#iniFiles}), or null if there is none.
+     */
+    static Ini getIni(String applicationKey) {
+        final Ini ini = Context.iniFiles.get(applicationKey);
+        if (ini != null) {
+            return ini;
+        }
+        final FutureTask<Ini> source = SOURCES.get(applicationKey);
+        if (source == null) {
+            return null;
+        }
+        // no-op if the parse is running or done in another thread
+        source.run();
+        try {
+            final Ini parsed = source.get();
+            if (parsed != null && SOURCES.get(applicationKey) == source) {
+                Context.iniFiles.putIfAbsent(applicationKey, parsed);
+            }
+            return parsed;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (final ExecutionException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @param applicationKey
+     *            key of the application.
+     * @param code
+     *            key of the selector.
+     * @return the compiled locator or null if the selector does not exist. The selectors file is compiled again if it has been replaced in
+     *         {@link Context#iniFiles}.
+     */
+    static CompiledLocator get(String applicationKey, String code) {
+        final Ini ini = getIni(applicationKey);
+        if (ini == null) {
+            return null;
+        }
+        CompiledApplication application = APPLICATIONS.get(applicationKey);
+        if (application == null || application.ini != ini) {
+            application = new CompiledApplication(ini);
+            APPLICATIONS.put(applicationKey, application);
+        }
+        return application.locators.get(code);
+    }
+
+    private static final class CompiledApplication {
+
+        private final Ini ini;
+        private final Map<String, CompiledLocator> locators;
+
+        private CompiledApplication(Ini ini) {
+            this.ini = ini;
+            final Map<String, CompiledLocator> compiled = new HashMap<>(ini.size() * 4 / 3 + 1);
+            for (final String code : ini.keySet()) {
+                final Iterator<Map.Entry<String, String>> entries = ini.get(code).entrySet().iterator();
+                if (entries.hasNext()) {
+                    final Map.Entry<String, String> entry = entries.next();
+                    compiled.put(code, new CompiledLocator(entry.getKey(), entry.getValue()));
+                }
+            }
+            this.locators = Collections.unmodifiableMap(compiled);
+        }
+
+    }
+
+    /**
+     * First selector of a section of a selectors file ({@code type=template}).
+     */
+    static final class CompiledLocator {
+
+        private final String type;
+        private final String template;
+        private final Function<String, By> factory;
+
+        /**
+         * Locator built once if the template has no format specifier.
+         */
+        private final By locator;
+
+        private CompiledLocator(String type, String template) {
+            this.type = type;
+            this.template = template;
+            this.factory = FACTORIES.get(type);
+            this.locator = factory == null || template.indexOf('%') >= 0 ? null : build(template);
+        }
+
+        /**
+         * @param args
+         *            list of args ({@link String#format(String, Object...)}).
+         * @return the selector.
+         */
+        String getSelector(Object... args) {
+            return locator == null ? String.format(template, args) : template;
+        }
+
+        /**
+         * @param args
+         *            list of args ({@link String#format(String, Object...)}).
+         * @return the locator.
+         */
+        By getLocator(Object... args) {
+            if (locator != null) {
+                return locator;
+            }
+            if (factory == null) {
+                Assert.fail(type + " NOT implemented!");
+            }
+            return build(String.format(template, args));
+        }
+
+        /**
+         * @param selector
+         *            the selector.
+         * @return the locator, which knows its type and selector (see {@link ScriptConditions#locator(String, String, By)}).
+         */
+        private By build(String selector) {
+            return ScriptConditions.locator(type, selector, factory.apply(selector));
+        }
+
+    }
+
+}
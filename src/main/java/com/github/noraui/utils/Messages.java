@@ -6,18 +6,39 @@
  */
 package com.github.noraui.utils;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
+import java.util.MissingResourceException;
 import java.util.ResourceBundle;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.github.noraui.exception.TechnicalException;
 
 public class Messages {
 
-    private static Map<String, ResourceBundle> messagesBundles = new HashMap<>();
+    /**
+     * Immutable message tables by bundle, loaded on first use (or preloaded with the locale of the robot, see {@link #preload(Locale)}).
+     */
+    private static final Map<String, MessageTable> TABLES = new ConcurrentHashMap<>();
+
+    /**
+     * Number of %s placeholders of each message of the loaded tables.
+     */
+    private static final Map<String, Integer> PLACEHOLDERS = new ConcurrentHashMap<>();
+
+    /**
+     * Maximum number of cached placeholder counts of the templates which are not messages of the bundles.
+     */
+    static final int MAX_TEMPLATES = 1024;
+
+    /**
+     * Number of %s placeholders of the templates which are not messages of the bundles (ex: built by a robot), cached until {@value #MAX_TEMPLATES} templates.
+     */
+    static final Map<String, Integer> TEMPLATES = new ConcurrentHashMap<>();
+
+    private static final String PLACEHOLDER = "%s";
 
     private static final String FAIL_MESSAGE_FORMAT_STRING = "FAIL_MESSAGE_FORMAT_STRING";
     private static final String DEFAULT_BUNDLE = "messages";
@@ -99,6 +120,9 @@ public class Messages {
     public static final String FAIL_MESSAGE_ALERT_FOUND = "FAIL_MESSAGE_ALERT_FOUND";
     public static final String FAIL_MESSAGE_UNABLE_TO_WRITE_MESSAGE_IN_RESULT_FILE = "FAIL_MESSAGE_UNABLE_TO_WRITE_MESSAGE_IN_RESULT_FILE";
     public static final String FAIL_MESSAGE_DOWNLOADED_FILE_NOT_FOUND = "FAIL_MESSAGE_DOWNLOADED_FILE_NOT_FOUND";
+    public static final String FAIL_MESSAGE_SCREENSHOT_NOT_CLOSEST = "FAIL_MESSAGE_SCREENSHOT_NOT_CLOSEST";
+    public static final String FAIL_MESSAGE_SCREENSHOT_SIZE = "FAIL_MESSAGE_SCREENSHOT_SIZE";
+    public static final String FAIL_MESSAGE_SCREENSHOT_DIFFERENCE = "FAIL_MESSAGE_SCREENSHOT_DIFFERENCE";
     public static final String FAIL_MESSAGE_FILE_NOT_FOUND = "FAIL_MESSAGE_FILE_NOT_FOUND";
     public static final String FAIL_MESSAGE_FILE_NOT_MATCHES = "FAIL_MESSAGE_FILE_NOT_MATCHES";
     public static final String FAIL_MESSAGE_UPLOADING_FILE = "FAIL_MESSAGE_UPLOADING_FILE";
@@ -130,7 +154,7 @@ public class Messages {
      *             if data input is wrong.
      */
     public static String format(String templateMessage, Object... args) throws TechnicalException {
-        if (null != templateMessage && countWildcardsOccurrences(templateMessage, "%s") == args.length) {
+        if (null != templateMessage && countPlaceholders(templateMessage) == args.length) {
             try {
                 return String.format(templateMessage, args);
             } catch (final Exception e) {
@@ -164,36 +188,93 @@ public class Messages {
      *         The String content of the message.
      */
     public static String getMessage(String key, String bundle) {
-        if (!messagesBundles.containsKey(bundle)) {
-            if (Context.getLocale() == null) {
-                messagesBundles.put(bundle, ResourceBundle.getBundle("i18n/" + bundle, Locale.getDefault()));
-            } else {
-                messagesBundles.put(bundle, ResourceBundle.getBundle("i18n/" + bundle, Context.getLocale()));
+        MessageTable table = TABLES.get(bundle);
+        if (table == null) {
+            // the locale is read outside of the map: the context may be created meanwhile and log messages
+            final Locale locale = Context.getLocale();
+            final MessageTable loaded = new MessageTable(bundle, locale == null ? Locale.getDefault() : locale);
+            table = TABLES.putIfAbsent(bundle, loaded);
+            if (table == null) {
+                table = loaded;
+            }
+        }
+        return table.get(key);
+    }
+
+    /**
+     * Loads the default resources bundle ('i18n/messages') with a locale, and reloads with this locale the bundles already loaded with another one.
+     *
+     * @param locale
+     *            locale of the messages.
+     */
+    public static void preload(Locale locale) {
+        TABLES.put(DEFAULT_BUNDLE, new MessageTable(DEFAULT_BUNDLE, locale));
+        for (final Map.Entry<String, MessageTable> entry : TABLES.entrySet()) {
+            if (!locale.equals(entry.getValue().locale)) {
+                TABLES.put(entry.getKey(), new MessageTable(entry.getKey(), locale));
             }
         }
-        return messagesBundles.get(bundle).getString(key);
     }
 
     /**
-     * Count the number of occurrences of a given wildcard.
+     * Count the number of %s placeholders of a message, precomputed for the messages of the bundles and cached for the first {@value #MAX_TEMPLATES} other
+     * templates.
      *
      * @param templateMessage
      *            Input string
-     * @param occurrence
-     *            String searched.
-     * @return The number of occurrences.
-     */
-    private static int countWildcardsOccurrences(String templateMessage, String occurrence) {
-        if (templateMessage != null && occurrence != null) {
-            final Pattern pattern = Pattern.compile(occurrence);
-            final Matcher matcher = pattern.matcher(templateMessage);
-            int count = 0;
-            while (matcher.find()) {
-                count++;
+     * @return The number of placeholders.
+     */
+    static int countPlaceholders(String templateMessage) {
+        Integer count = PLACEHOLDERS.get(templateMessage);
+        if (count == null) {
+            count = TEMPLATES.get(templateMessage);
+        }
+        if (count == null) {
+            count = scanPlaceholders(templateMessage);
+            if (TEMPLATES.size() < MAX_TEMPLATES) {
+                TEMPLATES.putIfAbsent(templateMessage, count);
             }
-            return count;
-        } else {
-            return 0;
         }
+        return count;
+    }
+
+    private static int scanPlaceholders(String templateMessage) {
+        int n = 0;
+        for (int i = templateMessage.indexOf(PLACEHOLDER); i >= 0; i = templateMessage.indexOf(PLACEHOLDER, i + PLACEHOLDER.length())) {
+            n++;
+        }
+        return n;
+    }
+
+    /**
+     * All the messages of a bundle for a locale (with the messages of its parent bundles), read once.
+     */
+    private static final class MessageTable {
+
+        private final String bundle;
+        private final Locale locale;
+        private final Map<String, String> messages;
+
+        private MessageTable(String bundle, Locale locale) {
+            this.bundle = bundle;
+            this.locale = locale;
+            final ResourceBundle resourceBundle = ResourceBundle.getBundle("i18n/" + bundle, locale);
+            final Map<String, String> table = new HashMap<>();
+            for (final String key : resourceBundle.keySet()) {
+                final String message = resourceBundle.getString(key);
+                table.put(key, message);
+                PLACEHOLDERS.computeIfAbsent(message, Messages::scanPlaceholders);
+            }
+            this.messages = Collections.unmodifiableMap(table);
+        }
+
+        private String get(String key) {
+            final String message = messages.get(key);
+            if (message == null) {
+                throw new MissingResourceException("Can't find resource for bundle i18n/" + bundle + ", key " + key, bundle, key);
+            }
+            return message;
+        }
+
     }
 }
\ No newline at end of file
@@ -0,0 +1,273 @@
+/**
+ * NoraUi is licensed under the license GNU AFFERO GENERAL PUBLIC LICENSE
+ *
+ * @author Nicolas HALLOUIN
+ * @author Stéphane GRILLON
+ */
+package com.github.noraui.utils;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+
+import com.github.noraui.log.annotation.Loggable;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+/**
+ * Timeline of the startup of a robot: each phase (initializeEnv, initializeRobot, ini files, data providers, Guice injector, scans, ...) is recorded with its
+ * start and duration in nanoseconds and the bytes allocated by its thread. {@link #report()} logs a summary of the phases and, if the system property
+ * {@value #TRACE_PROPERTY} gives a file, writes the timeline in the Chrome trace event format (open it in chrome://tracing or Perfetto).
+ * Only the first {@value #MAX_RECORDS} phases are recorded: the profiler is meant for the startup, not for the scenarios.
+ *
+ * <pre>
+ * try (StartupProfiler.Phase phase = StartupProfiler.start("initApplicationDom")) {
+ *     ...
+ * }
+ * </pre>
+ */
+@Loggable
+public final class StartupProfiler {
+
+    static Logger log;
+
+    /**
+     * System property giving the Chrome trace file written by {@link #report()}.
+     */
+    public static final String TRACE_PROPERTY = "noraui.startup.trace";
+
+    private static final long ORIGIN = System.nanoTime();
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    private static final ThreadLocal<int[]> DEPTH = ThreadLocal.withInitial(() -> new int[1]);
+
+    private static final Queue<Record> RECORDS = new ConcurrentLinkedQueue<>();
+
+    private static final Queue<Record> UNREPORTED = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Maximum number of recorded phases.
+     */
+    static final int MAX_RECORDS = 1000;
+
+    private static final AtomicInteger RECORDED = new AtomicInteger();
+
+    private StartupProfiler() {
+    }
+
+    /**
+     * Starts a phase on the current thread, ended by {@link Phase#close()}. Phases can be nested.
+     *
+     * @param name
+     *            name of the phase.
+     * @return the running phase.
+     */
+    public static Phase start(String name) {
+        return new Phase(name);
+    }
+
+    /**
+     * @return the phases recorded since the start of the JVM, in the order they ended.
+     */
+    public static List<Record> getRecords() {
+        return new ArrayList<>(RECORDS);
+    }
+
+    /**
+     * Logs the phases ended since the last report and writes all the phases in the trace file, if any.
+     */
+    public static synchronized void report() {
+        final List<Record> records = new ArrayList<>();
+        Record record;
+        while ((record = UNREPORTED.poll()) != null) {
+            records.add(record);
+        }
+        if (records.isEmpty()) {
+            return;
+        }
+        records.sort((r1, r2) -> Long.compare(r1.start, r2.start));
+        if (log.isInfoEnabled()) {
+            log.info("Startup phases:");
+            for (final Record r : records) {
+                final StringBuilder name = new StringBuilder();
+                for (int i = 0; i < r.depth; i++) {
+                    name.append("  ");
+                }
+                name.append(r.name);
+                log.info(String.format("%-50s %10.1f ms %12s", name, r.getDurationMillis(), r.allocatedBytes < 0 ? "-" : String.format("%.1f MB", r.allocatedBytes / (1024.0 * 1024.0))));
+            }
+        }
+        final String trace = System.getProperty(TRACE_PROPERTY);
+        if (trace != null && !"".equals(trace.trim())) {
+            writeTrace(new File(trace.trim()));
+        }
+    }
+
+    /**
+     * Forgets all recorded phases.
+     */
+    public static synchronized void reset() {
+        RECORDS.clear();
+        UNREPORTED.clear();
+        RECORDED.set(0);
+    }
+
+    /**
+     * Writes all the recorded phases as complete events ("ph":"X") of the Chrome trace event format, timestamps in microseconds.
+     *
+     * @param file
+     *            trace file.
+     */
+    static void writeTrace(File file) {
+        final JsonArray events = new JsonArray();
+        for (final Record r : RECORDS) {
+            final JsonObject event = new JsonObject();
+            event.addProperty("name", r.name);
+            event.addProperty("cat", "startup");
+            event.addProperty("ph", "X");
+            event.addProperty("ts", TimeUnit.NANOSECONDS.toMicros(r.start - ORIGIN));
+            event.addProperty("dur", TimeUnit.NANOSECONDS.toMicros(r.duration));
+            event.addProperty("pid", 1);
+            event.addProperty("tid", r.threadId);
+            final JsonObject args = new JsonObject();
+            args.addProperty("thread", r.threadName);
+            args.addProperty("allocatedBytes", r.allocatedBytes);
+            event.add("args", args);
+            events.add(event);
+        }
+        final JsonObject trace = new JsonObject();
+        trace.add("traceEvents", events);
+        trace.addProperty("displayTimeUnit", "ms");
+        try {
+            if (file.getAbsoluteFile().getParentFile() != null) {
+                Files.createDirectories(file.getAbsoluteFile().getParentFile().toPath());
+            }
+            try (Writer writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+                writer.write(trace.toString());
+            }
+            log.info("Startup trace written in {}", file.getAbsolutePath());
+        } catch (final IOException e) {
+            log.warn("Startup trace {} can not be written", file, e);
+        }
+    }
+
+    /**
+     * @return bytes allocated by the current thread since its start, or -1 if the JVM does not measure it.
+     */
+    private static long allocatedBytes() {
+        if (THREADS instanceof com.sun.management.ThreadMXBean) {
+            final com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) THREADS;
+            if (threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled()) {
+                return threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * A running phase.
+     */
+    public static final class Phase implements AutoCloseable {
+
+        private final String name;
+        private final int depth;
+        private final long start;
+        private final long allocated;
+        private boolean closed;
+
+        private Phase(String name) {
+            this.name = name;
+            this.depth = DEPTH.get()[0]++;
+            this.allocated = allocatedBytes();
+            this.start = System.nanoTime();
+        }
+
+        /**
+         * Ends the phase and records it, unless {@value StartupProfiler#MAX_RECORDS} phases are already recorded.
+         */
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            final long end = System.nanoTime();
+            final long allocatedAtEnd = allocatedBytes();
+            DEPTH.get()[0]--;
+            if (RECORDED.incrementAndGet() > MAX_RECORDS) {
+                RECORDED.decrementAndGet();
+                return;
+            }
+            final Thread thread = Thread.currentThread();
+            final Record record = new Record(name, depth, thread.getId(), thread.getName(), start, end - start, allocated < 0 ? -1 : allocatedAtEnd - allocated);
+            RECORDS.add(record);
+            UNREPORTED.add(record);
+        }
+
+    }
+
+    /**
+     * An ended phase.
+     */
+    public static final class Record {
+
+        private final String name;
+        private final int depth;
+        private final long threadId;
+        private final String threadName;
+        private final long start;
+        private final long duration;
+        private final long allocatedBytes;
+
+        private Record(String name, int depth, long threadId, String threadName, long start, long duration, long allocatedBytes) {
+            this.name = name;
+            this.depth = depth;
+            this.threadId = threadId;
+            this.threadName = threadName;
+            this.start = start;
+            this.duration = duration;
+            this.allocatedBytes = allocatedBytes;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getDepth() {
+            return depth;
+        }
+
+        /**
+         * @return duration of the phase in nanoseconds.
+         */
+        public long getDuration() {
+            return duration;
+        }
+
+        public double getDurationMillis() {
+            return duration / 1_000_000.0;
+        }
+
+        /**
+         * @return bytes allocated by the thread during the phase (-1 if the JVM does not measure it).
+         */
+        public long getAllocatedBytes() {
+            return allocatedBytes;
+        }
+
+    }
+
+}
@@ -9,12 +9,9 @@ package com.github.noraui.utils;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
-import org.ini4j.Ini;
 import org.junit.Assert;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
@@ -41,17 +38,8 @@ public class Utilities {
      * @return the selector
      */
     public static String getSelectorValue(String applicationKey, String code, Object... args) {
-        String selector = "";
-        log.debug("getLocator with this application key : {}", applicationKey);
-        log.debug("getLocator with this locator file : {}", Context.iniFiles.get(applicationKey));
-        final Ini ini = Context.iniFiles.get(applicationKey);
-
-        final Map<String, String> section = ini.get(code);
-        if (section != null) {
-            final Entry<String, String> entry = section.entrySet().iterator().next();
-            selector = String.format(entry.getValue(), args);
-        }
-        return selector;
+        final LocatorRegistry.CompiledLocator compiled = LocatorRegistry.get(applicationKey, code);
+        return compiled == null ? "" : compiled.getSelector(args);
     }
 
     /**
@@ -77,33 +65,12 @@ public class Utilities {
      * @return a {@link org.openqa.selenium.By} object (xpath, id, link ...)
      */
     public static By getLocator(String applicationKey, String code, Object... args) {
-        By locator = null;
-        log.debug("getLocator with this application key : {}", applicationKey);
-        log.debug("getLocator with this code : {}", code);
-        log.debug("getLocator with this locator file : {}", Context.iniFiles.get(applicationKey));
-        final Ini ini = Context.iniFiles.get(applicationKey);
-        final Map<String, String> section = ini.get(code);
-        if (section != null) {
-            final Entry<String, String> entry = section.entrySet().iterator().next();
-            final String selector = String.format(entry.getValue(), args);
-            if ("css".equals(entry.getKey())) {
-                locator = By.cssSelector(selector);
-            } else if ("link".equals(entry.getKey())) {
-                locator = By.linkText(selector);
-            } else if ("id".equals(entry.getKey())) {
-                locator = By.id(selector);
-            } else if ("name".equals(entry.getKey())) {
-                locator = By.name(selector);
-            } else if ("xpath".equals(entry.getKey())) {
-                locator = By.xpath(selector);
-            } else if ("class".equals(entry.getKey())) {
-                locator = By.className(selector);
-            } else {
-                Assert.fail(entry.getKey() + " NOT implemented!");
-            }
-        } else {
+        final LocatorRegistry.CompiledLocator compiled = LocatorRegistry.get(applicationKey, code);
+        if (compiled == null) {
             Assert.fail("[" + code + "] NOT implemented in ini file " + Context.iniFiles.get(applicationKey) + "!");
         }
+        final By locator = compiled.getLocator(args);
+        log.debug("getLocator [{}] of application [{}]: {}", code, applicationKey, locator);
         return locator;
     }
 
@@ -132,9 +99,6 @@ public class Utilities {
      * @return a {@link org.openqa.selenium.By} object (xpath, id, link ...)
      */
     public static By getLocator(PageElement element, Object... args) {
-        log.debug("getLocator [{}]", element.getPage().getApplication());
-        log.debug("getLocator [{}]", element.getPage().getPageKey());
-        log.debug("getLocator [{}]", element.getKey());
         return getLocator(element.getPage().getApplication(), element.getPage().getPageKey() + element.getKey(), args);
     }
 
@@ -38,4 +38,14 @@ public class PageUT {
         Assert.assertEquals(demoPage1, demoPage2);
     }
 
+    @Test
+    public void getPageElementByKeyTest() throws TechnicalException {
+        DemoPage demoPage = (DemoPage) Page.getInstance(BAKERY_DEMO_PAGE_NAME);
+        Assert.assertSame(demoPage.bigTitle, demoPage.getPageElementByKey("-big_title"));
+        Assert.assertSame(demoPage.submit, demoPage.getPageElementByKey("-submit"));
+        Page.PageElement unknown = demoPage.getPageElementByKey("-unknown");
+        Assert.assertEquals("-unknown", unknown.getKey());
+        Assert.assertSame(demoPage, unknown.getPage());
+    }
+
 }
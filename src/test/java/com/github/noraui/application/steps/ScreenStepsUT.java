@@ -0,0 +1,76 @@
+/**
+ * NoraUi is licensed under the license GNU AFFERO GENERAL PUBLIC LICENSE
+ *
+ * @author Nicolas HALLOUIN
+ * @author Stéphane GRILLON
+ */
+package com.github.noraui.application.steps;
+
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.ArrayList;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.slf4j.LoggerFactory;
+
+import com.github.noraui.exception.FailureException;
+import com.github.noraui.exception.TechnicalException;
+import com.github.noraui.service.ScreenService;
+import com.github.noraui.utils.Context;
+
+public class ScreenStepsUT {
+
+    @Mock
+    private ScreenService screenService;
+
+    @InjectMocks
+    private ScreenSteps screenSteps;
+
+    @Before
+    public void setUp() {
+        MockitoAnnotations.initMocks(this);
+        ScreenSteps.log = LoggerFactory.getLogger(ScreenSteps.class);
+        Context.getInstance().initializeEnv("demoCsv.properties");
+    }
+
+    @Test
+    public void testScreenshotLooksLike() throws IOException, FailureException, TechnicalException {
+        when(screenService.getClosestBaseline("tmp")).thenReturn("home");
+        when(screenService.getHashDifferencePercent("tmp", "home")).thenReturn(3.0);
+        when(screenService.getChangedTilesDifferencePercent("tmp", "home")).thenReturn(1.5);
+        screenSteps.checkScreenshotLooksLike("home", 5, new ArrayList<>());
+    }
+
+    @Test
+    public void testDifferentScreenshotFailsAgainstASingleBaseline() throws IOException, TechnicalException {
+        // the only baseline of the size of the screenshot is always the closest one
+        when(screenService.getClosestBaseline("tmp")).thenReturn("home");
+        when(screenService.getHashDifferencePercent("tmp", "home")).thenReturn(35.0);
+        when(screenService.getChangedTilesDifferencePercent("tmp", "home")).thenReturn(6.0);
+        try {
+            screenSteps.checkScreenshotLooksLike("home", 5, new ArrayList<>());
+            Assert.fail("a screenshot differing from the baseline by more than the maximum must fail");
+        } catch (final FailureException e) {
+            Assert.assertTrue(e.getMessage().contains("35"));
+        }
+    }
+
+    @Test(expected = FailureException.class)
+    public void testNoBaselineOfTheSizeOfTheScreenshot() throws IOException, FailureException, TechnicalException {
+        when(screenService.getClosestBaseline("tmp")).thenReturn(null);
+        screenSteps.checkScreenshotLooksLike("home", 5, new ArrayList<>());
+    }
+
+    @Test(expected = FailureException.class)
+    public void testScreenshotLooksMoreLikeAnotherBaseline() throws IOException, FailureException, TechnicalException {
+        when(screenService.getClosestBaseline("tmp")).thenReturn("login");
+        screenSteps.checkScreenshotLooksLike("home", 100, new ArrayList<>());
+    }
+
+}
@@ -0,0 +1,185 @@
+/**
+ * NoraUi is licensed under the license GNU AFFERO GENERAL PUBLIC LICENSE
+ *
+ * @author Nicolas HALLOUIN
+ * @author Stéphane GRILLON
+ */
+package com.github.noraui.browser;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.slf4j.LoggerFactory;
+
+public class DriverPoolUT {
+
+    private final List<WebDriver> launched = Collections.synchronizedList(new ArrayList<>());
+    private DriverPool pool;
+
+    @Before
+    public void setUp() {
+        DriverPool.log = LoggerFactory.getLogger(DriverPool.class);
+        DriverFactory.log = LoggerFactory.getLogger(DriverFactory.class);
+    }
+
+    @After
+    public void tearDown() {
+        if (pool != null) {
+            pool.quit();
+        }
+    }
+
+    @Test
+    public void testFillAndTake() throws InterruptedException {
+        pool = new DriverPool(2, 60000, name -> launch());
+        Assert.assertNull(pool.take(DriverFactory.CHROME));
+        pool.fill(DriverFactory.CHROME);
+        await(() -> pool.getSpareCount(DriverFactory.CHROME) == 2);
+        Assert.assertEquals(2, launched.size());
+        Assert.assertNotNull(pool.take(DriverFactory.CHROME));
+        Assert.assertEquals(1, pool.getSpareCount(DriverFactory.CHROME));
+        pool.fill(DriverFactory.CHROME);
+        await(() -> pool.getSpareCount(DriverFactory.CHROME) == 2);
+        Assert.assertEquals(3, launched.size());
+        Assert.assertEquals(0, pool.getSpareCount(DriverFactory.FIREFOX));
+    }
+
+    @Test
+    public void testTakeSkipsUnhealthySession() throws InterruptedException {
+        pool = new DriverPool(1, 60000, name -> launch());
+        pool.fill(DriverFactory.CHROME);
+        await(() -> pool.getSpareCount(DriverFactory.CHROME) == 1);
+        WebDriver spare = launched.get(0);
+        when(spare.getWindowHandles()).thenThrow(new WebDriverException("browser crashed"));
+        Assert.assertNull(pool.take(DriverFactory.CHROME));
+        verify(spare).quit();
+    }
+
+    @Test
+    public void testRecycle() throws InterruptedException {
+        pool = new DriverPool(1, 60000, name -> launch());
+        WebDriver used = launch();
+        pool.recycle(DriverFactory.CHROME, used);
+        await(() -> pool.getSpareCount(DriverFactory.CHROME) == 1);
+        verify(used.manage()).deleteAllCookies();
+        verify(used).get("data:,");
+        verify(used, never()).quit();
+        Assert.assertSame(used, pool.take(DriverFactory.CHROME));
+
+        WebDriver other = launch();
+        pool.recycle(DriverFactory.CHROME, used);
+        pool.recycle(DriverFactory.CHROME, other);
+        // the pool is full once the first session is recycled
+        await(() -> isQuit(other));
+        Assert.assertFalse(isQuit(used));
+        Assert.assertEquals(1, pool.getSpareCount(DriverFactory.CHROME));
+    }
+
+    @Test
+    public void testTakeFreshOnly() throws InterruptedException {
+        pool = new DriverPool(2, 60000, name -> launch());
+        WebDriver used = launch();
+        pool.recycle(DriverFactory.CHROME, used);
+        await(() -> pool.getSpareCount(DriverFactory.CHROME) == 1);
+        Assert.assertNull(pool.take(DriverFactory.CHROME, true));
+        pool.fill(DriverFactory.CHROME);
+        await(() -> pool.getSpareCount(DriverFactory.CHROME) == 2);
+        WebDriver fresh = pool.take(DriverFactory.CHROME, true);
+        Assert.assertNotNull(fresh);
+        Assert.assertNotSame(used, fresh);
+        Assert.assertSame(used, pool.take(DriverFactory.CHROME));
+    }
+
+    @Test
+    public void testRecycleWithStorageReset() throws InterruptedException {
+        pool = new DriverPool(1, 60000, name -> launch());
+        WebDriver used = mock(WebDriver.class, Mockito.withSettings().extraInterfaces(JavascriptExecutor.class).defaultAnswer(Mockito.RETURNS_DEEP_STUBS));
+        when(used.getWindowHandles()).thenReturn(Collections.singleton("main"));
+        pool.recycle(DriverFactory.CHROME, used, ResetLevel.STORAGE);
+        await(() -> pool.getSpareCount(DriverFactory.CHROME) == 1);
+        verify((JavascriptExecutor) used).executeAsyncScript(anyString());
+        verify(used.manage()).deleteAllCookies();
+        verify(used, never()).quit();
+    }
+
+    @Test
+    public void testRecycleWhenStorageIsNotCleared() throws InterruptedException {
+        pool = new DriverPool(1, 60000, name -> launch());
+        WebDriver used = mock(WebDriver.class, Mockito.withSettings().extraInterfaces(JavascriptExecutor.class).defaultAnswer(Mockito.RETURNS_DEEP_STUBS));
+        when(used.getWindowHandles()).thenReturn(Collections.singleton("main"));
+        when(((JavascriptExecutor) used).executeAsyncScript(anyString())).thenThrow(new WebDriverException("script timeout"));
+        when(used.getCurrentUrl()).thenThrow(new WebDriverException("no such session"));
+        pool.recycle(DriverFactory.CHROME, used, ResetLevel.STORAGE);
+        await(() -> pool.getSpareCount(DriverFactory.CHROME) == 1);
+        verify(used.manage()).deleteAllCookies();
+        verify(used, never()).quit();
+    }
+
+    @Test
+    public void testRecycleWithProfileResetQuits() {
+        pool = new DriverPool(1, 60000, name -> launch());
+        WebDriver used = launch();
+        pool.recycle(DriverFactory.CHROME, used, ResetLevel.PROFILE);
+        verify(used).quit();
+        Assert.assertEquals(0, pool.getSpareCount(DriverFactory.CHROME));
+    }
+
+    @Test
+    public void testIdleSessionsAreQuit() throws InterruptedException {
+        pool = new DriverPool(2, 50, name -> launch());
+        pool.fill(DriverFactory.CHROME);
+        await(() -> launched.size() == 2);
+        await(() -> pool.getSpareCount(DriverFactory.CHROME) == 0);
+        await(() -> isQuit(launched.get(0)) && isQuit(launched.get(1)));
+    }
+
+    @Test
+    public void testQuit() throws InterruptedException {
+        pool = new DriverPool(1, 60000, name -> launch());
+        pool.fill(DriverFactory.CHROME);
+        await(() -> pool.getSpareCount(DriverFactory.CHROME) == 1);
+        pool.quit();
+        verify(launched.get(0)).quit();
+        WebDriver used = launch();
+        pool.recycle(DriverFactory.CHROME, used);
+        verify(used).quit();
+        pool.fill(DriverFactory.CHROME);
+        Assert.assertEquals(2, launched.size());
+    }
+
+    private WebDriver launch() {
+        WebDriver driver = mock(WebDriver.class, Mockito.RETURNS_DEEP_STUBS);
+        when(driver.getWindowHandles()).thenReturn(Collections.singleton("main"));
+        launched.add(driver);
+        return driver;
+    }
+
+    private static boolean isQuit(WebDriver driver) {
+        return Mockito.mockingDetails(driver).getInvocations().stream().anyMatch(i -> "quit".equals(i.getMethod().getName()));
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean()) {
+            Assert.assertTrue("condition not met in time", System.currentTimeMillis() < deadline);
+            Thread.sleep(10);
+        }
+    }
+
+}
@@ -0,0 +1,85 @@
+/**
+ * NoraUi is licensed under the license GNU AFFERO GENERAL PUBLIC LICENSE
+ *
+ * @author Nicolas HALLOUIN
+ * @author Stéphane GRILLON
+ */
+package com.github.noraui.browser;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+import org.slf4j.LoggerFactory;
+
+public class ElementCacheUT {
+
+    private final WebDriver driver = mock(WebDriver.class);
+    private ElementCache cache;
+
+    @Before
+    public void setUp() {
+        ElementCache.log = LoggerFactory.getLogger(ElementCache.class);
+        cache = new ElementCache(driver);
+    }
+
+    @Test
+    public void testElementIsLocatedOnce() {
+        WebElement located = mock(WebElement.class);
+        when(located.getText()).thenReturn("text");
+        AtomicInteger locations = new AtomicInteger();
+        By locator = By.id("field");
+        WebElement element = cache.get(locator, () -> {
+            locations.incrementAndGet();
+            return located;
+        });
+        Assert.assertSame(element, cache.get(By.id("field"), () -> {
+            throw new AssertionError("element must be cached");
+        }));
+        Assert.assertEquals("text", element.getText());
+        Assert.assertSame(located, ((WrapsElement) element).getWrappedElement());
+        Assert.assertEquals(1, locations.get());
+        Assert.assertEquals(1, cache.size());
+        cache.clear();
+        Assert.assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testStaleElementIsLocatedAgain() {
+        WebElement stale = mock(WebElement.class);
+        when(stale.getText()).thenThrow(new StaleElementReferenceException("stale"));
+        WebElement fresh = mock(WebElement.class);
+        when(fresh.getText()).thenReturn("new text");
+        AtomicInteger locations = new AtomicInteger();
+        WebElement element = cache.get(By.id("field"), () -> locations.incrementAndGet() == 1 ? stale : fresh);
+        Assert.assertEquals("new text", element.getText());
+        Assert.assertEquals(2, locations.get());
+        element.click();
+        verify(fresh).click();
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void testOtherExceptionsArePropagated() {
+        WebElement located = mock(WebElement.class);
+        when(located.findElement(By.tagName("a"))).thenThrow(new NoSuchElementException("no link"));
+        cache.get(By.id("field"), () -> located).findElement(By.tagName("a"));
+    }
+
+    @Test
+    public void testIsFor() {
+        Assert.assertTrue(cache.isFor(driver));
+        Assert.assertFalse(cache.isFor(mock(WebDriver.class)));
+    }
+
+}
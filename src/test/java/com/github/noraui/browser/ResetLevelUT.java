@@ -0,0 +1,42 @@
+/**
+ * NoraUi is licensed under the license GNU AFFERO GENERAL PUBLIC LICENSE
+ *
+ * @author Nicolas HALLOUIN
+ * @author Stéphane GRILLON
+ */
+package com.github.noraui.browser;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.LoggerFactory;
+
+public class ResetLevelUT {
+
+    @Before
+    public void setUp() {
+        ResetLevel.log = LoggerFactory.getLogger(ResetLevel.class);
+    }
+
+    @Test
+    public void testOfValue() {
+        Assert.assertEquals(ResetLevel.STORAGE, ResetLevel.of(" storage ", ResetLevel.COOKIES));
+        Assert.assertEquals(ResetLevel.PROFILE, ResetLevel.of("PROFILE", ResetLevel.COOKIES));
+        Assert.assertEquals(ResetLevel.COOKIES, ResetLevel.of("", ResetLevel.COOKIES));
+        Assert.assertEquals(ResetLevel.STORAGE, ResetLevel.of((String) null, ResetLevel.STORAGE));
+        Assert.assertEquals(ResetLevel.COOKIES, ResetLevel.of("session", ResetLevel.COOKIES));
+    }
+
+    @Test
+    public void testOfTags() {
+        Assert.assertEquals(ResetLevel.COOKIES, ResetLevel.of(Collections.emptyList(), ResetLevel.COOKIES));
+        Assert.assertEquals(ResetLevel.STORAGE, ResetLevel.of(Arrays.asList("@smoke", "@isolation=storage"), ResetLevel.COOKIES));
+        Assert.assertEquals(ResetLevel.PROFILE, ResetLevel.of(Arrays.asList("@isolation=storage", "@isolation=profile"), ResetLevel.COOKIES));
+        // a tag never weakens the default reset
+        Assert.assertEquals(ResetLevel.STORAGE, ResetLevel.of(Collections.singletonList("@isolation=cookies"), ResetLevel.STORAGE));
+    }
+
+}
@@ -0,0 +1,73 @@
+/**
+ * NoraUi is licensed under the license GNU AFFERO GENERAL PUBLIC LICENSE
+ *
+ * @author Nicolas HALLOUIN
+ * @author Stéphane GRILLON
+ */
+package com.github.noraui.browser.waits;
+
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+public class WaitFactoryUT {
+
+    private final WebDriver driver = mock(WebDriver.class);
+
+    @Test
+    public void testWaitsAreCachedByTimeout() {
+        WaitFactory factory = new WaitFactory(driver, new PollingStrategy(10, 100, Collections.emptyList()));
+        WebDriverWait wait = factory.get(5);
+        Assert.assertSame(wait, factory.get(5));
+        Assert.assertNotSame(wait, factory.get(1));
+        Assert.assertTrue(factory.isFor(driver));
+        Assert.assertFalse(factory.isFor(mock(WebDriver.class)));
+    }
+
+    @Test
+    public void testPollingBacksOff() {
+        PollingStrategy adaptive = new PollingStrategy(50, 500, Collections.emptyList());
+        Assert.assertTrue(adaptive.isAdaptive());
+        Assert.assertEquals(50, adaptive.next(0));
+        Assert.assertEquals(100, adaptive.next(50));
+        Assert.assertEquals(500, adaptive.next(400));
+        PollingStrategy fixed = new PollingStrategy(500, 100, Collections.emptyList());
+        Assert.assertFalse(fixed.isAdaptive());
+        Assert.assertEquals(500, fixed.next(500));
+    }
+
+    @Test
+    public void testAdaptiveWaitPollsFastAndIgnoresExceptions() {
+        List<Class<? extends Throwable>> ignored = new ArrayList<>();
+        ignored.add(StaleElementReferenceException.class);
+        WebDriverWait wait = new WaitFactory(driver, new PollingStrategy(1, 20, ignored)).get(5);
+        AtomicInteger polls = new AtomicInteger();
+        long start = System.currentTimeMillis();
+        Assert.assertEquals(Boolean.TRUE, wait.until(d -> {
+            if (polls.incrementAndGet() < 4) {
+                throw new StaleElementReferenceException("stale");
+            }
+            return true;
+        }));
+        Assert.assertTrue(System.currentTimeMillis() - start < 500);
+        // the backoff restarts at each call
+        polls.set(0);
+        Assert.assertEquals(Boolean.TRUE, wait.until(d -> polls.incrementAndGet() > 2));
+    }
+
+    @Test(expected = TimeoutException.class)
+    public void testTimeout() {
+        new WaitFactory(driver, new PollingStrategy(10, 100, Collections.emptyList())).get(0).until(d -> false);
+    }
+
+}
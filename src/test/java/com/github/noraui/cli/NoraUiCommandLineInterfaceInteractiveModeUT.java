@@ -69,13 +69,15 @@ public class NoraUiCommandLineInterfaceInteractiveModeUT {
         expectedCliAsk.append("    7 => encrypt data").append(System.lineSeparator());
         expectedCliAsk.append("    8 => decrypt data").append(System.lineSeparator());
         expectedCliAsk.append("    9 => status").append(System.lineSeparator());
+        expectedCliAsk.append("    10 => encrypt data file").append(System.lineSeparator());
+        expectedCliAsk.append("    11 => decrypt data file").append(System.lineSeparator());
         expectedCliAsk.append("-s: Scenario Name").append(System.lineSeparator());
         expectedCliAsk.append("-u: Url").append(System.lineSeparator());
-        expectedCliAsk.append("-d: Description").append(System.lineSeparator());
+        expectedCliAsk.append("-d: Description (or data file to encrypt or decrypt)").append(System.lineSeparator());
         expectedCliAsk.append("-k: Crypto key").append(System.lineSeparator());
         expectedCliAsk.append("-a: Application Name").append(System.lineSeparator());
         expectedCliAsk.append("-m: Model Name").append(System.lineSeparator());
-        expectedCliAsk.append("-fi: Field list of model").append(System.lineSeparator());
+        expectedCliAsk.append("-fi: Field list of model (or columns of the data file to encrypt or decrypt)").append(System.lineSeparator());
         expectedCliAsk.append("-re: Result list of model").append(System.lineSeparator());
         expectedCliAsk.append(
                 "-interactiveMode: (boolean) When the NoraUi CLI goal is executed in interactive mode, it will prompt the user for all the previously listed parameters. When interactiveMode is false, the NoraUi CLI goal will use the values passed in from the command line.")
@@ -91,6 +93,8 @@ public class NoraUiCommandLineInterfaceInteractiveModeUT {
         expectedCliAsk.append("    7 => encrypt data").append(System.lineSeparator());
         expectedCliAsk.append("    8 => decrypt data").append(System.lineSeparator());
         expectedCliAsk.append("    9 => status").append(System.lineSeparator());
+        expectedCliAsk.append("    10 => encrypt data file").append(System.lineSeparator());
+        expectedCliAsk.append("    11 => decrypt data file").append(System.lineSeparator());
         expectedCliAsk.append(System.lineSeparator());
         expectedCliAsk.append("Exit NoraUi Command Line Interface with success.").append(System.lineSeparator());
 
@@ -115,6 +119,8 @@ public class NoraUiCommandLineInterfaceInteractiveModeUT {
         expectedCliAsk.append("    7 => encrypt data").append(System.lineSeparator());
         expectedCliAsk.append("    8 => decrypt data").append(System.lineSeparator());
         expectedCliAsk.append("    9 => status").append(System.lineSeparator());
+        expectedCliAsk.append("    10 => encrypt data file").append(System.lineSeparator());
+        expectedCliAsk.append("    11 => decrypt data file").append(System.lineSeparator());
         expectedCliAsk.append(System.lineSeparator());
         expectedCliAsk.append("NoraUi Command Line Interface finished with success.").append(System.lineSeparator());
         expectedCliAsk.append(System.lineSeparator());
@@ -129,6 +135,8 @@ public class NoraUiCommandLineInterfaceInteractiveModeUT {
         expectedCliAsk.append("    7 => encrypt data").append(System.lineSeparator());
         expectedCliAsk.append("    8 => decrypt data").append(System.lineSeparator());
         expectedCliAsk.append("    9 => status").append(System.lineSeparator());
+        expectedCliAsk.append("    10 => encrypt data file").append(System.lineSeparator());
+        expectedCliAsk.append("    11 => decrypt data file").append(System.lineSeparator());
         expectedCliAsk.append(System.lineSeparator());
         expectedCliAsk.append("Exit NoraUi Command Line Interface with success.").append(System.lineSeparator());
 
@@ -153,6 +161,8 @@ public class NoraUiCommandLineInterfaceInteractiveModeUT {
         expectedCliAsk.append("    7 => encrypt data").append(System.lineSeparator());
         expectedCliAsk.append("    8 => decrypt data").append(System.lineSeparator());
         expectedCliAsk.append("    9 => status").append(System.lineSeparator());
+        expectedCliAsk.append("    10 => encrypt data file").append(System.lineSeparator());
+        expectedCliAsk.append("    11 => decrypt data file").append(System.lineSeparator());
         expectedCliAsk.append("Enter application name:").append(System.lineSeparator());
         expectedCliAsk.append("Enter url:").append(System.lineSeparator());
         expectedCliAsk.append("Add a new application named [google] with this url: [http://www.google.fr]").append(System.lineSeparator());
@@ -170,6 +180,8 @@ public class NoraUiCommandLineInterfaceInteractiveModeUT {
         expectedCliAsk.append("    7 => encrypt data").append(System.lineSeparator());
         expectedCliAsk.append("    8 => decrypt data").append(System.lineSeparator());
         expectedCliAsk.append("    9 => status").append(System.lineSeparator());
+        expectedCliAsk.append("    10 => encrypt data file").append(System.lineSeparator());
+        expectedCliAsk.append("    11 => decrypt data file").append(System.lineSeparator());
         expectedCliAsk.append(System.lineSeparator());
         expectedCliAsk.append("Exit NoraUi Command Line Interface with success.").append(System.lineSeparator());
 
@@ -194,6 +206,8 @@ public class NoraUiCommandLineInterfaceInteractiveModeUT {
         expectedCliAsk.append("    7 => encrypt data").append(System.lineSeparator());
         expectedCliAsk.append("    8 => decrypt data").append(System.lineSeparator());
         expectedCliAsk.append("    9 => status").append(System.lineSeparator());
+        expectedCliAsk.append("    10 => encrypt data file").append(System.lineSeparator());
+        expectedCliAsk.append("    11 => decrypt data file").append(System.lineSeparator());
         expectedCliAsk.append("Enter index application number:").append(System.lineSeparator());
         expectedCliAsk.append("    1) google").append(System.lineSeparator());
         expectedCliAsk.append("Enter scenario name:").append(System.lineSeparator());
@@ -215,6 +229,8 @@ public class NoraUiCommandLineInterfaceInteractiveModeUT {
         expectedCliAsk.append("    7 => encrypt data").append(System.lineSeparator());
         expectedCliAsk.append("    8 => decrypt data").append(System.lineSeparator());
         expectedCliAsk.append("    9 => status").append(System.lineSeparator());
+        expectedCliAsk.append("    10 => encrypt data file").append(System.lineSeparator());
+        expectedCliAsk.append("    11 => decrypt data file").append(System.lineSeparator());
         expectedCliAsk.append(System.lineSeparator());
         expectedCliAsk.append("Exit NoraUi Command Line Interface with success.").append(System.lineSeparator());
 
@@ -239,6 +255,8 @@ public class NoraUiCommandLineInterfaceInteractiveModeUT {
         expectedCliAsk.append("    7 => encrypt data").append(System.lineSeparator());
         expectedCliAsk.append("    8 => decrypt data").append(System.lineSeparator());
         expectedCliAsk.append("    9 => status").append(System.lineSeparator());
+        expectedCliAsk.append("    10 => encrypt data file").append(System.lineSeparator());
+        expectedCliAsk.append("    11 => decrypt data file").append(System.lineSeparator());
         expectedCliAsk.append("Enter index application number:").append(System.lineSeparator());
         expectedCliAsk.append("    1) google").append(System.lineSeparator());
         expectedCliAsk.append("Enter model name:").append(System.lineSeparator());
@@ -262,6 +280,8 @@ public class NoraUiCommandLineInterfaceInteractiveModeUT {
         expectedCliAsk.append("    7 => encrypt data").append(System.lineSeparator());
         expectedCliAsk.append("    8 => decrypt data").append(System.lineSeparator());
         expectedCliAsk.append("    9 => status").append(System.lineSeparator());
+        expectedCliAsk.append("    10 => encrypt data file").append(System.lineSeparator());
+        expectedCliAsk.append("    11 => decrypt data file").append(System.lineSeparator());
         expectedCliAsk.append(System.lineSeparator());
         expectedCliAsk.append("Exit NoraUi Command Line Interface with success.").append(System.lineSeparator());
 
@@ -286,6 +306,8 @@ public class NoraUiCommandLineInterfaceInteractiveModeUT {
         expectedCliAsk.append("    7 => encrypt data").append(System.lineSeparator());
         expectedCliAsk.append("    8 => decrypt data").append(System.lineSeparator());
         expectedCliAsk.append("    9 => status").append(System.lineSeparator());
+        expectedCliAsk.append("    10 => encrypt data file").append(System.lineSeparator());
+        expectedCliAsk.append("    11 => decrypt data file").append(System.lineSeparator());
         expectedCliAsk.append("Application: [google]").append(System.lineSeparator());
         expectedCliAsk.append(" - url: [http://www.google.fr]").append(System.lineSeparator());
         expectedCliAsk.append(" - model: [foo]").append(System.lineSeparator());
@@ -309,6 +331,8 @@ public class NoraUiCommandLineInterfaceInteractiveModeUT {
         expectedCliAsk.append("    7 => encrypt data").append(System.lineSeparator());
         expectedCliAsk.append("    8 => decrypt data").append(System.lineSeparator());
         expectedCliAsk.append("    9 => status").append(System.lineSeparator());
+        expectedCliAsk.append("    10 => encrypt data file").append(System.lineSeparator());
+        expectedCliAsk.append("    11 => decrypt data file").append(System.lineSeparator());
         expectedCliAsk.append(System.lineSeparator());
         expectedCliAsk.append("Exit NoraUi Command Line Interface with success.").append(System.lineSeparator());
 
@@ -334,6 +358,8 @@ public class NoraUiCommandLineInterfaceInteractiveModeUT {
         expectedCliAsk.append("    7 => encrypt data").append(System.lineSeparator());
         expectedCliAsk.append("    8 => decrypt data").append(System.lineSeparator());
         expectedCliAsk.append("    9 => status").append(System.lineSeparator());
+        expectedCliAsk.append("    10 => encrypt data file").append(System.lineSeparator());
+        expectedCliAsk.append("    11 => decrypt data file").append(System.lineSeparator());
         expectedCliAsk.append("Enter index application number:").append(System.lineSeparator());
         expectedCliAsk.append("    1) demo").append(System.lineSeparator());
         expectedCliAsk.append("    2) google").append(System.lineSeparator());
@@ -354,6 +380,8 @@ public class NoraUiCommandLineInterfaceInteractiveModeUT {
         expectedCliAsk.append("    7 => encrypt data").append(System.lineSeparator());
         expectedCliAsk.append("    8 => decrypt data").append(System.lineSeparator());
         expectedCliAsk.append("    9 => status").append(System.lineSeparator());
+        expectedCliAsk.append("    10 => encrypt data file").append(System.lineSeparator());
+        expectedCliAsk.append("    11 => decrypt data file").append(System.lineSeparator());
         expectedCliAsk.append(System.lineSeparator());
         expectedCliAsk.append("Exit NoraUi Command Line Interface with success.").append(System.lineSeparator());
 
@@ -378,6 +406,8 @@ public class NoraUiCommandLineInterfaceInteractiveModeUT {
         expectedCliAsk.append("    7 => encrypt data").append(System.lineSeparator());
         expectedCliAsk.append("    8 => decrypt data").append(System.lineSeparator());
         expectedCliAsk.append("    9 => status").append(System.lineSeparator());
+        expectedCliAsk.append("    10 => encrypt data file").append(System.lineSeparator());
+        expectedCliAsk.append("    11 => decrypt data file").append(System.lineSeparator());
         expectedCliAsk.append("Enter index scenario number:").append(System.lineSeparator());
         expectedCliAsk.append("    1) loginSample").append(System.lineSeparator());
         expectedCliAsk.append("    2) hello").append(System.lineSeparator());
@@ -402,6 +432,8 @@ public class NoraUiCommandLineInterfaceInteractiveModeUT {
         expectedCliAsk.append("    7 => encrypt data").append(System.lineSeparator());
         expectedCliAsk.append("    8 => decrypt data").append(System.lineSeparator());
         expectedCliAsk.append("    9 => status").append(System.lineSeparator());
+        expectedCliAsk.append("    10 => encrypt data file").append(System.lineSeparator());
+        expectedCliAsk.append("    11 => decrypt data file").append(System.lineSeparator());
         expectedCliAsk.append(System.lineSeparator());
         expectedCliAsk.append("Exit NoraUi Command Line Interface with success.").append(System.lineSeparator());
 
@@ -426,6 +458,8 @@ public class NoraUiCommandLineInterfaceInteractiveModeUT {
         expectedCliAsk.append("    7 => encrypt data").append(System.lineSeparator());
         expectedCliAsk.append("    8 => decrypt data").append(System.lineSeparator());
         expectedCliAsk.append("    9 => status").append(System.lineSeparator());
+        expectedCliAsk.append("    10 => encrypt data file").append(System.lineSeparator());
+        expectedCliAsk.append("    11 => decrypt data file").append(System.lineSeparator());
         expectedCliAsk.append("Enter index application number:").append(System.lineSeparator());
         expectedCliAsk.append("    1) google").append(System.lineSeparator());
         expectedCliAsk.append("Remove application named [google].").append(System.lineSeparator());
@@ -443,6 +477,8 @@ public class NoraUiCommandLineInterfaceInteractiveModeUT {
         expectedCliAsk.append("    7 => encrypt data").append(System.lineSeparator());
         expectedCliAsk.append("    8 => decrypt data").append(System.lineSeparator());
         expectedCliAsk.append("    9 => status").append(System.lineSeparator());
+        expectedCliAsk.append("    10 => encrypt data file").append(System.lineSeparator());
+        expectedCliAsk.append("    11 => decrypt data file").append(System.lineSeparator());
         expectedCliAsk.append(System.lineSeparator());
         expectedCliAsk.append("Exit NoraUi Command Line Interface with success.").append(System.lineSeparator());
 
@@ -467,6 +503,8 @@ public class NoraUiCommandLineInterfaceInteractiveModeUT {
         expectedCliAsk.append("    7 => encrypt data").append(System.lineSeparator());
         expectedCliAsk.append("    8 => decrypt data").append(System.lineSeparator());
         expectedCliAsk.append("    9 => status").append(System.lineSeparator());
+        expectedCliAsk.append("    10 => encrypt data file").append(System.lineSeparator());
+        expectedCliAsk.append("    11 => decrypt data file").append(System.lineSeparator());
         expectedCliAsk.append(System.lineSeparator());
         expectedCliAsk.append("NoraUi Command Line Interface finished with success.").append(System.lineSeparator());
         expectedCliAsk.append(System.lineSeparator());
@@ -481,6 +519,8 @@ public class NoraUiCommandLineInterfaceInteractiveModeUT {
         expectedCliAsk.append("    7 => encrypt data").append(System.lineSeparator());
         expectedCliAsk.append("    8 => decrypt data").append(System.lineSeparator());
         expectedCliAsk.append("    9 => status").append(System.lineSeparator());
+        expectedCliAsk.append("    10 => encrypt data file").append(System.lineSeparator());
+        expectedCliAsk.append("    11 => decrypt data file").append(System.lineSeparator());
         expectedCliAsk.append(System.lineSeparator());
         expectedCliAsk.append("Exit NoraUi Command Line Interface with success.").append(System.lineSeparator());
 
@@ -8,6 +8,7 @@ package com.github.noraui.cli;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -267,4 +268,22 @@ public class NoraUiCommandLineInterfaceUT {
         Assert.assertTrue(stdOutLog.getLog().contains("Exit NoraUi Command Line Interface with success."));
     }
 
+    @Test
+    public void testCliStep019_EncrypteDataFile() throws TechnicalException, IOException {
+        File dataFile = File.createTempFile("hello", ".csv");
+        try {
+            FileUtils.writeStringToFile(dataFile, "user;password;Result\njenkins;password;\n", StandardCharsets.UTF_8);
+            String[] args = { "-f", "10", "-d", dataFile.getPath(), "-fi", "password", "-k", "my-secret", "-interactiveMode", "false", "--verbose" };
+            cli.runCli(UnitTest4CLIContext.class, UnitTest4CLICounter.class, args);
+            Assert.assertEquals("user;password;Result\njenkins;℗:7y+CKIH1Zd5RVORZ0PAQBA==;\n", FileUtils.readFileToString(dataFile, StandardCharsets.UTF_8));
+
+            String[] args2 = { "-f", "11", "-d", dataFile.getPath(), "-fi", "password", "-k", "my-secret", "-interactiveMode", "false", "--verbose" };
+            cli.runCli(UnitTest4CLIContext.class, UnitTest4CLICounter.class, args2);
+            Assert.assertEquals("user;password;Result\njenkins;password;\n", FileUtils.readFileToString(dataFile, StandardCharsets.UTF_8));
+            Assert.assertTrue(stdOutLog.getLog().contains("1 cell(s) transformed out of 1 in 1 row(s)"));
+        } finally {
+            FileUtils.deleteQuietly(dataFile);
+        }
+    }
+
 }
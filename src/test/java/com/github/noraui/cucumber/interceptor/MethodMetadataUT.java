@@ -0,0 +1,103 @@
+/**
+ * NoraUi is licensed under the license GNU AFFERO GENERAL PUBLIC LICENSE
+ *
+ * @author Nicolas HALLOUIN
+ * @author Stéphane GRILLON
+ */
+package com.github.noraui.cucumber.interceptor;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.github.noraui.cucumber.annotation.Conditioned;
+import com.github.noraui.cucumber.annotation.RetryOnFailure;
+import com.github.noraui.cucumber.metrics.annotation.regulator.SpeedRegulator;
+import com.github.noraui.cucumber.metrics.annotation.regulator.SpeedRegulators;
+import com.github.noraui.cucumber.metrics.annotation.time.Time;
+import com.github.noraui.cucumber.metrics.annotation.time.TimeName;
+import com.github.noraui.cucumber.metrics.annotation.time.TimeValue;
+import com.github.noraui.cucumber.metrics.annotation.time.Times;
+
+public class MethodMetadataUT {
+
+    @Test
+    public void testSameInstanceForSameMethod() throws NoSuchMethodException {
+        Assert.assertSame(MethodMetadata.of(MethodMetadataUT.class.getMethod("conditioned")), MethodMetadata.of(MethodMetadataUT.class.getMethod("conditioned")));
+    }
+
+    @Test
+    public void testConditionedAndRetry() throws NoSuchMethodException {
+        MethodMetadata metadata = MethodMetadata.of(MethodMetadataUT.class.getMethod("conditioned"));
+        Assert.assertTrue(metadata.isConditioned());
+        Assert.assertTrue(metadata.isRetried());
+        Assert.assertTrue(metadata.isPublic());
+        Assert.assertNotNull(metadata.getRetryOnFailure());
+        Assert.assertNull(metadata.getRetryOnWarning());
+        Assert.assertEquals(3, metadata.getRetryOnFailure().attempts());
+    }
+
+    @Test
+    public void testSpeedRegulators() throws NoSuchMethodException {
+        MethodMetadata metadata = MethodMetadata.of(MethodMetadataUT.class.getMethod("regulated"));
+        Assert.assertEquals(3, metadata.getSpeedRegulators().size());
+        Assert.assertEquals("first", metadata.getSpeedRegulators().get(0).application());
+        Assert.assertTrue(metadata.isSpeedRegulatorVerbose());
+        Assert.assertFalse(metadata.isConditioned());
+        Assert.assertFalse(metadata.isRetried());
+    }
+
+    @Test
+    public void testTimers() throws NoSuchMethodException {
+        MethodMetadata metadata = MethodMetadata.of(MethodMetadataUT.class.getMethod("timed", String.class, Integer.class));
+        Assert.assertEquals(3, metadata.getTimers().size());
+        Object[] args = new Object[] { "login", 5 };
+        Assert.assertEquals("timed", metadata.getTimers().get(0).getName(args));
+        Assert.assertEquals(5, metadata.getTimers().get(0).getMark(args));
+        Assert.assertEquals("login", metadata.getTimers().get(1).getName(args));
+        Assert.assertEquals("fixed", metadata.getTimers().get(2).getName(args));
+        Assert.assertEquals(1, metadata.getTimers().get(2).getMark(args));
+        Assert.assertEquals("", metadata.getTimers().get(1).getName(new Object[] { 1, 5 }));
+    }
+
+    @Test
+    public void testInvoke() throws Throwable {
+        Assert.assertEquals("login-5", MethodMetadata.of(MethodMetadataUT.class.getMethod("concat", String.class, int.class)).invoke(this, "login", 5));
+        Assert.assertEquals(6, MethodMetadata.of(MethodMetadataUT.class.getMethod("increment", Integer.class)).invoke(null, 5));
+        Assert.assertNull(MethodMetadata.of(MethodMetadataUT.class.getMethod("conditioned")).invoke(this));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testInvokeDoesNotWrapExceptions() throws Throwable {
+        MethodMetadata.of(MethodMetadataUT.class.getMethod("fail")).invoke(this);
+    }
+
+    public String concat(String text, int count) {
+        return text + "-" + count;
+    }
+
+    public static Integer increment(Integer count) {
+        return count + 1;
+    }
+
+    public void fail() {
+        throw new IllegalStateException("fail");
+    }
+
+    @Conditioned
+    @RetryOnFailure(attempts = 3, delay = 1, unit = TimeUnit.MILLISECONDS)
+    public void conditioned() {
+    }
+
+    @SpeedRegulator(application = "first")
+    @SpeedRegulators({ @SpeedRegulator(application = "second"), @SpeedRegulator(application = "third", verbose = true) })
+    public void regulated() {
+    }
+
+    @Time
+    @Times({ @Time(name = "{page}"), @Time(name = "fixed", mark = 2) })
+    public void timed(@TimeName("page") String page, @TimeValue("count") Integer count) {
+    }
+
+}
@@ -0,0 +1,173 @@
+/**
+ * NoraUi is licensed under the license GNU AFFERO GENERAL PUBLIC LICENSE
+ *
+ * @author Nicolas HALLOUIN
+ * @author Stéphane GRILLON
+ */
+package com.github.noraui.cucumber.retry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.LoggerFactory;
+
+import com.github.noraui.exception.FailureException;
+import com.github.noraui.exception.Result;
+import com.github.noraui.exception.TechnicalException;
+import com.github.noraui.exception.WarningException;
+
+public class RetryEngineUT {
+
+    private FakeRetryScheduler scheduler;
+    private RetryEngine engine;
+
+    @Before
+    public void setUp() {
+        RetryEngine.log = LoggerFactory.getLogger(RetryEngine.class);
+        scheduler = new FakeRetryScheduler();
+        engine = new RetryEngine(scheduler, () -> 0.5);
+    }
+
+    @Test
+    public void testSuccessAfterRetries() throws Throwable {
+        AtomicInteger calls = new AtomicInteger();
+        Object result = engine.execute(() -> {
+            if (calls.incrementAndGet() < 3) {
+                new Result.Failure<>("error", "message", false, null);
+            }
+            return "OK";
+        }, policy(FailureException.class, 5, 1000, 2, -1, false, -1));
+        Assert.assertEquals("OK", result);
+        Assert.assertEquals(3, calls.get());
+        Assert.assertEquals(2, scheduler.waits.size());
+        Assert.assertEquals(TimeUnit.MILLISECONDS.toNanos(1000), scheduler.waits.get(0).longValue());
+        Assert.assertEquals(TimeUnit.MILLISECONDS.toNanos(2000), scheduler.waits.get(1).longValue());
+    }
+
+    @Test
+    public void testAttemptsExhausted() {
+        AtomicInteger calls = new AtomicInteger();
+        try {
+            engine.execute(() -> {
+                calls.incrementAndGet();
+                new Result.Failure<>("error", "message", false, null);
+                return null;
+            }, policy(FailureException.class, 3, 10, 1, -1, false, -1));
+            Assert.fail("FailureException expected");
+        } catch (Throwable t) {
+            Assert.assertTrue(t instanceof FailureException);
+        }
+        Assert.assertEquals(3, calls.get());
+        Assert.assertEquals(2, scheduler.waits.size());
+    }
+
+    @Test
+    public void testMaxDelayAndJitter() {
+        RetryPolicy policy = policy(FailureException.class, 10, 100, 10, 5000, true, -1);
+        Assert.assertEquals(TimeUnit.MILLISECONDS.toNanos(75), policy.getDelay(1, 0.5));
+        Assert.assertEquals(TimeUnit.MILLISECONDS.toNanos(750), policy.getDelay(2, 0.5));
+        Assert.assertEquals(TimeUnit.MILLISECONDS.toNanos(2500), policy.getDelay(4, 0.0));
+    }
+
+    @Test
+    public void testDeadline() {
+        AtomicInteger calls = new AtomicInteger();
+        try {
+            engine.execute(() -> {
+                calls.incrementAndGet();
+                new Result.Failure<>("error", "message", false, null);
+                return null;
+            }, policy(FailureException.class, 100, 1000, 1, -1, false, 2500));
+            Assert.fail("FailureException expected");
+        } catch (Throwable t) {
+            Assert.assertTrue(t instanceof FailureException);
+        }
+        Assert.assertEquals(3, calls.get());
+        Assert.assertEquals(TimeUnit.MILLISECONDS.toNanos(2000), scheduler.tick);
+    }
+
+    @Test
+    public void testDeadlineWithoutMaxDelay() {
+        AtomicInteger calls = new AtomicInteger();
+        try {
+            engine.execute(() -> {
+                calls.incrementAndGet();
+                new Result.Failure<>("error", "message", false, null);
+                return null;
+            }, policy(FailureException.class, 5, 1000, 1e30, Long.MAX_VALUE, false, 2500));
+            Assert.fail("FailureException expected");
+        } catch (Throwable t) {
+            Assert.assertTrue(t instanceof FailureException);
+        }
+        Assert.assertEquals(2, calls.get());
+        Assert.assertEquals(1, scheduler.waits.size());
+    }
+
+    @Test
+    public void testExceptionNotHandled() {
+        AtomicInteger calls = new AtomicInteger();
+        try {
+            engine.execute(() -> {
+                calls.incrementAndGet();
+                throw new TechnicalException("technical");
+            }, policy(FailureException.class, 3, 10, 1, -1, false, -1), null);
+            Assert.fail("TechnicalException expected");
+        } catch (Throwable t) {
+            Assert.assertTrue(t instanceof TechnicalException);
+        }
+        Assert.assertEquals(1, calls.get());
+        Assert.assertTrue(scheduler.waits.isEmpty());
+    }
+
+    @Test
+    public void testRetryOnOtherExceptionType() throws Throwable {
+        AtomicInteger calls = new AtomicInteger();
+        Object result = engine.execute(() -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new TechnicalException("technical");
+            }
+            return "OK";
+        }, null, policy(WarningException.class, 2, 10, 1, -1, false, -1, TechnicalException.class));
+        Assert.assertEquals("OK", result);
+        Assert.assertEquals(2, calls.get());
+    }
+
+    @SafeVarargs
+    private static RetryPolicy policy(Class<? extends Throwable> type, int attempts, long delay, double multiplier, long maxDelay, boolean jitter, long maxDuration,
+            Class<? extends Throwable>... others) {
+        List<Class<? extends Throwable>> types = new ArrayList<>();
+        types.add(type);
+        for (Class<? extends Throwable> other : others) {
+            types.add(other);
+        }
+        @SuppressWarnings("unchecked")
+        Class<? extends Throwable>[] retryOn = types.toArray(new Class[types.size()]);
+        return new RetryPolicy(retryOn, attempts, delay, multiplier, maxDelay, jitter, maxDuration, TimeUnit.MILLISECONDS, true);
+    }
+
+    /**
+     * A scheduler which does not wait but moves its own time forward.
+     */
+    private static class FakeRetryScheduler extends RetryScheduler {
+
+        private long tick = 0;
+        private final List<Long> waits = new ArrayList<>();
+
+        @Override
+        public long getTick() {
+            return tick;
+        }
+
+        @Override
+        public void await(long nanos) {
+            waits.add(nanos);
+            tick += nanos;
+        }
+    }
+
+}
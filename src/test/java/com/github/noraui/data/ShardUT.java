@@ -0,0 +1,93 @@
+/**
+ * NoraUi is licensed under the license GNU AFFERO GENERAL PUBLIC LICENSE
+ *
+ * @author Nicolas HALLOUIN
+ * @author Stéphane GRILLON
+ */
+package com.github.noraui.data;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.github.noraui.exception.TechnicalException;
+
+public class ShardUT {
+
+    @After
+    public void tearDown() {
+        System.clearProperty(Shard.SHARD_PROPERTY);
+    }
+
+    @Test
+    public void testCurrent() throws TechnicalException {
+        Assert.assertNull(Shard.current());
+        System.setProperty(Shard.SHARD_PROPERTY, "2/4");
+        Shard shard = Shard.current();
+        Assert.assertEquals(2, shard.getIndex());
+        Assert.assertEquals(4, shard.getTotal());
+        Assert.assertEquals("shard-2-of-4", shard.getFolderName());
+    }
+
+    @Test
+    public void testFeaturesFolder() throws TechnicalException {
+        Assert.assertEquals(new File("target" + File.separator + "noraui-shards", "shard-2-of-4"), new Shard(2, 4).getFeaturesFolder());
+        System.setProperty(Shard.SHARD_FEATURES_PROPERTY, "shards");
+        try {
+            Assert.assertEquals(new File("shards", "shard-1-of-4"), new Shard(1, 4).getFeaturesFolder());
+        } finally {
+            System.clearProperty(Shard.SHARD_FEATURES_PROPERTY);
+        }
+    }
+
+    @Test
+    public void testParseWrongShard() {
+        for (String value : Arrays.asList("0/2", "3/2", "1/0", "1", "a/b", "1/2/3")) {
+            try {
+                Shard.parse(value);
+                Assert.fail("Shard [" + value + "] must be rejected");
+            } catch (TechnicalException e) {
+                Assert.assertTrue(e.getMessage().contains("noraui.shard"));
+            }
+        }
+    }
+
+    @Test
+    public void testShardsPartitionAllPositions() throws TechnicalException {
+        int total = 3;
+        List<Integer> owners = new ArrayList<>();
+        for (int position = 1; position <= 10; position++) {
+            int owner = 0;
+            for (int index = 1; index <= total; index++) {
+                if (new Shard(index, total).owns(position)) {
+                    Assert.assertEquals("position " + position + " owned by several shards", 0, owner);
+                    owner = index;
+                }
+            }
+            owners.add(owner);
+        }
+        Assert.assertEquals(Arrays.asList(1, 2, 3, 1, 2, 3, 1, 2, 3, 1), owners);
+    }
+
+    @Test
+    public void testSelect() throws TechnicalException {
+        List<DataIndex> indexData = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            indexData.add(new DataIndex(i, Arrays.asList(i * 2, i * 2 + 1)));
+        }
+        List<DataIndex> selected = new Shard(2, 2).select(indexData);
+        Assert.assertEquals(2, selected.size());
+        Assert.assertEquals(1, selected.get(0).getDataLine());
+        Assert.assertEquals(Arrays.asList(4, 5), selected.get(0).getIndexes());
+        Assert.assertEquals(2, selected.get(1).getDataLine());
+        Assert.assertEquals(Arrays.asList(8, 9), selected.get(1).getIndexes());
+        Assert.assertEquals(Collections.emptyList(), new Shard(1, 1).select(Collections.emptyList()));
+    }
+
+}
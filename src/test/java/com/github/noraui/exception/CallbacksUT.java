@@ -0,0 +1,86 @@
+/**
+ * NoraUi is licensed under the license GNU AFFERO GENERAL PUBLIC LICENSE
+ *
+ * @author Nicolas HALLOUIN
+ * @author Stéphane GRILLON
+ */
+package com.github.noraui.exception;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.LoggerFactory;
+
+import com.github.noraui.cucumber.injector.NoraUiInjector;
+import com.github.noraui.utils.Context;
+
+public class CallbacksUT {
+
+    private static final String KEY = "CallbacksUT-callback";
+
+    public static class Target {
+
+        static final List<Target> CALLS = Collections.synchronizedList(new ArrayList<>());
+
+        public void call() {
+            CALLS.add(this);
+        }
+
+    }
+
+    private Callbacks callbacks;
+
+    @Before
+    public void setUp() {
+        Callbacks.log = LoggerFactory.getLogger(Callbacks.class);
+        NoraUiInjector.resetInjector();
+        Context.getInstance().initializeEnv("demoCsv.properties");
+        Context.setCurrentScenario(null);
+        Target.CALLS.clear();
+        callbacks = new Callbacks();
+        callbacks.put(KEY, Target.class.getName(), "call");
+    }
+
+    @After
+    public void tearDown() {
+        Context.stopWorker();
+        Context.setCurrentScenario(null);
+    }
+
+    @Test
+    public void testTargetIsCreatedOncePerScenario() {
+        callbacks.get(KEY).call();
+        callbacks.get(KEY).call();
+        Context.setCurrentScenario(null);
+        callbacks.get(KEY).call();
+        Assert.assertEquals(3, Target.CALLS.size());
+        Assert.assertSame(Target.CALLS.get(0), Target.CALLS.get(1));
+        Assert.assertNotSame(Target.CALLS.get(1), Target.CALLS.get(2));
+    }
+
+    @Test
+    public void testWorkersDoNotShareTheTarget() throws InterruptedException {
+        callbacks.get(KEY).call();
+        // the callbacks are shared with the worker context of the thread
+        Thread thread = new Thread(() -> {
+            Context.startWorker();
+            try {
+                callbacks.get(KEY).call();
+            } finally {
+                Context.stopWorker();
+            }
+        });
+        thread.start();
+        thread.join();
+        callbacks.get(KEY).call();
+        Assert.assertEquals(3, Target.CALLS.size());
+        Assert.assertNotSame(Target.CALLS.get(0), Target.CALLS.get(1));
+        Assert.assertSame(Target.CALLS.get(0), Target.CALLS.get(2));
+    }
+
+}
@@ -86,4 +86,18 @@ public class GherkinConditionedLoopedStepUT {
         Assert.assertFalse(gherkinConditionedLoopedStep.checkCondition());
     }
 
+    @Test
+    public void testCheckConditionsLiteralOnlyIgnoresAsciiCase() {
+        Assert.assertTrue(new GherkinConditionedLoopedStep("1", "I wait 4 seconds?", "accès", "ACCèS").checkCondition());
+        Assert.assertFalse(new GherkinConditionedLoopedStep("1", "I wait 4 seconds?", "accès", "ACCÈS").checkCondition());
+    }
+
+    @Test
+    public void testCheckConditionsRegexReused() {
+        GherkinConditionedLoopedStep gherkinConditionedLoopedStep = new GherkinConditionedLoopedStep("1", "I wait 4 seconds?", "a.c", "ABC");
+        Assert.assertTrue(gherkinConditionedLoopedStep.checkCondition());
+        Assert.assertTrue(gherkinConditionedLoopedStep.checkCondition());
+        Assert.assertFalse(new GherkinConditionedLoopedStep("1", "I wait 4 seconds?", "a.c", "abcd").checkCondition());
+    }
+
 }
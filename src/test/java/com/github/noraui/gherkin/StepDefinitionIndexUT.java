@@ -0,0 +1,125 @@
+/**
+ * NoraUi is licensed under the license GNU AFFERO GENERAL PUBLIC LICENSE
+ *
+ * @author Nicolas HALLOUIN
+ * @author Stéphane GRILLON
+ */
+package com.github.noraui.gherkin;
+
+import java.lang.reflect.Method;
+import java.util.AbstractMap.SimpleEntry;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.LoggerFactory;
+
+import com.github.noraui.cucumber.injector.NoraUiInjector;
+import com.github.noraui.cucumber.injector.NoraUiInjectorSource;
+import com.github.noraui.service.CucumberExpressionService;
+
+public class StepDefinitionIndexUT {
+
+    private CucumberExpressionService cucumberExpressionService;
+    private Map<String, Method> cucumberMethods;
+    private StepDefinitionIndex index;
+
+    @Before
+    public void setUp() throws NoSuchMethodException {
+        StepDefinitionIndex.log = LoggerFactory.getLogger(StepDefinitionIndex.class);
+        NoraUiInjector.resetInjector();
+        cucumberExpressionService = new NoraUiInjectorSource().getInjector().getInstance(CucumberExpressionService.class);
+        cucumberMethods = new LinkedHashMap<>();
+        cucumberMethods.put("I wait {int} second(s)(\\?)", Sample.class.getMethod("waitSeconds", Integer.class));
+        cucumberMethods.put("I wait forever", Sample.class.getMethod("waitForever"));
+        cucumberMethods.put("I update text {string} with {string}(\\?)", Sample.class.getMethod("updateText", String.class, String.class));
+        cucumberMethods.put("I go/walk to {string}", Sample.class.getMethod("goTo", String.class));
+        cucumberMethods.put("{string} is displayed", Sample.class.getMethod("displayed", String.class));
+        index = StepDefinitionIndex.of(cucumberMethods, cucumberExpressionService);
+    }
+
+    @After
+    public void tearDown() {
+        NoraUiInjector.resetInjector();
+    }
+
+    @Test
+    public void testSameIndexForSameStepDefinitions() {
+        Assert.assertSame(index, StepDefinitionIndex.of(cucumberMethods, cucumberExpressionService));
+        Assert.assertNotSame(index, StepDefinitionIndex.of(new LinkedHashMap<>(cucumberMethods), cucumberExpressionService));
+    }
+
+    @Test
+    public void testGetLiteralPrefix() {
+        Assert.assertEquals("I wait ", StepDefinitionIndex.getLiteralPrefix("I wait {int} second(s)(\\?)"));
+        Assert.assertEquals("I wait forever", StepDefinitionIndex.getLiteralPrefix("I wait forever"));
+        Assert.assertEquals("I ", StepDefinitionIndex.getLiteralPrefix("I go/walk to {string}"));
+        Assert.assertEquals("", StepDefinitionIndex.getLiteralPrefix("{string} is displayed"));
+    }
+
+    @Test
+    public void testGetCandidates() {
+        List<String> candidates = index.getCandidates("I wait 4 seconds").stream().map(d -> d.getMethod().getName()).collect(Collectors.toList());
+        Assert.assertEquals(Arrays.asList("waitSeconds", "goTo", "displayed"), candidates);
+        candidates = index.getCandidates("I update text 'a' with 'b'").stream().map(d -> d.getMethod().getName()).collect(Collectors.toList());
+        Assert.assertEquals(Arrays.asList("updateText", "goTo", "displayed"), candidates);
+        candidates = index.getCandidates("'title' is displayed").stream().map(d -> d.getMethod().getName()).collect(Collectors.toList());
+        Assert.assertEquals(Arrays.asList("displayed"), candidates);
+    }
+
+    @Test
+    public void testFind() {
+        SimpleEntry<Method, List<?>> found = index.find("I wait 4 seconds");
+        Assert.assertEquals("waitSeconds", found.getKey().getName());
+        Assert.assertEquals(Arrays.asList(4), found.getValue());
+        found = index.find("I wait 5 second?");
+        Assert.assertEquals("waitSeconds", found.getKey().getName());
+        Assert.assertEquals(Arrays.asList(5), found.getValue());
+        found = index.find("I walk to 'home'");
+        Assert.assertEquals("goTo", found.getKey().getName());
+        Assert.assertEquals(Arrays.asList("home"), found.getValue());
+        found = index.find("I update text 'a' with 'b'");
+        Assert.assertEquals("updateText", found.getKey().getName());
+        Assert.assertEquals(Arrays.asList("a", "b"), found.getValue());
+    }
+
+    @Test
+    public void testMatchAll() {
+        Map<String, List<Object>> matches = index.matchAll("I go to 'home'");
+        Assert.assertEquals(Arrays.asList("I go/walk to {string}"), Arrays.asList(matches.keySet().toArray()));
+        Assert.assertEquals(Arrays.asList("home"), matches.get("I go/walk to {string}"));
+        Assert.assertTrue(index.matchAll("I wait").isEmpty());
+    }
+
+    @Test
+    public void testFindNoMatch() {
+        Assert.assertNull(index.find("I want to do '4' things I cant."));
+        Assert.assertNull(index.find("I want to do '4' things I cant."));
+    }
+
+    public static class Sample {
+
+        public void waitSeconds(Integer time) {
+        }
+
+        public void waitForever() {
+        }
+
+        public void updateText(String key, String text) {
+        }
+
+        public void goTo(String page) {
+        }
+
+        public void displayed(String title) {
+        }
+
+    }
+
+}
@@ -0,0 +1,110 @@
+/**
+ * NoraUi is licensed under the license GNU AFFERO GENERAL PUBLIC LICENSE
+ *
+ * @author Nicolas HALLOUIN
+ * @author Stéphane GRILLON
+ */
+package com.github.noraui.indus;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.slf4j.LoggerFactory;
+
+import com.github.noraui.exception.TechnicalException;
+import com.github.noraui.service.CryptoService;
+import com.github.noraui.service.impl.CryptoServiceImpl;
+
+public class BulkCryptoUT {
+
+    private static final String ENCRYPTED_PASSWORD = "℗:7y+CKIH1Zd5RVORZ0PAQBA==";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private CryptoService cryptoService;
+
+    @Before
+    public void setUp() {
+        BulkCrypto.log = LoggerFactory.getLogger(BulkCrypto.class);
+        cryptoService = new CryptoServiceImpl();
+    }
+
+    @After
+    public void tearDown() {
+        CryptoServiceImpl.clearCache();
+    }
+
+    @Test
+    public void testEncryptAndDecryptCsv() throws IOException, TechnicalException {
+        File file = new File(folder.getRoot(), "hello.csv");
+        StringBuilder content = new StringBuilder("user;password;Result\n");
+        for (int i = 0; i < BulkCrypto.CHUNK_ROWS * 4; i++) {
+            content.append("user").append(i).append(";password;\n");
+        }
+        write(file, content.toString());
+
+        BulkCrypto.Report report = BulkCrypto.encrypt(cryptoService, "my-secret").withParallelism(4).transform(file, Collections.singletonList("password"));
+        Assert.assertEquals(BulkCrypto.CHUNK_ROWS * 4, report.getRows());
+        Assert.assertEquals(BulkCrypto.CHUNK_ROWS * 4, report.getTransformed());
+        String encrypted = FileUtils.readFileToString(file, StandardCharsets.UTF_8);
+        Assert.assertEquals(content.toString().replace(";password;", ";" + ENCRYPTED_PASSWORD + ";"), encrypted);
+
+        Assert.assertEquals(0, BulkCrypto.encrypt(cryptoService, "my-secret").transform(file, Collections.singletonList("password")).getTransformed());
+
+        BulkCrypto.decrypt(cryptoService, "my-secret").transform(file, Collections.singletonList("password"));
+        Assert.assertEquals(content.toString(), FileUtils.readFileToString(file, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testRotateGherkin() throws IOException, TechnicalException {
+        File file = new File(folder.getRoot(), "loginLogout.feature");
+        write(file, "Feature: loginLogout\r\n  Scenario Outline:  Login and Logout\r\n    Given I check \"<password>\"\r\n\r\n    Examples:\r\n    #DATA\r\n    |id|user|password|\r\n    |1|jenkins|"
+                + ENCRYPTED_PASSWORD + "|\r\n    |2|bob||\r\n    #END\r\n");
+
+        BulkCrypto.Report report = BulkCrypto.rotate(cryptoService, "my-secret", "new-secret").transform(file, Arrays.asList("password", "user"));
+        Assert.assertEquals(2, report.getRows());
+        Assert.assertEquals(4, report.getCells());
+        Assert.assertEquals(1, report.getTransformed());
+
+        String rotated = cryptoService.encrypt("new-secret", "password");
+        Assert.assertEquals("Feature: loginLogout\r\n  Scenario Outline:  Login and Logout\r\n    Given I check \"<password>\"\r\n\r\n    Examples:\r\n    #DATA\r\n    |id|user|password|\r\n    |1|jenkins|" + rotated
+                + "|\r\n    |2|bob||\r\n    #END\r\n", FileUtils.readFileToString(file, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testUnknownColumn() throws IOException {
+        File file = new File(folder.getRoot(), "hello.csv");
+        write(file, "user;password;Result\njenkins;password;\n");
+        try {
+            BulkCrypto.encrypt(cryptoService, "my-secret").transform(file, Collections.singletonList("pwd"));
+            Assert.fail();
+        } catch (TechnicalException e) {
+            Assert.assertEquals("user;password;Result\njenkins;password;\n", FileUtils.readFileToString(file, StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    public void testWrongCryptoKey() throws IOException {
+        File file = new File(folder.getRoot(), "hello.csv");
+        write(file, "user;password;Result\njenkins;" + ENCRYPTED_PASSWORD + ";\n");
+        try {
+            BulkCrypto.decrypt(cryptoService, "other-secret").transform(file, Collections.singletonList("password"));
+            Assert.fail();
+        } catch (TechnicalException e) {
+            Assert.assertEquals("user;password;Result\njenkins;" + ENCRYPTED_PASSWORD + ";\n", FileUtils.readFileToString(file, StandardCharsets.UTF_8));
+            Assert.assertFalse(new File(folder.getRoot(), "hello.csv.tmp").exists());
+        }
+    }
+
+}
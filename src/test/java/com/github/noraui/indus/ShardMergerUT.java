@@ -0,0 +1,58 @@
+/**
+ * NoraUi is licensed under the license GNU AFFERO GENERAL PUBLIC LICENSE
+ *
+ * @author Nicolas HALLOUIN
+ * @author Stéphane GRILLON
+ */
+package com.github.noraui.indus;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.slf4j.LoggerFactory;
+
+import com.github.noraui.data.Shard;
+import com.github.noraui.exception.TechnicalException;
+
+public class ShardMergerUT {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Before
+    public void setUp() {
+        ShardMerger.log = LoggerFactory.getLogger(ShardMerger.class);
+    }
+
+    @Test
+    public void testMergeCsv() throws IOException, TechnicalException {
+        File out = folder.getRoot();
+        write(new File(out, "hello.csv"), "user;password;Result\njenkins;pw1;\nbob;pw2;\nalice;pw3;old\n");
+        write(new File(new File(out, Shard.getFolderName(1, 2)), "hello.csv"), "user;password;Result\njenkins;pw1;\nbob;pw2;\nalice;pw3;\n");
+        write(new File(new File(out, Shard.getFolderName(2, 2)), "hello.csv"), "user;password;Result\njenkins;pw1;\nbob;pw2;3\nalice;pw3;old\n");
+
+        Assert.assertEquals(2, ShardMerger.merge(out, 2));
+        Assert.assertEquals("user;password;Result\njenkins;pw1;\nbob;pw2;3\nalice;pw3;\n", FileUtils.readFileToString(new File(out, "hello.csv"), StandardCharsets.UTF_8));
+        Assert.assertEquals(0, ShardMerger.merge(out, 2));
+    }
+
+    @Test
+    public void testMergeWithoutShardFiles() throws IOException, TechnicalException {
+        File out = folder.getRoot();
+        write(new File(out, "hello.csv"), "user;Result\njenkins;\n");
+        Assert.assertEquals(0, ShardMerger.merge(out, 4));
+        Assert.assertEquals("user;Result\njenkins;\n", FileUtils.readFileToString(new File(out, "hello.csv"), StandardCharsets.UTF_8));
+    }
+
+    private static void write(File file, String content) throws IOException {
+        FileUtils.writeStringToFile(file, content, StandardCharsets.UTF_8);
+    }
+
+}
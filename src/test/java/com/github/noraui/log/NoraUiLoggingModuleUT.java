@@ -0,0 +1,96 @@
+/**
+ * NoraUi is licensed under the license GNU AFFERO GENERAL PUBLIC LICENSE
+ *
+ * @author Nicolas HALLOUIN
+ * @author Stéphane GRILLON
+ */
+package com.github.noraui.log;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.github.noraui.log.processor.LoggableProcessor;
+
+public class NoraUiLoggingModuleUT {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    /**
+     * @return a class path root holding the packages, with an index of the classes if any.
+     */
+    private File root(String name, String[] packages, String... indexedClasses) throws IOException {
+        final File root = folder.newFolder(name);
+        for (String packageName : packages) {
+            new File(root, packageName.replace('.', '/')).mkdirs();
+        }
+        if (indexedClasses.length > 0) {
+            final File index = new File(root, LoggableProcessor.INDEX);
+            index.getParentFile().mkdirs();
+            Files.write(index.toPath(), Arrays.asList(indexedClasses), StandardCharsets.UTF_8);
+        }
+        return root;
+    }
+
+    private static URLClassLoader classLoader(File... roots) throws IOException {
+        final URL[] urls = new URL[roots.length];
+        for (int i = 0; i < roots.length; i++) {
+            urls[i] = roots[i].toURI().toURL();
+        }
+        // no parent: only the given roots are in the class path
+        return new URLClassLoader(urls, null);
+    }
+
+    @Test
+    public void testIndexedPackage() throws IOException {
+        File library = root("library", new String[] { "com.example.lib.utils" }, "com.example.lib.Foo", "com.example.lib.utils.Bar");
+        try (URLClassLoader classLoader = classLoader(library)) {
+            Assert.assertEquals(new LinkedHashSet<>(Arrays.asList("com.example.lib.Foo", "com.example.lib.utils.Bar")),
+                    new NoraUiLoggingModule("com.example.lib").getIndexedClassNames(classLoader));
+            Assert.assertEquals(Collections.singleton("com.example.lib.utils.Bar"), new NoraUiLoggingModule("com.example.lib.utils").getIndexedClassNames(classLoader));
+        }
+    }
+
+    @Test
+    public void testSubPackageWithoutIndexIsScanned() throws IOException {
+        File library = root("library", new String[] { "com.example.lib" }, "com.example.lib.Foo");
+        // robot in a sub-package of the library, compiled without the annotation processor
+        File robot = root("robot", new String[] { "com.example.lib.robot" });
+        try (URLClassLoader classLoader = classLoader(library, robot)) {
+            Assert.assertNull(new NoraUiLoggingModule("com.example.lib.robot").getIndexedClassNames(classLoader));
+            Assert.assertNull(new NoraUiLoggingModule("com.example.lib").getIndexedClassNames(classLoader));
+            Assert.assertNull(new NoraUiLoggingModule("com.example").getIndexedClassNames(classLoader));
+        }
+    }
+
+    @Test
+    public void testParentPackageOfIndexedRoots() throws IOException {
+        File library = root("library", new String[] { "com.example.lib" }, "com.example.lib.Foo");
+        File robot = root("robot", new String[] { "com.example.robot" }, "com.example.robot.Steps");
+        try (URLClassLoader classLoader = classLoader(library, robot)) {
+            Assert.assertEquals(new LinkedHashSet<>(Arrays.asList("com.example.lib.Foo", "com.example.robot.Steps")),
+                    new NoraUiLoggingModule("com.example").getIndexedClassNames(classLoader));
+        }
+    }
+
+    @Test
+    public void testUnknownPackageIsScanned() throws IOException {
+        File library = root("library", new String[] { "com.example.lib" }, "com.example.lib.Foo");
+        try (URLClassLoader classLoader = classLoader(library)) {
+            Assert.assertNull(new NoraUiLoggingModule("org.example").getIndexedClassNames(classLoader));
+        }
+    }
+
+}
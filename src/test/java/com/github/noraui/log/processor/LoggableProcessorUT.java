@@ -0,0 +1,60 @@
+/**
+ * NoraUi is licensed under the license GNU AFFERO GENERAL PUBLIC LICENSE
+ *
+ * @author Nicolas HALLOUIN
+ * @author Stéphane GRILLON
+ */
+package com.github.noraui.log.processor;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class LoggableProcessorUT {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private void compile(String className, String source) throws IOException {
+        File file = new File(folder.getRoot(), "src/com/example/" + className + ".java");
+        file.getParentFile().mkdirs();
+        Files.write(file.toPath(), source.getBytes(StandardCharsets.UTF_8));
+        File classes = new File(folder.getRoot(), "classes");
+        classes.mkdirs();
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        int status = compiler.run(null, null, null, "-classpath", System.getProperty("java.class.path"), "-processor", LoggableProcessor.class.getName(), "-d",
+                classes.getAbsolutePath(), file.getAbsolutePath());
+        Assert.assertEquals(0, status);
+    }
+
+    private List<String> readIndex() throws IOException {
+        return Files.readAllLines(new File(folder.getRoot(), "classes/" + LoggableProcessor.INDEX).toPath(), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void testIndexOfLoggableClasses() throws IOException {
+        compile("Foo", "package com.example;\n@com.github.noraui.log.annotation.Loggable\npublic class Foo {\n"
+                + "    @com.github.noraui.log.annotation.Loggable public enum Level { A }\n" + "    @com.github.noraui.log.annotation.Loggable interface Api { }\n"
+                + "    public static class NotLoggable { }\n}\n");
+        Assert.assertEquals(Arrays.asList("com.example.Foo", "com.example.Foo$Level"), readIndex());
+    }
+
+    @Test
+    public void testIncrementalCompilationKeepsPreviousClasses() throws IOException {
+        compile("Foo", "package com.example;\n@com.github.noraui.log.annotation.Loggable\npublic class Foo { }\n");
+        compile("Bar", "package com.example;\n@com.github.noraui.log.annotation.Loggable\npublic class Bar { }\n");
+        Assert.assertEquals(Arrays.asList("com.example.Bar", "com.example.Foo"), readIndex());
+    }
+
+}
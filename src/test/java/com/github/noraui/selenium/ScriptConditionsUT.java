@@ -0,0 +1,167 @@
+/**
+ * NoraUi is licensed under the license GNU AFFERO GENERAL PUBLIC LICENSE
+ *
+ * @author Nicolas HALLOUIN
+ * @author Stéphane GRILLON
+ */
+package com.github.noraui.selenium;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import javax.script.Invocable;
+import javax.script.ScriptEngine;
+import javax.script.ScriptEngineManager;
+
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import com.github.noraui.selenium.ScriptConditions.Check;
+
+public class ScriptConditionsUT {
+
+    /**
+     * Page of the script: elements found by '#id', with the text 'ok' (value of the hidden input). innerText of an element not rendered is its
+     * textContent, as in a browser.
+     */
+    private static final String PAGE = "var visible = { display: 'block', visibility: 'visible', opacity: '1' };"
+            + "function node(tag, parent, style, size, text) { var n = { tagName: tag, nodeType: 1, parentElement: parent, style: style, innerText: text,"
+            + " firstElementChild: null, nextElementSibling: null, getBoundingClientRect: function () { return { width: size, height: size }; } };"
+            + " if (parent) { n.nextElementSibling = parent.firstElementChild; parent.firstElementChild = n; } return n; }"
+            + "var body = node('BODY', null, visible, 100, ''), hiddenParent = node('DIV', body, { display: 'none', visibility: 'visible', opacity: '1' }, 0, 'ok');"
+            + "var select = node('SELECT', body, { display: 'none', visibility: 'visible', opacity: '1' }, 0, 'ok'), wrapper = node('SPAN', body, visible, 0, ' ok ');"
+            + "var nodes = { shown: node('DIV', body, visible, 10, ' ok '), none: node('DIV', body, { display: 'none', visibility: 'visible', opacity: '1' }, 0, 'ok'),"
+            + " invisible: node('DIV', body, { display: 'block', visibility: 'hidden', opacity: '1' }, 10, 'ok'),"
+            + " transparent: node('DIV', body, { display: 'block', visibility: 'visible', opacity: '0' }, 10, 'ok'), inHiddenParent: node('DIV', hiddenParent, visible, 0, 'ok'),"
+            + " hiddenInput: node('INPUT', body, visible, 0, ''), optionOfHiddenSelect: node('OPTION', select, visible, 0, 'ok'), empty: node('DIV', body, visible, 0, 'ok'),"
+            + " sizedChild: wrapper };"
+            + "node('B', wrapper, visible, 10, 'ok'); nodes.hiddenInput.type = 'hidden'; nodes.hiddenInput.value = 'ok';"
+            + "var document = { querySelectorAll: function (s) { return nodes[s.substring(1)] ? [nodes[s.substring(1)]] : []; } };"
+            + "var window = { getComputedStyle: function (e) { return e.style; } };"
+            + "function run(id, check, expected) { return conditions.apply(null, [[['css', '#' + id]], check, expected]); }";
+
+    /**
+     * Elements of {@link #PAGE} displayed.
+     */
+    private static final String[] DISPLAYED = { "shown", "sizedChild" };
+
+    /**
+     * Elements of {@link #PAGE} hidden.
+     */
+    private static final String[] HIDDEN = { "none", "invisible", "transparent", "inHiddenParent", "hiddenInput", "optionOfHiddenSelect", "empty" };
+
+    @Test
+    public void testToScriptLocator() {
+        Assert.assertEquals(Arrays.asList("css", "div.item > a"), ScriptConditions.toScriptLocator(locator("css", "div.item > a", By.cssSelector("div.item > a"))));
+        Assert.assertEquals(Arrays.asList("xpath", "//a[@title='x: y']"), ScriptConditions.toScriptLocator(locator("xpath", "//a[@title='x: y']", By.xpath("//a[@title='x: y']"))));
+        Assert.assertEquals(Arrays.asList("id", "login"), ScriptConditions.toScriptLocator(locator("id", "login", By.id("login"))));
+        Assert.assertEquals(Arrays.asList("name", "q"), ScriptConditions.toScriptLocator(locator("name", "q", By.name("q"))));
+        Assert.assertEquals(Arrays.asList("class", "btn"), ScriptConditions.toScriptLocator(locator("class", "btn", By.className("btn"))));
+        Assert.assertNull(ScriptConditions.toScriptLocator(locator("link", "Home", By.linkText("Home"))));
+        Assert.assertNull("locator not built from a selectors file", ScriptConditions.toScriptLocator(By.id("login")));
+    }
+
+    @Test
+    public void testLocatorIsTheSeleniumLocator() {
+        final WebDriver driver = mock(WebDriver.class);
+        final WebElement element = mock(WebElement.class);
+        when(driver.findElements(By.id("login"))).thenReturn(Collections.singletonList(element));
+        final By locator = locator("id", "login", By.id("login"));
+        Assert.assertEquals(By.id("login"), locator);
+        Assert.assertEquals(By.id("login").toString(), locator.toString());
+        Assert.assertEquals(Collections.singletonList(element), locator.findElements(driver));
+    }
+
+    @Test
+    public void testIsSupported() {
+        WebDriver driver = mock(WebDriver.class, Mockito.withSettings().extraInterfaces(JavascriptExecutor.class));
+        Assert.assertTrue(ScriptConditions.isSupported(driver, locator("id", "a", By.id("a")), locator("xpath", "//b", By.xpath("//b"))));
+        Assert.assertFalse(ScriptConditions.isSupported(driver, locator("id", "a", By.id("a")), locator("link", "b", By.linkText("b"))));
+        Assert.assertFalse(ScriptConditions.isSupported(driver, By.id("a")));
+        Assert.assertFalse(ScriptConditions.isSupported(driver));
+        Assert.assertFalse(ScriptConditions.isSupported(mock(WebDriver.class), locator("id", "a", By.id("a"))));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testEvaluateUnsupported() {
+        ScriptConditions.evaluate(mock(WebDriver.class), Check.PRESENT, null, locator("id", "a", By.id("a")));
+    }
+
+    @Test
+    public void testScriptAndWebDriverAgreeOnHiddenElements() throws Exception {
+        final ScriptEngine engine = new ScriptEngineManager().getEngineByName("nashorn");
+        Assume.assumeNotNull(engine);
+        engine.eval("var conditions = function () {" + ScriptConditions.SCRIPT + "};" + PAGE);
+        final Invocable page = (Invocable) engine;
+
+        for (final String id : DISPLAYED) {
+            Assert.assertNotNull(id, page.invokeFunction("run", id, Check.VISIBLE_COUNT.name(), 1));
+            Assert.assertEquals(id, "ok", page.invokeFunction("run", id, Check.TEXT_PRESENT.name(), null));
+            Assert.assertEquals(id, true, page.invokeFunction("run", id, Check.TEXT_EQUALS.name(), "ok"));
+        }
+        for (final String id : HIDDEN) {
+            // WebDriver: isDisplayed() is false and getText() is empty, only the 'value' attribute of the hidden input is 'ok'
+            final WebDriver driver = mock(WebDriver.class);
+            final WebElement element = mock(WebElement.class);
+            when(element.isDisplayed()).thenReturn(false);
+            when(element.getText()).thenReturn("");
+            when(element.getAttribute("value")).thenReturn("hiddenInput".equals(id) ? "ok" : null);
+            when(driver.findElement(any())).thenReturn(element);
+            when(driver.findElements(any())).thenReturn(Collections.singletonList(element));
+            final By locator = By.id(id);
+
+            Assert.assertEquals(id, NoraUiExpectedConditions.visibilityOfNbElementsLocatedBy(locator, 1).apply(driver) != null,
+                    page.invokeFunction("run", id, Check.VISIBLE_COUNT.name(), 1) != null);
+            Assert.assertEquals(id, NoraUiExpectedConditions.visibilityOfNbElementsLocatedBy(locator, 0).apply(driver) != null,
+                    page.invokeFunction("run", id, Check.VISIBLE_COUNT.name(), 0) != null);
+            Assert.assertEquals(id, NoraUiExpectedConditions.textToBePresentInElement(locator).apply(driver), page.invokeFunction("run", id, Check.TEXT_PRESENT.name(), null));
+            Assert.assertEquals(id, NoraUiExpectedConditions.textToBeEqualsToExpectedValue(locator, "ok").apply(driver),
+                    page.invokeFunction("run", id, Check.TEXT_EQUALS.name(), "ok"));
+            Assert.assertEquals(id, NoraUiExpectedConditions.textContainsExpectedValue(locator, "o").apply(driver),
+                    page.invokeFunction("run", id, Check.TEXT_CONTAINS.name(), "o"));
+        }
+    }
+
+    @Test
+    public void testConditionUsesOneScriptByPoll() {
+        WebDriver driver = mock(WebDriver.class, Mockito.withSettings().extraInterfaces(JavascriptExecutor.class));
+        WebElement element = mock(WebElement.class);
+        when(((JavascriptExecutor) driver).executeScript(anyString(), any(), eq(Check.VISIBLE_COUNT.name()), eq(2))).thenReturn(Arrays.asList(element, element));
+        Assert.assertEquals(2, NoraUiExpectedConditions.visibilityOfNbElementsLocatedBy(locator("css", "li", By.cssSelector("li")), 2).apply(driver).size());
+        when(((JavascriptExecutor) driver).executeScript(anyString(), any(), eq(Check.TEXT_EQUALS.name()), eq("ok"))).thenReturn(true);
+        Assert.assertTrue(NoraUiExpectedConditions.textToBeEqualsToExpectedValue(locator("id", "status", By.id("status")), "ok").apply(driver));
+        verify((JavascriptExecutor) driver, times(2)).executeScript(anyString(), any(), any(), any());
+        verify(driver, never()).findElements(any());
+        verify(driver, never()).findElement(any());
+    }
+
+    @Test
+    public void testConditionFallsBackToWebDriver() {
+        WebDriver driver = mock(WebDriver.class);
+        WebElement element = mock(WebElement.class);
+        when(element.isDisplayed()).thenReturn(true);
+        when(driver.findElements(any())).thenReturn(Collections.singletonList(element));
+        Assert.assertEquals(1, NoraUiExpectedConditions.visibilityOfNbElementsLocatedBy(By.cssSelector("li"), 1).apply(driver).size());
+        Assert.assertNull(NoraUiExpectedConditions.visibilityOfNbElementsLocatedBy(By.cssSelector("li"), 2).apply(driver));
+    }
+
+    private static By locator(String type, String value, By locator) {
+        return ScriptConditions.locator(type, value, locator);
+    }
+
+}
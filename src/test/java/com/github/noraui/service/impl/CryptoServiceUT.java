@@ -8,7 +8,13 @@ package com.github.noraui.service.impl;
 
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.junit.After;
 import org.junit.Assert;
@@ -46,6 +52,7 @@ public class CryptoServiceUT {
 
     @After
     public void tearDown() {
+        CryptoServiceImpl.clearCache();
         NoraUiInjector.resetInjector();
         NoraUiLoggingInjector.resetInjector();
     }
@@ -64,6 +71,38 @@ public class CryptoServiceUT {
         Assert.assertEquals("password", cryptoService.decrypt("℗:7y+CKIH1Zd5RVORZ0PAQBA=="));
     }
 
+    @Test
+    public void testDecryptWithCache() throws TechnicalException {
+        Assert.assertEquals("password", cryptoService.decrypt("my-secret", "℗:7y+CKIH1Zd5RVORZ0PAQBA=="));
+        Assert.assertEquals("password", cryptoService.decrypt("my-secret", "℗:7y+CKIH1Zd5RVORZ0PAQBA=="));
+        try {
+            cryptoService.decrypt("other-secret", "℗:7y+CKIH1Zd5RVORZ0PAQBA==");
+            Assert.assertFalse(true);
+        } catch (TechnicalException e) {
+            Assert.assertNotNull(e.getCause());
+        }
+        CryptoServiceImpl.clearCache();
+        Assert.assertEquals("password", cryptoService.decrypt("my-secret", cryptoService.encrypt("my-secret", "password")));
+    }
+
+    @Test
+    public void testDecryptFromSeveralThreads() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Callable<String>> tasks = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                String text = "password" + i % 10;
+                tasks.add(() -> cryptoService.decrypt("my-secret", cryptoService.encrypt("my-secret", text)));
+            }
+            List<Future<String>> results = executor.invokeAll(tasks);
+            for (int i = 0; i < results.size(); i++) {
+                Assert.assertEquals("password" + i % 10, results.get(i).get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
     @Test
     public void testErrorConfig() {
         try {
@@ -49,4 +49,10 @@ public class CucumberExpressionServiceUT {
         Assert.assertEquals("[\"foo\",\".+\",\"bakery.DemoPage-big_title\",\"This is a demo for NORAUI.*\",3]", res);
     }
 
+    @Test
+    public void testCucumberExpressionCompiledOnce() {
+        Assert.assertSame(cucumberExpressionService.getExpression("I wait {int} second(s)(\\?)"), cucumberExpressionService.getExpression("I wait {int} second(s)(\\?)"));
+        Assert.assertNotSame(cucumberExpressionService.getExpression("I wait {int} second(s)(\\?)"), cucumberExpressionService.getExpression("I wait {int} minute(s)(\\?)"));
+    }
+
 }
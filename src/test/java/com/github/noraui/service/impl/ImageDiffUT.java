@@ -0,0 +1,80 @@
+/**
+ * NoraUi is licensed under the license GNU AFFERO GENERAL PUBLIC LICENSE
+ *
+ * @author Nicolas HALLOUIN
+ * @author Stéphane GRILLON
+ */
+package com.github.noraui.service.impl;
+
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ImageDiffUT {
+
+    private static BufferedImage image(int type, int width, int height, int rgb) {
+        BufferedImage image = new BufferedImage(width, height, type);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                image.setRGB(x, y, rgb);
+            }
+        }
+        return image;
+    }
+
+    @Test
+    public void testSameImages() {
+        Assert.assertEquals(0.0, ImageDiff.differencePercent(image(BufferedImage.TYPE_3BYTE_BGR, 300, 400, 0x123456), image(BufferedImage.TYPE_3BYTE_BGR, 300, 400, 0x123456),
+                Double.POSITIVE_INFINITY), 0.0);
+    }
+
+    @Test
+    public void testBgrAndRgbGiveSameResult() {
+        BufferedImage actual = image(BufferedImage.TYPE_3BYTE_BGR, 500, 300, 0x000000);
+        BufferedImage expected = image(BufferedImage.TYPE_3BYTE_BGR, 500, 300, 0x000000);
+        for (int x = 0; x < 500; x++) {
+            expected.setRGB(x, 10, 0xffffff);
+        }
+        double bgr = ImageDiff.differencePercent(actual, expected, Double.POSITIVE_INFINITY);
+        Assert.assertEquals(100.0 / 300, bgr, 1e-9);
+        BufferedImage rgbActual = image(BufferedImage.TYPE_INT_RGB, 500, 300, 0x000000);
+        BufferedImage rgbExpected = image(BufferedImage.TYPE_INT_RGB, 500, 300, 0x000000);
+        for (int x = 0; x < 500; x++) {
+            rgbExpected.setRGB(x, 10, 0xffffff);
+        }
+        Assert.assertEquals(bgr, ImageDiff.differencePercent(rgbActual, rgbExpected, Double.POSITIVE_INFINITY), 1e-9);
+        Assert.assertEquals(bgr, ImageDiff.differencePercent(actual, rgbExpected, Double.POSITIVE_INFINITY), 1e-9);
+    }
+
+    @Test
+    public void testStopsAboveThreshold() {
+        BufferedImage black = image(BufferedImage.TYPE_3BYTE_BGR, 1000, 1000, 0x000000);
+        BufferedImage white = image(BufferedImage.TYPE_3BYTE_BGR, 1000, 1000, 0xffffff);
+        double percent = ImageDiff.differencePercent(black, white, 1.0);
+        Assert.assertTrue(percent > 1.0);
+        Assert.assertTrue(percent < 100.0);
+        Assert.assertEquals(100.0, ImageDiff.differencePercent(black, white, Double.POSITIVE_INFINITY), 0.0);
+    }
+
+    @Test
+    public void testDifferenceOfAreas() {
+        BufferedImage actual = image(BufferedImage.TYPE_3BYTE_BGR, 100, 100, 0x000000);
+        BufferedImage expected = image(BufferedImage.TYPE_3BYTE_BGR, 100, 100, 0x000000);
+        for (int x = 0; x < 10; x++) {
+            expected.setRGB(x, 0, 0xffffff);
+            expected.setRGB(x, 99, 0xffffff);
+        }
+        Assert.assertEquals(0.1, ImageDiff.differencePercent(actual, expected, Collections.singletonList(new Rectangle(0, 0, 50, 50))), 1e-9);
+        Assert.assertEquals(0.2, ImageDiff.differencePercent(actual, expected, Arrays.asList(new Rectangle(0, 0, 50, 50), new Rectangle(0, 50, 50, 50))), 1e-9);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDifferentDimensions() {
+        ImageDiff.differencePercent(image(BufferedImage.TYPE_INT_RGB, 10, 10, 0), image(BufferedImage.TYPE_INT_RGB, 10, 11, 0), Double.POSITIVE_INFINITY);
+    }
+
+}
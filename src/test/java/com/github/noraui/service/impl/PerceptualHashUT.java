@@ -0,0 +1,76 @@
+/**
+ * NoraUi is licensed under the license GNU AFFERO GENERAL PUBLIC LICENSE
+ *
+ * @author Nicolas HALLOUIN
+ * @author Stéphane GRILLON
+ */
+package com.github.noraui.service.impl;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class PerceptualHashUT {
+
+    static BufferedImage page(int width, int height, Color block) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_3BYTE_BGR);
+        Graphics2D g = image.createGraphics();
+        g.setColor(Color.WHITE);
+        g.fillRect(0, 0, width, height);
+        g.setColor(Color.DARK_GRAY);
+        for (int y = 20; y < height; y += 40) {
+            g.fillRect(20, y, width / 2, 10);
+        }
+        g.setColor(block);
+        g.fillRect(width * 3 / 4 + 10, height * 3 / 4 + 10, width / 8, height / 8);
+        g.dispose();
+        return image;
+    }
+
+    @Test
+    public void testSameImagesHaveSameHashes() {
+        PerceptualHash hash = PerceptualHash.of(page(400, 300, Color.WHITE));
+        Assert.assertEquals(0, hash.distance(PerceptualHash.of(page(400, 300, Color.WHITE))));
+        Assert.assertTrue(hash.changedTiles(PerceptualHash.of(page(400, 300, Color.WHITE))).isEmpty());
+    }
+
+    @Test
+    public void testChangedTiles() {
+        PerceptualHash expected = PerceptualHash.of(page(400, 300, Color.WHITE));
+        PerceptualHash actual = PerceptualHash.of(page(400, 300, Color.BLACK));
+        List<Rectangle> tiles = actual.changedTiles(expected);
+        Assert.assertEquals(1, tiles.size());
+        Assert.assertEquals(new Rectangle(300, 225, 100, 75), tiles.get(0));
+        Assert.assertTrue(actual.distance(expected) < actual.distance(PerceptualHash.of(new BufferedImage(400, 300, BufferedImage.TYPE_3BYTE_BGR))));
+    }
+
+    @Test
+    public void testDifferentSizes() {
+        PerceptualHash hash = PerceptualHash.of(page(400, 300, Color.WHITE));
+        PerceptualHash other = PerceptualHash.of(page(300, 400, Color.WHITE));
+        Assert.assertEquals(Integer.MAX_VALUE, hash.distance(other));
+        Assert.assertEquals(new Rectangle(0, 0, 400, 300), hash.changedTiles(other).get(0));
+    }
+
+    @Test
+    public void testParse() {
+        PerceptualHash hash = PerceptualHash.of(page(400, 300, Color.BLACK));
+        PerceptualHash parsed = PerceptualHash.parse(hash.toString());
+        Assert.assertEquals(hash.toString(), parsed.toString());
+        Assert.assertEquals(0, hash.distance(parsed));
+        Assert.assertNull(PerceptualHash.parse("400;300;0;0"));
+        Assert.assertNull(PerceptualHash.parse("a;b;c;d;e"));
+    }
+
+    @Test
+    public void testTinyImage() {
+        PerceptualHash hash = PerceptualHash.of(page(3, 2, Color.BLACK));
+        Assert.assertEquals(0, hash.distance(PerceptualHash.of(page(3, 2, Color.BLACK))));
+    }
+
+}
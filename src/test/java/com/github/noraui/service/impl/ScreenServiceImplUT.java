@@ -0,0 +1,83 @@
+/**
+ * NoraUi is licensed under the license GNU AFFERO GENERAL PUBLIC LICENSE
+ *
+ * @author Nicolas HALLOUIN
+ * @author Stéphane GRILLON
+ */
+package com.github.noraui.service.impl;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+
+import javax.imageio.ImageIO;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.slf4j.LoggerFactory;
+
+import com.github.noraui.Constants;
+
+public class ScreenServiceImplUT {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private String userDir;
+
+    @Before
+    public void setUp() throws IOException {
+        ScreenServiceImpl.log = LoggerFactory.getLogger(ScreenServiceImpl.class);
+        VisualIndex.log = LoggerFactory.getLogger(VisualIndex.class);
+        userDir = System.getProperty("user.dir");
+        System.setProperty("user.dir", folder.getRoot().getAbsolutePath());
+        ImageIO.write(PerceptualHashUT.page(400, 300, Color.BLACK), "jpg", new File(folder.newFolder(Constants.EXPECTED_FILES_FOLDER), "landscape.jpg"));
+        ImageIO.write(PerceptualHashUT.page(300, 400, Color.BLACK), "jpg", new File(folder.newFolder(Constants.DOWNLOADED_FILES_FOLDER), "tmp.jpg"));
+    }
+
+    @After
+    public void tearDown() {
+        System.setProperty("user.dir", userDir);
+    }
+
+    @Test
+    public void testNoBaselineOfTheSameSize() throws IOException {
+        Assert.assertNull(new ScreenServiceImpl().getClosestBaseline("tmp"));
+    }
+
+    @Test
+    public void testDifferentScreenshotWithASingleBaselineOfItsSize() throws IOException {
+        final BufferedImage blank = new BufferedImage(400, 300, BufferedImage.TYPE_3BYTE_BGR);
+        final Graphics2D g = blank.createGraphics();
+        g.setColor(Color.WHITE);
+        g.fillRect(0, 0, 400, 300);
+        g.dispose();
+        ImageIO.write(blank, "jpg", new File(folder.getRoot(), Constants.DOWNLOADED_FILES_FOLDER + File.separator + "blank.jpg"));
+        ImageIO.write(PerceptualHashUT.page(400, 300, Color.WHITE), "jpg", new File(folder.getRoot(), Constants.DOWNLOADED_FILES_FOLDER + File.separator + "same.jpg"));
+        final ScreenServiceImpl screenService = new ScreenServiceImpl();
+        // the only baseline of this size is the closest one, the difference tells that a blank page does not look like it
+        Assert.assertEquals("landscape", screenService.getClosestBaseline("blank"));
+        Assert.assertTrue(screenService.getChangedTilesDifferencePercent("blank", "landscape") < 10);
+        Assert.assertTrue(screenService.getHashDifferencePercent("blank", "landscape") > 25);
+        // same page with another block
+        Assert.assertTrue(screenService.getHashDifferencePercent("same", "landscape") < 10);
+        Assert.assertTrue(screenService.getChangedTilesDifferencePercent("same", "landscape") < 10);
+    }
+
+    @Test
+    public void testHashDifferenceOfBaselineOfAnotherSize() throws IOException {
+        Assert.assertEquals(100, new ScreenServiceImpl().getHashDifferencePercent("tmp", "landscape"), 0);
+    }
+
+    @Test
+    public void testChangedTilesOfBaselineOfAnotherSize() throws IOException {
+        Assert.assertEquals(100, new ScreenServiceImpl().getChangedTilesDifferencePercent("tmp", "landscape"), 0);
+    }
+
+}
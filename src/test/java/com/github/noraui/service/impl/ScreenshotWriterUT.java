@@ -0,0 +1,78 @@
+/**
+ * NoraUi is licensed under the license GNU AFFERO GENERAL PUBLIC LICENSE
+ *
+ * @author Nicolas HALLOUIN
+ * @author Stéphane GRILLON
+ */
+package com.github.noraui.service.impl;
+
+import java.awt.Dimension;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+
+import javax.imageio.ImageIO;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.slf4j.LoggerFactory;
+
+public class ScreenshotWriterUT {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private byte[] png;
+
+    @Before
+    public void setUp() throws IOException {
+        ScreenshotWriter.log = LoggerFactory.getLogger(ScreenshotWriter.class);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(200, 100, BufferedImage.TYPE_INT_ARGB), "png", out);
+        png = out.toByteArray();
+    }
+
+    @Test
+    public void testGetPngSize() {
+        Assert.assertEquals(new Dimension(200, 100), ScreenServiceImpl.getPngSize(png));
+        Assert.assertNull(ScreenServiceImpl.getPngSize(new byte[] { 1, 2, 3 }));
+    }
+
+    @Test
+    public void testWriteJpegCropsInBackground() throws IOException {
+        ScreenshotWriter writer = new ScreenshotWriter(1, 4);
+        File cropped = new File(folder.getRoot(), "out/cropped.jpg");
+        File whole = new File(folder.getRoot(), "out/whole.jpg");
+        writer.writeJpeg(png, new Rectangle(10, 20, 50, 30), cropped);
+        writer.writeJpeg(png, new Rectangle(190, 20, 50, 30), whole);
+        Assert.assertEquals(0, writer.flush());
+        Assert.assertEquals(0, writer.getPendingCount());
+        BufferedImage image = ImageIO.read(cropped);
+        Assert.assertEquals(50, image.getWidth());
+        Assert.assertEquals(30, image.getHeight());
+        Assert.assertEquals(200, ImageIO.read(whole).getWidth());
+    }
+
+    @Test
+    public void testBackpressure() {
+        ScreenshotWriter writer = new ScreenshotWriter(1, 1);
+        for (int i = 0; i < 20; i++) {
+            writer.write(png, new File(folder.getRoot(), "raw/" + i + ".png"));
+        }
+        Assert.assertEquals(0, writer.flush());
+        Assert.assertEquals(20, new File(folder.getRoot(), "raw").list().length);
+    }
+
+    @Test
+    public void testFlushReportsErrors() {
+        ScreenshotWriter writer = new ScreenshotWriter(1, 4);
+        writer.writeJpeg(new byte[] { 1, 2, 3 }, null, new File(folder.getRoot(), "broken.jpg"));
+        Assert.assertEquals(1, writer.flush());
+    }
+
+}
@@ -0,0 +1,70 @@
+/**
+ * NoraUi is licensed under the license GNU AFFERO GENERAL PUBLIC LICENSE
+ *
+ * @author Nicolas HALLOUIN
+ * @author Stéphane GRILLON
+ */
+package com.github.noraui.service.impl;
+
+import java.awt.Color;
+import java.io.File;
+import java.io.IOException;
+
+import javax.imageio.ImageIO;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.slf4j.LoggerFactory;
+
+public class VisualIndexUT {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Before
+    public void setUp() throws IOException {
+        VisualIndex.log = LoggerFactory.getLogger(VisualIndex.class);
+        ImageIO.write(PerceptualHashUT.page(400, 300, Color.WHITE), "jpg", folder.newFile("white.jpg"));
+        ImageIO.write(PerceptualHashUT.page(400, 300, Color.BLACK), "jpg", folder.newFile("black.jpg"));
+        ImageIO.write(PerceptualHashUT.page(300, 400, Color.BLACK), "jpg", folder.newFile("portrait.jpg"));
+    }
+
+    @Test
+    public void testClosest() {
+        VisualIndex index = new VisualIndex(folder.getRoot());
+        index.refresh();
+        Assert.assertEquals(3, index.size());
+        Assert.assertEquals("black", index.closest(PerceptualHash.of(PerceptualHashUT.page(400, 300, Color.BLACK))));
+        Assert.assertEquals("white", index.closest(PerceptualHash.of(PerceptualHashUT.page(400, 300, Color.WHITE))));
+        Assert.assertEquals("portrait", index.closest(PerceptualHash.of(PerceptualHashUT.page(300, 400, Color.WHITE))));
+        Assert.assertNull(index.closest(PerceptualHash.of(PerceptualHashUT.page(10, 10, Color.WHITE))));
+    }
+
+    @Test
+    public void testIndexFileIsReloaded() throws IOException {
+        VisualIndex index = new VisualIndex(folder.getRoot());
+        index.refresh();
+        Assert.assertTrue(new File(folder.getRoot(), VisualIndex.INDEX_FILE).isFile());
+        // hashes are read from the index file, not from the screenshots
+        ImageIO.write(PerceptualHashUT.page(400, 300, Color.WHITE), "jpg", new File(folder.getRoot(), "added.jpg"));
+        VisualIndex reloaded = new VisualIndex(folder.getRoot());
+        Assert.assertEquals(3, reloaded.size());
+        Assert.assertEquals(index.get("black").toString(), reloaded.get("black").toString());
+        Assert.assertNotNull(reloaded.get("added"));
+        Assert.assertEquals(4, reloaded.size());
+    }
+
+    @Test
+    public void testDeletedScreenshotsAreForgotten() {
+        VisualIndex index = new VisualIndex(folder.getRoot());
+        index.refresh();
+        Assert.assertTrue(new File(folder.getRoot(), "white.jpg").delete());
+        index.refresh();
+        Assert.assertEquals(2, index.size());
+        Assert.assertNull(index.get("white"));
+    }
+
+}
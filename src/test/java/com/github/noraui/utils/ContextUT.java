@@ -0,0 +1,88 @@
+/**
+ * NoraUi is licensed under the license GNU AFFERO GENERAL PUBLIC LICENSE
+ *
+ * @author Nicolas HALLOUIN
+ * @author Stéphane GRILLON
+ */
+package com.github.noraui.utils;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.github.noraui.browser.Auth;
+import com.github.noraui.data.DataInputProvider;
+
+public class ContextUT {
+
+    private static final String KEY = "ContextUT-key";
+
+    @Before
+    public void setUp() {
+        Context.getInstance().initializeEnv("demoCsv.properties");
+        Context.emptyScenarioRegistry();
+    }
+
+    @After
+    public void tearDown() {
+        Context.stopWorker();
+        Context.emptyScenarioRegistry();
+    }
+
+    @Test
+    public void testWorkerOwnsScenarioState() {
+        Context shared = Context.getInstance();
+        Context.saveValue(KEY, "shared");
+        DataInputProvider sharedDataInputProvider = Context.getDataInputProvider();
+        Context worker = Context.startWorker();
+        Assert.assertNotSame(shared, worker);
+        Assert.assertSame(worker, Context.getInstance());
+        Assert.assertNull(Context.getValue(KEY));
+        Assert.assertEquals(0, Context.getCurrentScenarioData());
+        Assert.assertNotSame(sharedDataInputProvider, Context.getDataInputProvider());
+        Assert.assertSame(sharedDataInputProvider.getClass(), Context.getDataInputProvider().getClass());
+        Context.saveValue(KEY, "worker");
+        Context.stopWorker();
+        Assert.assertSame(shared, Context.getInstance());
+        Assert.assertEquals("shared", Context.getValue(KEY));
+    }
+
+    @Test
+    public void testWorkerSharesConfiguration() {
+        Auth.setAuthenticationType(Auth.authenticationTypes.BASIC.toString());
+        Locale locale = Context.getLocale();
+        String modelPackages = Context.getModelPackages();
+        Context.startWorker();
+        Assert.assertEquals(Auth.authenticationTypes.BASIC.toString(), Auth.getAuthenticationType());
+        Assert.assertSame(locale, Context.getLocale());
+        Assert.assertSame(modelPackages, Context.getModelPackages());
+        Auth.setConnected(true);
+        Context.stopWorker();
+        Assert.assertFalse(Auth.isConnected());
+        Auth.clear();
+    }
+
+    @Test
+    public void testWorkersAreThreadConfined() throws InterruptedException {
+        Context.saveValue(KEY, "main");
+        AtomicReference<String> workerValue = new AtomicReference<>();
+        Thread thread = new Thread(() -> {
+            Context.startWorker();
+            try {
+                Context.saveValue(KEY, "thread");
+                workerValue.set(Context.getValue(KEY));
+            } finally {
+                Context.stopWorker();
+            }
+        });
+        thread.start();
+        thread.join();
+        Assert.assertEquals("thread", workerValue.get());
+        Assert.assertEquals("main", Context.getValue(KEY));
+    }
+
+}
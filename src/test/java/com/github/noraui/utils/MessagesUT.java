@@ -0,0 +1,75 @@
+/**
+ * NoraUi is licensed under the license GNU AFFERO GENERAL PUBLIC LICENSE
+ *
+ * @author Nicolas HALLOUIN
+ * @author Stéphane GRILLON
+ */
+package com.github.noraui.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.MissingResourceException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.github.noraui.exception.TechnicalException;
+
+public class MessagesUT {
+
+    @Test
+    public void testCountPlaceholders() {
+        Assert.assertEquals(0, Messages.countPlaceholders("no placeholder, 100%"));
+        Assert.assertEquals(2, Messages.countPlaceholders("Typing « %s » in %s."));
+        Assert.assertEquals(2, Messages.countPlaceholders(Messages.getMessage(Messages.FAIL_MESSAGE_ERROR_ON_INPUT)));
+        Assert.assertEquals(3, Messages.countPlaceholders(Messages.getMessage(Messages.FAIL_MESSAGE_WRONG_EXPECTED_VALUE)));
+    }
+
+    @Test
+    public void testTemplatesCacheIsBounded() {
+        Assert.assertEquals(1, Messages.countPlaceholders("cached template %s"));
+        Assert.assertEquals(Integer.valueOf(1), Messages.TEMPLATES.get("cached template %s"));
+        for (int i = 0; i < Messages.MAX_TEMPLATES + 10; i++) {
+            Assert.assertEquals(2, Messages.countPlaceholders("template " + i + " %s %s"));
+        }
+        Assert.assertTrue(Messages.TEMPLATES.size() <= Messages.MAX_TEMPLATES);
+        Assert.assertEquals(2, Messages.countPlaceholders("template " + (Messages.MAX_TEMPLATES + 20) + " %s %s"));
+    }
+
+    @Test
+    public void testFormat() throws TechnicalException {
+        Assert.assertEquals("a - b", Messages.format("%s - %s", "a", "b"));
+    }
+
+    @Test(expected = TechnicalException.class)
+    public void testFormatWithWrongNumberOfArguments() throws TechnicalException {
+        Messages.format("%s - %s", "a");
+    }
+
+    @Test(expected = MissingResourceException.class)
+    public void testUnknownKey() {
+        Messages.getMessage("UNKNOWN_MESSAGE_KEY");
+    }
+
+    @Test
+    public void testConcurrentAccess() throws Exception {
+        String expected = Messages.getMessage(Messages.FAIL_MESSAGE_UNABLE_TO_FIND_ELEMENT);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Callable<String>> tasks = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                tasks.add(() -> Messages.getMessage(Messages.FAIL_MESSAGE_UNABLE_TO_FIND_ELEMENT));
+            }
+            for (Future<String> message : executor.invokeAll(tasks)) {
+                Assert.assertEquals(expected, message.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+}
@@ -0,0 +1,105 @@
+/**
+ * NoraUi is licensed under the license GNU AFFERO GENERAL PUBLIC LICENSE
+ *
+ * @author Nicolas HALLOUIN
+ * @author Stéphane GRILLON
+ */
+package com.github.noraui.utils;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.slf4j.LoggerFactory;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+public class StartupProfilerUT {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Before
+    public void setUp() {
+        StartupProfiler.log = LoggerFactory.getLogger(StartupProfiler.class);
+        StartupProfiler.reset();
+    }
+
+    @After
+    public void tearDown() {
+        System.clearProperty(StartupProfiler.TRACE_PROPERTY);
+        StartupProfiler.reset();
+    }
+
+    @Test
+    public void testNestedPhases() throws InterruptedException {
+        try (StartupProfiler.Phase phase = StartupProfiler.start("outer")) {
+            try (StartupProfiler.Phase inner = StartupProfiler.start("inner")) {
+                Thread.sleep(5);
+            }
+        }
+        List<StartupProfiler.Record> records = StartupProfiler.getRecords();
+        Assert.assertEquals(2, records.size());
+        Assert.assertEquals("inner", records.get(0).getName());
+        Assert.assertEquals(1, records.get(0).getDepth());
+        Assert.assertEquals("outer", records.get(1).getName());
+        Assert.assertEquals(0, records.get(1).getDepth());
+        Assert.assertTrue(records.get(0).getDurationMillis() >= 5);
+        Assert.assertTrue(records.get(1).getDuration() >= records.get(0).getDuration());
+    }
+
+    @Test
+    public void testAllocatedBytes() {
+        byte[][] garbage = new byte[16][];
+        try (StartupProfiler.Phase phase = StartupProfiler.start("allocation")) {
+            for (int i = 0; i < garbage.length; i++) {
+                garbage[i] = new byte[64 * 1024];
+            }
+        }
+        long allocated = StartupProfiler.getRecords().get(0).getAllocatedBytes();
+        Assert.assertTrue(allocated == -1 || allocated >= 16 * 64 * 1024);
+    }
+
+    @Test
+    public void testRecordsAreBounded() {
+        for (int i = 0; i < StartupProfiler.MAX_RECORDS + 10; i++) {
+            StartupProfiler.start("phase " + i).close();
+        }
+        List<StartupProfiler.Record> records = StartupProfiler.getRecords();
+        Assert.assertEquals(StartupProfiler.MAX_RECORDS, records.size());
+        Assert.assertEquals("phase " + (StartupProfiler.MAX_RECORDS - 1), records.get(records.size() - 1).getName());
+        StartupProfiler.reset();
+        StartupProfiler.start("after reset").close();
+        Assert.assertEquals(1, StartupProfiler.getRecords().size());
+    }
+
+    @Test
+    public void testReportWritesChromeTrace() throws IOException {
+        File trace = new File(folder.getRoot(), "trace/startup.json");
+        System.setProperty(StartupProfiler.TRACE_PROPERTY, trace.getAbsolutePath());
+        try (StartupProfiler.Phase phase = StartupProfiler.start("Context.initializeEnv")) {
+            StartupProfiler.start("plugDataProvider").close();
+        }
+        StartupProfiler.report();
+        JsonObject json = new JsonParser().parse(new String(Files.readAllBytes(trace.toPath()), StandardCharsets.UTF_8)).getAsJsonObject();
+        JsonArray events = json.getAsJsonArray("traceEvents");
+        Assert.assertEquals(2, events.size());
+        JsonObject event = events.get(0).getAsJsonObject();
+        Assert.assertEquals("plugDataProvider", event.get("name").getAsString());
+        Assert.assertEquals("X", event.get("ph").getAsString());
+        Assert.assertTrue(event.has("ts"));
+        Assert.assertTrue(event.has("dur"));
+        Assert.assertTrue(event.getAsJsonObject("args").has("allocatedBytes"));
+    }
+
+}
@@ -6,18 +6,24 @@
  */
 package com.github.noraui.utils;
 
+import java.util.Arrays;
 import java.util.HashMap;
 
 import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.Mockito;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
 
 import com.github.noraui.Runner;
 import com.github.noraui.application.page.bakery.DemoPage;
 import com.github.noraui.cucumber.injector.NoraUiInjector;
 import com.github.noraui.cucumber.injector.NoraUiInjectorSource;
 import com.github.noraui.exception.TechnicalException;
+import com.github.noraui.selenium.ScriptConditions;
 import com.google.inject.Inject;
 
 public class UtilitiesUT {
@@ -47,4 +53,38 @@ public class UtilitiesUT {
         Assert.assertEquals("OK", ".//input[@name='%%Surrogate_LstPrestComp']/following-sibling::label[1]/input", value);
     }
 
+    @Test
+    public void testGetLocator() {
+        // prepare mock
+        Context.iniFiles = new HashMap<>();
+        Context.initApplicationDom(Runner.class.getClassLoader(), "V1", this.demoPage.getApplication());
+
+        // run test
+        By locator = Utilities.getLocator(this.demoPage.bigTitle);
+        Assert.assertEquals(By.id("big_title"), locator);
+        Assert.assertSame("locator without format specifier is built once", locator, Utilities.getLocator(this.demoPage.bigTitle));
+        Assert.assertEquals(By.xpath(".//input[@name='%%Surrogate_LstPrestComp']/following-sibling::label[2]/input"),
+                Utilities.getLocator(this.demoPage.xpathContainPercentChar, 2));
+        Assert.assertEquals(By.name("rate"), Utilities.getLocator(this.demoPage.rateRadio));
+
+        // type and selector of the selectors file are kept for the conditions evaluated by script
+        final WebDriver driver = Mockito.mock(WebDriver.class, Mockito.withSettings().extraInterfaces(JavascriptExecutor.class));
+        Assert.assertTrue(ScriptConditions.isSupported(driver, locator, Utilities.getLocator(this.demoPage.xpathContainPercentChar, 2)));
+    }
+
+    @Test
+    public void testSelectorsFileIsParsedOnFirstUse() {
+        // prepare mock
+        Context.iniFiles = new HashMap<>();
+        Context.initApplicationDom(Runner.class.getClassLoader(), "V1", this.demoPage.getApplication());
+        Assert.assertFalse(Context.iniFiles.containsKey(this.demoPage.getApplication()));
+        Assert.assertNull(Context.getIniFile("unknown"));
+
+        // run test
+        Context.prewarmApplicationDoms(Arrays.asList("@" + this.demoPage.getApplication(), "@unknown"));
+        Assert.assertEquals(By.id("big_title"), Utilities.getLocator(this.demoPage.bigTitle));
+        Assert.assertTrue(Context.iniFiles.containsKey(this.demoPage.getApplication()));
+        Assert.assertSame(Context.iniFiles.get(this.demoPage.getApplication()), Context.getIniFile(this.demoPage.getApplication()));
+    }
+
 }